@@ -0,0 +1,177 @@
+package io.mongockito;
+
+import static io.mongockito.Operation.recoverFieldsFromQueryAndUpdate;
+import static io.mongockito.util.document.DocumentConverter.toDocument;
+import static org.mockito.Mockito.mockingDetails;
+
+import io.mongockito.util.json.model.SerializationContext;
+import java.util.List;
+import java.util.stream.Stream;
+import org.bson.Document;
+import org.mockito.invocation.Invocation;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.UpdateDefinition;
+import org.springframework.data.util.Pair;
+
+public enum BulkOperation {
+	INSERT("insert", true) {
+		@Override
+		Stream<?> obtainItems(final Invocation invocation) {
+
+			return obtainArgumentItems(invocation);
+		}
+
+		@Override
+		Document convertItem(final Object item, final SerializationContext serializationContext) {
+
+			return toDocument(item, serializationContext);
+		}
+	},
+
+	REPLACE_ONE("replaceOne", true) {
+		@Override
+		Stream<?> obtainItems(final Invocation invocation) {
+
+			final Object replacement = invocation.getArgument(1);
+
+			return Stream.of(replacement);
+		}
+
+		@Override
+		Document convertItem(final Object item, final SerializationContext serializationContext) {
+
+			return toDocument(item, serializationContext);
+		}
+	},
+
+	UPDATE_ONE("updateOne", false) {
+		@Override
+		Stream<?> obtainItems(final Invocation invocation) {
+
+			return obtainQueryAndUpdateItems(invocation);
+		}
+
+		@Override
+		Document convertItem(final Object item, final SerializationContext serializationContext) {
+
+			return toQueryAndUpdateDocument(item);
+		}
+	},
+
+	UPDATE_MULTI("updateMulti", false) {
+		@Override
+		Stream<?> obtainItems(final Invocation invocation) {
+
+			return obtainQueryAndUpdateItems(invocation);
+		}
+
+		@Override
+		Document convertItem(final Object item, final SerializationContext serializationContext) {
+
+			return toQueryAndUpdateDocument(item);
+		}
+	},
+
+	UPSERT("upsert", false) {
+		@Override
+		Stream<?> obtainItems(final Invocation invocation) {
+
+			return obtainQueryAndUpdateItems(invocation);
+		}
+
+		@Override
+		Document convertItem(final Object item, final SerializationContext serializationContext) {
+
+			return toQueryAndUpdateDocument(item);
+		}
+	},
+
+	REMOVE("remove", false) {
+		@Override
+		Stream<?> obtainItems(final Invocation invocation) {
+
+			return obtainArgumentItems(invocation);
+		}
+
+		@Override
+		Document convertItem(final Object item, final SerializationContext serializationContext) {
+
+			return ((Query) item).getQueryObject();
+		}
+	};
+
+	private final String methodName;
+	private final boolean entityItems;
+
+	BulkOperation(final String methodName, final boolean entityItems) {
+
+		this.methodName = methodName;
+		this.entityItems = entityItems;
+	}
+
+	/**
+	 * Returns one document per item queued on the bulk mock with this operation, in the order they were added. Items
+	 * added one by one and items added as a list are flattened into the same batch. When a class is given, inserted
+	 * entities and replacements that are not instances of it fail the verification.
+	 */
+	public List<Document> execute(final BulkOperations bulkOperations,
+								  final Class<?> clazz,
+								  final SerializationContext serializationContext) {
+
+		final List<?> items = mockingDetails(bulkOperations).getInvocations().stream()
+			.filter(invocation -> this.methodName.equals(invocation.getMethod().getName()))
+			.flatMap(this::obtainItems)
+			.toList();
+
+		if (this.entityItems && clazz != null) {
+			CapturedDocuments.checkBatchElements(items, clazz);
+		}
+
+		return items.stream()
+			.map(item -> this.convertItem(item, serializationContext))
+			.toList();
+	}
+
+	public List<Document> execute(final BulkOperations bulkOperations, final SerializationContext serializationContext) {
+
+		return this.execute(bulkOperations, null, serializationContext);
+	}
+
+	public List<Document> execute(final BulkOperations bulkOperations) {
+
+		return this.execute(bulkOperations, SerializationContext.DEFAULT);
+	}
+
+	abstract Stream<?> obtainItems(Invocation invocation);
+
+	abstract Document convertItem(Object item, SerializationContext serializationContext);
+
+	private static Stream<?> obtainArgumentItems(final Invocation invocation) {
+
+		final Object argument = invocation.getArgument(0);
+
+		if (List.class.equals(invocation.getMethod().getParameterTypes()[0])) {
+			return ((List<?>) argument).stream();
+		}
+
+		return Stream.of(argument);
+	}
+
+	private static Stream<?> obtainQueryAndUpdateItems(final Invocation invocation) {
+
+		if (invocation.getArguments().length == 2) {
+			return Stream.of(Pair.of(invocation.getArgument(0), invocation.getArgument(1)));
+		}
+
+		return obtainArgumentItems(invocation);
+	}
+
+	private static Document toQueryAndUpdateDocument(final Object item) {
+
+		final Pair<?, ?> pair = (Pair<?, ?>) item;
+
+		return recoverFieldsFromQueryAndUpdate((Query) pair.getFirst(), (UpdateDefinition) pair.getSecond());
+	}
+
+}
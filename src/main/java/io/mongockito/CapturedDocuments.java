@@ -0,0 +1,241 @@
+package io.mongockito;
+
+import static io.mongockito.Operation.recoverFieldsFromQueryAndUpdate;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import io.mongockito.model.CapturedInvocation;
+import io.mongockito.model.CapturedReplacement;
+import io.mongockito.model.CapturedUpdate;
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import org.bson.Document;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.UpdateDefinition;
+
+/**
+ * Read-only view over the values captured on every verified invocation. Each document is built from its captured
+ * arguments the first time it is read and kept for later reads, so validating a single invocation does not convert the
+ * others and checks reading the same invocation convert it once.
+ */
+final class CapturedDocuments extends AbstractList<Document> implements RandomAccess {
+
+	private static final String NO_CAPTURED_VALUE = "No argument value was captured";
+	private static final String UNEXPECTED_BATCH_ELEMENT = "Batch element %d of type %s is not an instance of %s";
+
+	private final int size;
+	private final IntFunction<Document> documentFactory;
+	private final IntFunction<Query> queryFactory;
+	private final IntFunction<CapturedUpdate> updateFactory;
+	private final IntFunction<CapturedReplacement> replacementFactory;
+	private final Document[] documents;
+
+	private CapturedDocuments(final int size,
+							  final IntFunction<Document> documentFactory,
+							  final IntFunction<Query> queryFactory,
+							  final IntFunction<CapturedUpdate> updateFactory,
+							  final IntFunction<CapturedReplacement> replacementFactory) {
+
+		this.size = size;
+		this.documentFactory = documentFactory;
+		this.queryFactory = queryFactory;
+		this.updateFactory = updateFactory;
+		this.replacementFactory = replacementFactory;
+		this.documents = new Document[size];
+	}
+
+	private CapturedDocuments(final int size,
+							  final IntFunction<Document> documentFactory,
+							  final IntFunction<Query> queryFactory,
+							  final IntFunction<CapturedUpdate> updateFactory) {
+
+		this(size, documentFactory, queryFactory, updateFactory, index -> null);
+	}
+
+	private CapturedDocuments(final int size,
+							  final IntFunction<Document> documentFactory,
+							  final IntFunction<Query> queryFactory) {
+
+		this(size, documentFactory, queryFactory, index -> null);
+	}
+
+	private CapturedDocuments(final int size, final IntFunction<Document> documentFactory) {
+
+		this(size, documentFactory, index -> null);
+	}
+
+	static <T> List<Document> of(final ArgumentCaptor<T> captor, final Function<? super T, Document> converter) {
+
+		return of(captor.getAllValues(), converter);
+	}
+
+	static <T> List<Document> of(final List<T> values, final Function<? super T, Document> converter) {
+
+		return new CapturedDocuments(values.size(), index -> converter.apply(values.get(index)));
+	}
+
+	/**
+	 * Exposes the filter of every captured query while keeping the queries, so sort, projection, limit and cursor
+	 * options can be validated too.
+	 */
+	static List<Document> ofQueries(final ArgumentCaptor<Query> queryCaptor) {
+
+		final List<Query> queries = queryCaptor.getAllValues();
+
+		return new CapturedDocuments(queries.size(), index -> queries.get(index).getQueryObject(), queries::get);
+	}
+
+	/**
+	 * Keeps the captured queries and replacements next to the documents built by the factory, so the filter is
+	 * validated apart from the replacement fields.
+	 */
+	static List<Document> ofReplacements(final List<Query> queries,
+										 final IntFunction<Document> documentFactory,
+										 final IntFunction<CapturedReplacement> replacementFactory) {
+
+		return new CapturedDocuments(queries.size(), documentFactory, queries::get, index -> null, replacementFactory);
+	}
+
+	static List<Document> of(final ArgumentCaptor<Query> queryCaptor,
+							 final ArgumentCaptor<? extends UpdateDefinition> updateCaptor) {
+
+		return ofUpdates(queryCaptor, updateCaptor, index -> false);
+	}
+
+	static List<Document> ofUpserts(final ArgumentCaptor<Query> queryCaptor,
+									final ArgumentCaptor<? extends UpdateDefinition> updateCaptor) {
+
+		return ofUpdates(queryCaptor, updateCaptor, index -> true);
+	}
+
+	private static List<Document> ofUpdates(final ArgumentCaptor<Query> queryCaptor,
+											final ArgumentCaptor<? extends UpdateDefinition> updateCaptor,
+											final IntPredicate upsert) {
+
+		final List<Query> queries = queryCaptor.getAllValues();
+		final List<? extends UpdateDefinition> updates = updateCaptor.getAllValues();
+
+		return ofUpdates(queries,
+						 updates,
+						 upsert,
+						 index -> recoverFieldsFromQueryAndUpdate(queries.get(index), updates.get(index)));
+	}
+
+	/**
+	 * Keeps the captured queries and updates next to the documents built by the factory, so filter, update operators,
+	 * array filters and upsert flag can be validated apart and the updates applied to a before-image.
+	 */
+	static List<Document> ofUpdates(final List<Query> queries,
+									final List<? extends UpdateDefinition> updates,
+									final IntPredicate upsert,
+									final IntFunction<Document> documentFactory) {
+
+		return new CapturedDocuments(queries.size(),
+									 documentFactory,
+									 queries::get,
+									 index -> new CapturedUpdate(queries.get(index), updates.get(index), upsert.test(index)));
+	}
+
+	/**
+	 * Flattens the elements of every captured batch, failing when one of them is not an instance of the given class so
+	 * the count and validations never run on a partial payload. Only references are copied, elements are converted when
+	 * read.
+	 */
+	static List<Document> ofBatches(final ArgumentCaptor<Collection<Object>> batchCaptor,
+									final Class<?> clazz,
+									final Function<Object, Document> converter) {
+
+		final List<Object> elements = batchCaptor.getAllValues().stream()
+			.flatMap(Collection::stream)
+			.toList();
+
+		checkBatchElements(elements, clazz);
+
+		return new CapturedDocuments(elements.size(), index -> converter.apply(elements.get(index)));
+	}
+
+	/**
+	 * Fails on the first batch element that is not an instance of the given class.
+	 */
+	static void checkBatchElements(final List<?> elements, final Class<?> clazz) {
+
+		for (int index = 0; index < elements.size(); index++) {
+			final Object element = elements.get(index);
+			if (!clazz.isInstance(element)) {
+				fail(String.format(UNEXPECTED_BATCH_ELEMENT, index, element == null ? null : element.getClass().getName(),
+								   clazz.getName()));
+			}
+		}
+	}
+
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	static ArgumentCaptor<Collection<Object>> batchCaptor() {
+
+		return (ArgumentCaptor) ArgumentCaptor.forClass(Collection.class);
+	}
+
+	/**
+	 * Returns the last document, {@code null} when nothing was captured, e.g. when verifying with {@code never()}.
+	 */
+	static Document last(final List<Document> documents) {
+
+		return documents.isEmpty() ? null : documents.get(documents.size() - 1);
+	}
+
+	static CapturedInvocation lastInvocation(final List<Document> documents) {
+
+		assertFalse(documents.isEmpty(), NO_CAPTURED_VALUE);
+
+		return invocation(documents, documents.size() - 1);
+	}
+
+	/**
+	 * Returns the document at the given position together with its captured query, update and replacement, when the
+	 * list keeps them.
+	 */
+	static CapturedInvocation invocation(final List<Document> documents, final int index) {
+
+		if (documents instanceof final CapturedDocuments capturedDocuments) {
+			return new CapturedInvocation(capturedDocuments.get(index),
+										  capturedDocuments.queryFactory.apply(index),
+										  capturedDocuments.updateFactory.apply(index),
+										  capturedDocuments.replacementFactory.apply(index));
+		}
+
+		return new CapturedInvocation(documents.get(index), null);
+	}
+
+	@Override
+	public Document get(final int index) {
+
+		final int position = this.checkIndex(index);
+
+		if (this.documents[position] == null) {
+			this.documents[position] = this.documentFactory.apply(position);
+		}
+
+		return this.documents[position];
+	}
+
+	@Override
+	public int size() {
+
+		return this.size;
+	}
+
+	private int checkIndex(final int index) {
+
+		if (index < 0 || index >= this.size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size);
+		}
+
+		return index;
+	}
+
+}
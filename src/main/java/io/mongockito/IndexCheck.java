@@ -0,0 +1,32 @@
+package io.mongockito;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.lang.System.Logger;
+import java.lang.System.Logger.Level;
+
+/**
+ * What to do when a captured query cannot be served by the indexes declared on the verified class.
+ */
+public enum IndexCheck {
+	FAIL {
+		@Override
+		void report(final String message) {
+
+			fail(message);
+		}
+	},
+
+	WARN {
+		@Override
+		void report(final String message) {
+
+			LOGGER.log(Level.WARNING, message);
+		}
+	};
+
+	private static final Logger LOGGER = System.getLogger(IndexCheck.class.getName());
+
+	abstract void report(String message);
+
+}
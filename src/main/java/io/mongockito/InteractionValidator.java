@@ -0,0 +1,53 @@
+package io.mongockito;
+
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.mockito.Mockito.mockingDetails;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.experimental.UtilityClass;
+import org.mockito.invocation.Invocation;
+
+@UtilityClass
+class InteractionValidator {
+
+	private static final String UNEXPECTED_INTERACTIONS = "Unexpected interactions on the template:%n%s";
+	// accessors that never reach the database, the verification itself may call them
+	private static final Set<String> LOCAL_METHODS = Set.of("getConverter", "getCollectionName");
+
+	/**
+	 * Fails when any database operation was called on the template.
+	 */
+	static void validateNoInteractions(final Object template) {
+
+		validate(obtainDatabaseInvocations(template));
+	}
+
+	/**
+	 * Fails when a database operation was called on the template and not checked by a previous verification.
+	 */
+	static void validateNoMoreInteractions(final Object template) {
+
+		validate(obtainDatabaseInvocations(template).stream()
+					 .filter(invocation -> !invocation.isVerified())
+					 .toList());
+	}
+
+	private static List<Invocation> obtainDatabaseInvocations(final Object template) {
+
+		return mockingDetails(template).getInvocations().stream()
+			.filter(invocation -> !LOCAL_METHODS.contains(invocation.getMethod().getName()))
+			.toList();
+	}
+
+	private static void validate(final List<Invocation> unexpected) {
+
+		if (!unexpected.isEmpty()) {
+			fail(String.format(UNEXPECTED_INTERACTIONS, unexpected.stream()
+				.map(invocation -> invocation + " " + invocation.getLocation())
+				.collect(Collectors.joining(System.lineSeparator()))));
+		}
+	}
+
+}
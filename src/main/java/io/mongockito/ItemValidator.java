@@ -0,0 +1,135 @@
+package io.mongockito;
+
+import static org.junit.jupiter.api.AssertionFailureBuilder.assertionFailure;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import io.mongockito.model.CapturedInvocation;
+import io.mongockito.model.ValidateField;
+import io.mongockito.model.ValidateItemField;
+import io.mongockito.util.json.model.SerializationContext;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import lombok.experimental.UtilityClass;
+import org.bson.Document;
+
+@UtilityClass
+class ItemValidator {
+
+	private static final String MISSING_ITEM = "No captured item at index %d, captured items: %d";
+	private static final String ITEM_FAILURE = "Validation failed on item %d";
+	private static final String MATCHING_ITEM = "Item %d matches every validation but no such item was expected";
+	private static final String REPEATED_ITEM = "Item %d repeats item %d";
+
+	/**
+	 * Applies every validation to the captured items, walking the items once with validation plans compiled once for
+	 * every item and once per indexed item. Items without any validation are not read. A failure reports the position
+	 * of the offending item.
+	 */
+	static void validate(final List<Document> documents,
+						 final List<ValidateItemField> fields,
+						 final SerializationContext serializationContext) {
+
+		fields.stream()
+			.filter(field -> !field.isEveryItem())
+			.forEach(field -> assertTrue(field.getIndex() < documents.size(),
+										 String.format(MISSING_ITEM, field.getIndex(), documents.size())));
+
+		final ValidationPlan everyItemPlan = compile(fields, ValidateItemField::isEveryItem, serializationContext, true);
+		final Set<Integer> indexedItems = fields.stream()
+			.filter(field -> !field.isEveryItem())
+			.map(ValidateItemField::getIndex)
+			.collect(Collectors.toCollection(TreeSet::new));
+
+		// without every-item validations only the indexed items are read, the others are never converted
+		final Iterable<Integer> validatedItems = everyItemPlan.isEmpty()
+												 ? indexedItems
+												 : IntStream.range(0, documents.size()).boxed()::iterator;
+
+		for (final Integer index : validatedItems) {
+			final ValidationPlan plan = indexedItems.contains(index)
+										? compile(fields,
+												  field -> field.isEveryItem() || index.equals(field.getIndex()),
+												  serializationContext,
+												  false)
+										: everyItemPlan;
+
+			if (!plan.isEmpty()) {
+				validate(index, CapturedDocuments.invocation(documents, index), plan, serializationContext);
+			}
+		}
+	}
+
+	/**
+	 * Fails on the first item passing every validation, an item failing one of them is accepted.
+	 */
+	static void validateNoMatch(final List<Document> documents,
+								final List<ValidateItemField> fields,
+								final SerializationContext serializationContext) {
+
+		final ValidationPlan plan = compile(fields, field -> true, serializationContext, true);
+
+		for (int index = 0; index < documents.size(); index++) {
+			if (plan.passes(CapturedDocuments.invocation(documents, index), serializationContext)) {
+				fail(String.format(MATCHING_ITEM, index));
+			}
+		}
+	}
+
+	/**
+	 * Fails on the first item equal to a previous one, reading every item once.
+	 */
+	static void validateDistinct(final List<Document> documents) {
+
+		final Map<Document, Integer> firstPositions = new HashMap<>();
+
+		for (int index = 0; index < documents.size(); index++) {
+			final Integer previous = firstPositions.putIfAbsent(documents.get(index), index);
+
+			if (previous != null) {
+				fail(String.format(REPEATED_ITEM, index, previous));
+			}
+		}
+	}
+
+	private static ValidationPlan compile(final List<ValidateItemField> fields,
+										  final Predicate<ValidateItemField> filter,
+										  final SerializationContext serializationContext,
+										  final boolean sharedByItems) {
+
+		final List<ValidateField> selected = fields.stream()
+			.filter(filter)
+			.map(field -> ValidateField.builder()
+				.validationType(field.getValidationType())
+				.field(field.getField())
+				.build())
+			.toList();
+
+		return sharedByItems
+			   ? ValidationPlan.compileForItems(selected, serializationContext)
+			   : ValidationPlan.compile(selected, serializationContext);
+	}
+
+	private static void validate(final int index,
+								 final CapturedInvocation invocation,
+								 final ValidationPlan plan,
+								 final SerializationContext serializationContext) {
+
+		try {
+			plan.validate(invocation, serializationContext);
+		} catch (final AssertionError error) {
+			assertionFailure()
+				.message(String.format(ITEM_FAILURE, index))
+				.reason(error.getMessage())
+				.cause(error)
+				.buildAndThrow();
+		}
+	}
+
+}
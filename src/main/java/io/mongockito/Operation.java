@@ -1,204 +1,856 @@
 package io.mongockito;
 
-import static io.mongockito.util.json.JsonTool.gsonBuilder;
+import static io.mongockito.util.document.DocumentConverter.toDocument;
+import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
 import static org.mockito.Mockito.verify;
 
+import io.mongockito.model.CapturedReplacement;
+import io.mongockito.util.document.AggregationUtility;
+import io.mongockito.util.json.model.SerializationContext;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 import org.bson.Document;
 import org.mockito.ArgumentCaptor;
+import org.mockito.invocation.Invocation;
 import org.mockito.verification.VerificationMode;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.TypedAggregation;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.mongodb.core.query.UpdateDefinition;
 
 public enum Operation {
 	FIND {
 		@Override
-		public Document execute(final MongoTemplate mongoTemplate, final Class<?> clazz, final VerificationMode verificationMode) {
+		public List<Document> executeAll(final MongoTemplate mongoTemplate,
+										 final Class<?> clazz,
+										 final VerificationMode verificationMode,
+										 final SerializationContext serializationContext) {
 
+			final ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
 			verify(mongoTemplate, verificationMode).find(queryCaptor.capture(), eq(clazz));
-			return queryCaptor.getValue().getQueryObject();
+			return CapturedDocuments.ofQueries(queryCaptor);
 		}
 
 		@Override
-		public Document execute(final MongoTemplate mongoTemplate,
-								final Class<?> clazz,
-								final VerificationMode verificationMode,
-								final String collectionName) {
+		public List<Document> executeAll(final MongoTemplate mongoTemplate,
+										 final Class<?> clazz,
+										 final VerificationMode verificationMode,
+										 final String collectionName,
+										 final SerializationContext serializationContext) {
 
+			final ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
 			verify(mongoTemplate, verificationMode).find(queryCaptor.capture(), eq(clazz), eq(collectionName));
-			return queryCaptor.getValue().getQueryObject();
+			return CapturedDocuments.ofQueries(queryCaptor);
 		}
 	},
 
 	FIND_ONE {
 		@Override
-		public Document execute(final MongoTemplate mongoTemplate, final Class<?> clazz, final VerificationMode verificationMode) {
+		public List<Document> executeAll(final MongoTemplate mongoTemplate,
+										 final Class<?> clazz,
+										 final VerificationMode verificationMode,
+										 final SerializationContext serializationContext) {
 
+			final ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
 			verify(mongoTemplate, verificationMode).findOne(queryCaptor.capture(), eq(clazz));
-			return queryCaptor.getValue().getQueryObject();
+			return CapturedDocuments.ofQueries(queryCaptor);
 		}
 
 		@Override
-		public Document execute(final MongoTemplate mongoTemplate,
-								final Class<?> clazz,
-								final VerificationMode verificationMode,
-								final String collectionName) {
+		public List<Document> executeAll(final MongoTemplate mongoTemplate,
+										 final Class<?> clazz,
+										 final VerificationMode verificationMode,
+										 final String collectionName,
+										 final SerializationContext serializationContext) {
 
+			final ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
 			verify(mongoTemplate, verificationMode).findOne(queryCaptor.capture(), eq(clazz), eq(collectionName));
-			return queryCaptor.getValue().getQueryObject();
+			return CapturedDocuments.ofQueries(queryCaptor);
 		}
 	},
 
 	FIND_BY_ID {
 		@Override
-		public Document execute(final MongoTemplate mongoTemplate, final Class<?> clazz, final VerificationMode verificationMode) {
+		public List<Document> executeAll(final MongoTemplate mongoTemplate,
+										 final Class<?> clazz,
+										 final VerificationMode verificationMode,
+										 final SerializationContext serializationContext) {
 
+			final ArgumentCaptor<String> stringCaptor = ArgumentCaptor.forClass(String.class);
 			verify(mongoTemplate, verificationMode).findById(stringCaptor.capture(), eq(clazz));
-			return new Document(DEFAULT_KEY_ID, stringCaptor.getValue());
+			return CapturedDocuments.of(stringCaptor, id -> new Document(DEFAULT_KEY_ID, id));
 		}
 
 		@Override
-		public Document execute(final MongoTemplate mongoTemplate,
-								final Class<?> clazz,
-								final VerificationMode verificationMode,
-								final String collectionName) {
+		public List<Document> executeAll(final MongoTemplate mongoTemplate,
+										 final Class<?> clazz,
+										 final VerificationMode verificationMode,
+										 final String collectionName,
+										 final SerializationContext serializationContext) {
 
+			final ArgumentCaptor<String> stringCaptor = ArgumentCaptor.forClass(String.class);
 			verify(mongoTemplate, verificationMode).findById(stringCaptor.capture(), eq(clazz), eq(collectionName));
-			return new Document(DEFAULT_KEY_ID, stringCaptor.getValue());
+			return CapturedDocuments.of(stringCaptor, id -> new Document(DEFAULT_KEY_ID, id));
 		}
 	},
 
 	FIND_AND_REMOVE {
 		@Override
-		public Document execute(final MongoTemplate mongoTemplate, final Class<?> clazz, final VerificationMode verificationMode) {
+		public List<Document> executeAll(final MongoTemplate mongoTemplate,
+										 final Class<?> clazz,
+										 final VerificationMode verificationMode,
+										 final SerializationContext serializationContext) {
 
+			final ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
 			verify(mongoTemplate, verificationMode).findAndRemove(queryCaptor.capture(), eq(clazz));
-			return queryCaptor.getValue().getQueryObject();
+			return CapturedDocuments.ofQueries(queryCaptor);
 		}
 
 		@Override
-		public Document execute(final MongoTemplate mongoTemplate,
-								final Class<?> clazz,
-								final VerificationMode verificationMode,
-								final String collectionName) {
+		public List<Document> executeAll(final MongoTemplate mongoTemplate,
+										 final Class<?> clazz,
+										 final VerificationMode verificationMode,
+										 final String collectionName,
+										 final SerializationContext serializationContext) {
 
+			final ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
 			verify(mongoTemplate, verificationMode).findAndRemove(queryCaptor.capture(), eq(clazz), eq(collectionName));
-			return queryCaptor.getValue().getQueryObject();
+			return CapturedDocuments.ofQueries(queryCaptor);
 		}
 	},
 
 	UPDATE_FIRST {
 		@Override
-		public Document execute(final MongoTemplate mongoTemplate, final Class<?> clazz, final VerificationMode verificationMode) {
+		public List<Document> executeAll(final MongoTemplate mongoTemplate,
+										 final Class<?> clazz,
+										 final VerificationMode verificationMode,
+										 final SerializationContext serializationContext) {
 
+			final ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+			final ArgumentCaptor<Update> updateCaptor = ArgumentCaptor.forClass(Update.class);
 			verify(mongoTemplate, verificationMode).updateFirst(queryCaptor.capture(), updateCaptor.capture(), eq(clazz));
-			return recoverFieldsFromQueryAndUpdateCaptors();
+			return CapturedDocuments.of(queryCaptor, updateCaptor);
 
 		}
 
 		@Override
-		public Document execute(final MongoTemplate mongoTemplate,
-								final Class<?> clazz,
-								final VerificationMode verificationMode,
-								final String collectionName) {
-
+		public List<Document> executeAll(final MongoTemplate mongoTemplate,
+										 final Class<?> clazz,
+										 final VerificationMode verificationMode,
+										 final String collectionName,
+										 final SerializationContext serializationContext) {
+
+			final ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+			final ArgumentCaptor<Update> updateCaptor = ArgumentCaptor.forClass(Update.class);
 			verify(mongoTemplate, verificationMode).updateFirst(queryCaptor.capture(),
 																updateCaptor.capture(),
 																eq(clazz),
 																eq(collectionName));
-			return recoverFieldsFromQueryAndUpdateCaptors();
+			return CapturedDocuments.of(queryCaptor, updateCaptor);
 		}
 	},
 
 	UPDATE_MULTI {
 		@Override
-		public Document execute(final MongoTemplate mongoTemplate, final Class<?> clazz, final VerificationMode verificationMode) {
+		public List<Document> executeAll(final MongoTemplate mongoTemplate,
+										 final Class<?> clazz,
+										 final VerificationMode verificationMode,
+										 final SerializationContext serializationContext) {
 
+			final ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+			final ArgumentCaptor<Update> updateCaptor = ArgumentCaptor.forClass(Update.class);
 			verify(mongoTemplate, verificationMode).updateMulti(queryCaptor.capture(), updateCaptor.capture(), eq(clazz));
-			return recoverFieldsFromQueryAndUpdateCaptors();
+			return CapturedDocuments.of(queryCaptor, updateCaptor);
 
 		}
 
 		@Override
-		public Document execute(final MongoTemplate mongoTemplate,
-								final Class<?> clazz,
-								final VerificationMode verificationMode,
-								final String collectionName) {
-
+		public List<Document> executeAll(final MongoTemplate mongoTemplate,
+										 final Class<?> clazz,
+										 final VerificationMode verificationMode,
+										 final String collectionName,
+										 final SerializationContext serializationContext) {
+
+			final ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+			final ArgumentCaptor<Update> updateCaptor = ArgumentCaptor.forClass(Update.class);
 			verify(mongoTemplate, verificationMode).updateMulti(queryCaptor.capture(),
 																updateCaptor.capture(),
 																eq(clazz),
 																eq(collectionName));
-			return recoverFieldsFromQueryAndUpdateCaptors();
+			return CapturedDocuments.of(queryCaptor, updateCaptor);
 		}
 	},
 
 	UPSERT {
 		@Override
-		public Document execute(final MongoTemplate mongoTemplate, final Class<?> clazz, final VerificationMode verificationMode) {
+		public List<Document> executeAll(final MongoTemplate mongoTemplate,
+										 final Class<?> clazz,
+										 final VerificationMode verificationMode,
+										 final SerializationContext serializationContext) {
 
+			final ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+			final ArgumentCaptor<Update> updateCaptor = ArgumentCaptor.forClass(Update.class);
 			verify(mongoTemplate, verificationMode).upsert(queryCaptor.capture(), updateCaptor.capture(), eq(clazz));
-			return recoverFieldsFromQueryAndUpdateCaptors();
+			return CapturedDocuments.ofUpserts(queryCaptor, updateCaptor);
 
 		}
 
 		@Override
-		public Document execute(final MongoTemplate mongoTemplate,
-								final Class<?> clazz,
-								final VerificationMode verificationMode,
-								final String collectionName) {
-
+		public List<Document> executeAll(final MongoTemplate mongoTemplate,
+										 final Class<?> clazz,
+										 final VerificationMode verificationMode,
+										 final String collectionName,
+										 final SerializationContext serializationContext) {
+
+			final ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+			final ArgumentCaptor<Update> updateCaptor = ArgumentCaptor.forClass(Update.class);
 			verify(mongoTemplate, verificationMode).upsert(queryCaptor.capture(),
 														   updateCaptor.capture(),
 														   eq(clazz),
 														   eq(collectionName));
-			return recoverFieldsFromQueryAndUpdateCaptors();
+			return CapturedDocuments.ofUpserts(queryCaptor, updateCaptor);
 		}
 	},
 
 	SAVE {
 		@Override
-		public Document execute(final MongoTemplate mongoTemplate, final Class<?> clazz, final VerificationMode verificationMode) {
+		public List<Document> executeAll(final MongoTemplate mongoTemplate,
+										 final Class<?> clazz,
+										 final VerificationMode verificationMode,
+										 final SerializationContext serializationContext) {
 
 			final ArgumentCaptor<?> saveCaptor = ArgumentCaptor.forClass(clazz);
 			verify(mongoTemplate, verificationMode).save(saveCaptor.capture());
-			return Document.parse(gsonBuilder().toJson(saveCaptor.getValue()));
+			return CapturedDocuments.of(saveCaptor, entity -> toDocument(entity, serializationContext));
 		}
 
 		@Override
-		public Document execute(MongoTemplate mongoTemplate,
-								Class<?> clazz,
-								VerificationMode verificationMode,
-								String collectionName) {
+		public List<Document> executeAll(final MongoTemplate mongoTemplate,
+										 final Class<?> clazz,
+										 final VerificationMode verificationMode,
+										 final String collectionName,
+										 final SerializationContext serializationContext) {
 
 			final ArgumentCaptor<?> saveCaptor = ArgumentCaptor.forClass(clazz);
 			verify(mongoTemplate, verificationMode).save(saveCaptor.capture(), eq(collectionName));
-			return Document.parse(gsonBuilder().toJson(saveCaptor.getValue()));
+			return CapturedDocuments.of(saveCaptor, entity -> toDocument(entity, serializationContext));
+		}
+	},
+
+	INSERT {
+		@Override
+		public List<Document> executeAll(final MongoTemplate mongoTemplate,
+										 final Class<?> clazz,
+										 final VerificationMode verificationMode,
+										 final SerializationContext serializationContext) {
+
+			final ArgumentCaptor<?> insertCaptor = ArgumentCaptor.forClass(clazz);
+			verify(mongoTemplate, verificationMode).insert(insertCaptor.capture());
+			return CapturedDocuments.of(insertCaptor, entity -> toDocument(entity, serializationContext));
+		}
+
+		@Override
+		public List<Document> executeAll(final MongoTemplate mongoTemplate,
+										 final Class<?> clazz,
+										 final VerificationMode verificationMode,
+										 final String collectionName,
+										 final SerializationContext serializationContext) {
+
+			final ArgumentCaptor<?> insertCaptor = ArgumentCaptor.forClass(clazz);
+			verify(mongoTemplate, verificationMode).insert(insertCaptor.capture(), eq(collectionName));
+			return CapturedDocuments.of(insertCaptor, entity -> toDocument(entity, serializationContext));
+		}
+	},
+
+	INSERT_BATCH {
+		@Override
+		public List<Document> executeAll(final MongoTemplate mongoTemplate,
+										 final Class<?> clazz,
+										 final VerificationMode verificationMode,
+										 final SerializationContext serializationContext) {
+
+			final ArgumentCaptor<Collection<Object>> batchCaptor = CapturedDocuments.batchCaptor();
+			verify(mongoTemplate, verificationMode).insert(batchCaptor.capture(), eq(clazz));
+			return CapturedDocuments.ofBatches(batchCaptor, clazz, entity -> toDocument(entity, serializationContext));
+		}
+
+		@Override
+		public List<Document> executeAll(final MongoTemplate mongoTemplate,
+										 final Class<?> clazz,
+										 final VerificationMode verificationMode,
+										 final String collectionName,
+										 final SerializationContext serializationContext) {
+
+			final ArgumentCaptor<Collection<Object>> batchCaptor = CapturedDocuments.batchCaptor();
+			verify(mongoTemplate, verificationMode).insert(batchCaptor.capture(), eq(collectionName));
+			return CapturedDocuments.ofBatches(batchCaptor, clazz, entity -> toDocument(entity, serializationContext));
+		}
+	},
+
+	INSERT_ALL {
+		@Override
+		public List<Document> executeAll(final MongoTemplate mongoTemplate,
+										 final Class<?> clazz,
+										 final VerificationMode verificationMode,
+										 final SerializationContext serializationContext) {
+
+			final ArgumentCaptor<Collection<Object>> batchCaptor = CapturedDocuments.batchCaptor();
+			verify(mongoTemplate, verificationMode).insertAll(batchCaptor.capture());
+			return CapturedDocuments.ofBatches(batchCaptor, clazz, entity -> toDocument(entity, serializationContext));
+		}
+
+		@Override
+		public List<Document> executeAll(final MongoTemplate mongoTemplate,
+										 final Class<?> clazz,
+										 final VerificationMode verificationMode,
+										 final String collectionName,
+										 final SerializationContext serializationContext) {
+
+			return fail(INSERT_ALL_WITHOUT_COLLECTION_NAME);
+		}
+	},
+
+	AGGREGATE {
+		@Override
+		public List<Document> executeAll(final MongoTemplate mongoTemplate,
+										 final Class<?> clazz,
+										 final VerificationMode verificationMode,
+										 final SerializationContext serializationContext) {
+
+			return capturedAggregations(verifyOverloads(mongoTemplate, verificationMode, "aggregate", List.of(clazz),
+														AGGREGATE_OVERLOADS),
+										serializationContext);
+		}
+
+		@Override
+		public List<Document> executeAll(final MongoTemplate mongoTemplate,
+										 final Class<?> clazz,
+										 final VerificationMode verificationMode,
+										 final String collectionName,
+										 final SerializationContext serializationContext) {
+
+			return capturedAggregations(verifyOverloads(mongoTemplate, verificationMode, "aggregate",
+														List.of(collectionName, clazz), AGGREGATE_COLLECTION_OVERLOADS),
+										serializationContext);
+		}
+	},
+
+	AGGREGATE_STREAM {
+		@Override
+		public List<Document> executeAll(final MongoTemplate mongoTemplate,
+										 final Class<?> clazz,
+										 final VerificationMode verificationMode,
+										 final SerializationContext serializationContext) {
+
+			return capturedAggregations(verifyOverloads(mongoTemplate, verificationMode, "aggregateStream", List.of(clazz),
+														AGGREGATE_OVERLOADS),
+										serializationContext);
+		}
+
+		@Override
+		public List<Document> executeAll(final MongoTemplate mongoTemplate,
+										 final Class<?> clazz,
+										 final VerificationMode verificationMode,
+										 final String collectionName,
+										 final SerializationContext serializationContext) {
+
+			return capturedAggregations(verifyOverloads(mongoTemplate, verificationMode, "aggregateStream",
+														List.of(collectionName, clazz), AGGREGATE_COLLECTION_OVERLOADS),
+										serializationContext);
+		}
+	},
+
+	STREAM {
+		@Override
+		public List<Document> executeAll(final MongoTemplate mongoTemplate,
+										 final Class<?> clazz,
+										 final VerificationMode verificationMode,
+										 final SerializationContext serializationContext) {
+
+			final ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+			verify(mongoTemplate, verificationMode).stream(queryCaptor.capture(), eq(clazz));
+			return CapturedDocuments.ofQueries(queryCaptor);
+		}
+
+		@Override
+		public List<Document> executeAll(final MongoTemplate mongoTemplate,
+										 final Class<?> clazz,
+										 final VerificationMode verificationMode,
+										 final String collectionName,
+										 final SerializationContext serializationContext) {
+
+			final ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+			verify(mongoTemplate, verificationMode).stream(queryCaptor.capture(), eq(clazz), eq(collectionName));
+			return CapturedDocuments.ofQueries(queryCaptor);
+		}
+	},
+
+	SCROLL {
+		@Override
+		public List<Document> executeAll(final MongoTemplate mongoTemplate,
+										 final Class<?> clazz,
+										 final VerificationMode verificationMode,
+										 final SerializationContext serializationContext) {
+
+			final ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+			verify(mongoTemplate, verificationMode).scroll(queryCaptor.capture(), eq(clazz));
+			return CapturedDocuments.ofQueries(queryCaptor);
+		}
+
+		@Override
+		public List<Document> executeAll(final MongoTemplate mongoTemplate,
+										 final Class<?> clazz,
+										 final VerificationMode verificationMode,
+										 final String collectionName,
+										 final SerializationContext serializationContext) {
+
+			final ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+			verify(mongoTemplate, verificationMode).scroll(queryCaptor.capture(), eq(clazz), eq(collectionName));
+			return CapturedDocuments.ofQueries(queryCaptor);
+		}
+	},
+
+	REMOVE {
+		@Override
+		public List<Document> executeAll(final MongoTemplate mongoTemplate,
+										 final Class<?> clazz,
+										 final VerificationMode verificationMode,
+										 final SerializationContext serializationContext) {
+
+			final ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+			verify(mongoTemplate, verificationMode).remove(queryCaptor.capture(), eq(clazz));
+			return CapturedDocuments.ofQueries(queryCaptor);
+		}
+
+		@Override
+		public List<Document> executeAll(final MongoTemplate mongoTemplate,
+										 final Class<?> clazz,
+										 final VerificationMode verificationMode,
+										 final String collectionName,
+										 final SerializationContext serializationContext) {
+
+			final ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+			verify(mongoTemplate, verificationMode).remove(queryCaptor.capture(), eq(clazz), eq(collectionName));
+			return CapturedDocuments.ofQueries(queryCaptor);
+		}
+	},
+
+	COUNT {
+		@Override
+		public List<Document> executeAll(final MongoTemplate mongoTemplate,
+										 final Class<?> clazz,
+										 final VerificationMode verificationMode,
+										 final SerializationContext serializationContext) {
+
+			final ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+			verify(mongoTemplate, verificationMode).count(queryCaptor.capture(), eq(clazz));
+			return CapturedDocuments.ofQueries(queryCaptor);
+		}
+
+		@Override
+		public List<Document> executeAll(final MongoTemplate mongoTemplate,
+										 final Class<?> clazz,
+										 final VerificationMode verificationMode,
+										 final String collectionName,
+										 final SerializationContext serializationContext) {
+
+			final ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+			verify(mongoTemplate, verificationMode).count(queryCaptor.capture(), eq(clazz), eq(collectionName));
+			return CapturedDocuments.ofQueries(queryCaptor);
+		}
+	},
+
+	EXACT_COUNT {
+		@Override
+		public List<Document> executeAll(final MongoTemplate mongoTemplate,
+										 final Class<?> clazz,
+										 final VerificationMode verificationMode,
+										 final SerializationContext serializationContext) {
+
+			final ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+			verify(mongoTemplate, verificationMode).exactCount(queryCaptor.capture(), eq(clazz));
+			return CapturedDocuments.ofQueries(queryCaptor);
+		}
+
+		@Override
+		public List<Document> executeAll(final MongoTemplate mongoTemplate,
+										 final Class<?> clazz,
+										 final VerificationMode verificationMode,
+										 final String collectionName,
+										 final SerializationContext serializationContext) {
+
+			final ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+			verify(mongoTemplate, verificationMode).exactCount(queryCaptor.capture(), eq(clazz), eq(collectionName));
+			return CapturedDocuments.ofQueries(queryCaptor);
+		}
+	},
+
+	ESTIMATED_COUNT {
+		@Override
+		public List<Document> executeAll(final MongoTemplate mongoTemplate,
+										 final Class<?> clazz,
+										 final VerificationMode verificationMode,
+										 final SerializationContext serializationContext) {
+
+			verify(mongoTemplate, verificationMode).estimatedCount(eq(clazz));
+			return emptyDocuments(mongoTemplate, "estimatedCount", clazz);
+		}
+
+		@Override
+		public List<Document> executeAll(final MongoTemplate mongoTemplate,
+										 final Class<?> clazz,
+										 final VerificationMode verificationMode,
+										 final String collectionName,
+										 final SerializationContext serializationContext) {
+
+			verify(mongoTemplate, verificationMode).estimatedCount(eq(collectionName));
+			return emptyDocuments(mongoTemplate, "estimatedCount", collectionName);
+		}
+	},
+
+	EXISTS {
+		@Override
+		public List<Document> executeAll(final MongoTemplate mongoTemplate,
+										 final Class<?> clazz,
+										 final VerificationMode verificationMode,
+										 final SerializationContext serializationContext) {
+
+			final ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+			verify(mongoTemplate, verificationMode).exists(queryCaptor.capture(), eq(clazz));
+			return CapturedDocuments.ofQueries(queryCaptor);
+		}
+
+		@Override
+		public List<Document> executeAll(final MongoTemplate mongoTemplate,
+										 final Class<?> clazz,
+										 final VerificationMode verificationMode,
+										 final String collectionName,
+										 final SerializationContext serializationContext) {
+
+			final ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+			verify(mongoTemplate, verificationMode).exists(queryCaptor.capture(), eq(clazz), eq(collectionName));
+			return CapturedDocuments.ofQueries(queryCaptor);
+		}
+	},
+
+	FIND_AND_MODIFY {
+		@Override
+		public List<Document> executeAll(final MongoTemplate mongoTemplate,
+										 final Class<?> clazz,
+										 final VerificationMode verificationMode,
+										 final SerializationContext serializationContext) {
+
+			return capturedModifications(verifyOverloads(mongoTemplate, verificationMode, "findAndModify", List.of(clazz),
+														 FIND_AND_MODIFY_OVERLOADS));
+		}
+
+		@Override
+		public List<Document> executeAll(final MongoTemplate mongoTemplate,
+										 final Class<?> clazz,
+										 final VerificationMode verificationMode,
+										 final String collectionName,
+										 final SerializationContext serializationContext) {
+
+			return capturedModifications(verifyOverloads(mongoTemplate, verificationMode, "findAndModify",
+														 List.of(clazz, collectionName), FIND_AND_MODIFY_COLLECTION_OVERLOADS));
+		}
+	},
+
+	FIND_AND_REPLACE {
+		@Override
+		public List<Document> executeAll(final MongoTemplate mongoTemplate,
+										 final Class<?> clazz,
+										 final VerificationMode verificationMode,
+										 final SerializationContext serializationContext) {
+
+			return capturedReplacements(verifyOverloads(mongoTemplate, verificationMode, "findAndReplace",
+														replacing(clazz, null), FIND_AND_REPLACE_OVERLOADS),
+										serializationContext);
+		}
+
+		@Override
+		public List<Document> executeAll(final MongoTemplate mongoTemplate,
+										 final Class<?> clazz,
+										 final VerificationMode verificationMode,
+										 final String collectionName,
+										 final SerializationContext serializationContext) {
+
+			return capturedReplacements(verifyOverloads(mongoTemplate, verificationMode, "findAndReplace",
+														replacing(clazz, collectionName),
+														FIND_AND_REPLACE_COLLECTION_OVERLOADS),
+										serializationContext);
 		}
 	};
 
-	private static Document recoverFieldsFromQueryAndUpdateCaptors() {
+	/**
+	 * Verifies together the overloads of a method that take the same arguments, e.g. with and without options. Every
+	 * invocation of one of the overloads whose last arguments equal the expected ones counts as verified, the
+	 * verification mode is applied to all of them at once and they are returned in invocation order.
+	 */
+	static List<Invocation> verifyOverloads(final Object mock,
+											final VerificationMode verificationMode,
+											final String methodName,
+											final List<?> lastArguments,
+											final List<List<Class<?>>> overloads) {
+
+		return verifyOverloads(mock, verificationMode, methodName,
+							   invocation -> endsWith(invocation.getArguments(), lastArguments), overloads);
+	}
+
+	/**
+	 * Verifies together the overloads of a method whose invocations pass the argument check, for overloads that do not
+	 * share the position of the checked arguments.
+	 */
+	static List<Invocation> verifyOverloads(final Object mock,
+											final VerificationMode verificationMode,
+											final String methodName,
+											final Predicate<Invocation> argumentsCheck,
+											final List<List<Class<?>>> overloads) {
+
+		final List<Invocation> invocations = mockingDetails(mock).getInvocations().stream()
+			.filter(invocation -> methodName.equals(invocation.getMethod().getName())
+				&& overloads.contains(List.of(invocation.getMethod().getParameterTypes()))
+				&& argumentsCheck.test(invocation))
+			.toList();
+
+		final Overloads overloadsMock = mock(Overloads.class, methodName);
+		invocations.forEach(invocation -> overloadsMock.anyOverload());
+		verify(overloadsMock, verificationMode).anyOverload();
+		invocations.forEach(Invocation::markVerified);
+
+		return invocations;
+	}
+
+	private static boolean endsWith(final Object[] arguments, final List<?> lastArguments) {
+
+		final int offset = arguments.length - lastArguments.size();
 
-		final Document responseDoc = queryCaptor.getValue().getQueryObject();
+		return offset >= 0 && lastArguments.equals(Arrays.asList(arguments).subList(offset, arguments.length));
+	}
+
+	/**
+	 * Matches the findAndReplace invocations of the class, read from the entity type argument when the overload takes
+	 * one and from the replacement otherwise, and of the collection when a name is given.
+	 */
+	static Predicate<Invocation> replacing(final Class<?> clazz, final String collectionName) {
+
+		return invocation -> {
+			final Object[] arguments = invocation.getArguments();
+			final boolean sameClass = arguments.length > 3 && arguments[3] instanceof final Class<?> entityType
+									  ? clazz.equals(entityType)
+									  : clazz.isInstance(arguments[1]);
+
+			return sameClass && (collectionName == null || Arrays.stream(arguments, 2, arguments.length)
+				.filter(String.class::isInstance)
+				.findFirst()
+				.map(collectionName::equals)
+				.orElse(false));
+		};
+	}
+
+	/**
+	 * Returns one empty document per invocation of the method with exactly these arguments, for operations whose
+	 * arguments are all checked by the verification.
+	 */
+	static List<Document> emptyDocuments(final Object mock, final String methodName, final Object... arguments) {
+
+		final List<Invocation> invocations = mockingDetails(mock).getInvocations().stream()
+			.filter(invocation -> methodName.equals(invocation.getMethod().getName())
+				&& Arrays.equals(arguments, invocation.getArguments()))
+			.toList();
+
+		return CapturedDocuments.of(invocations, ignored -> new Document());
+	}
+
+	/**
+	 * Stand-in replayed once per invocation of the verified overloads, so the verification mode counts all of them.
+	 */
+	interface Overloads {
+
+		void anyOverload();
 
-		final Collection<?> updateValues = updateCaptor.getValue().getUpdateObject().values();
-		updateValues.forEach(doc -> responseDoc.putAll((Document) doc));
+	}
+
+	static List<Document> capturedAggregations(final List<Invocation> invocations,
+											   final SerializationContext serializationContext) {
+
+		return CapturedDocuments.of(invocations, invocation -> AggregationUtility.toDocument(invocation.getArgument(0),
+																							 serializationContext));
+	}
+
+	/**
+	 * Flattens the filter and the fields of every update operator into one document. Aggregation pipeline updates have
+	 * no operator fields to flatten and are rejected.
+	 */
+	static Document recoverFieldsFromQueryAndUpdate(final Query query, final UpdateDefinition update) {
+
+		final Document responseDoc = query.getQueryObject();
+
+		final Collection<?> updateValues = update.getUpdateObject().values();
+		updateValues.forEach(doc -> {
+			if (doc instanceof final Document fields) {
+				responseDoc.putAll(fields);
+			} else {
+				fail(String.format(UNSUPPORTED_UPDATE, update.getClass().getSimpleName()));
+			}
+		});
 
 		return responseDoc;
 	}
 
+	/**
+	 * Renders each findAndModify invocation as its filter and update fields plus the options under {@link #OPTIONS_KEY},
+	 * defaults being used when the overload without options was called.
+	 */
+	static List<Document> capturedModifications(final List<Invocation> invocations) {
+
+		final List<Query> queries = invocations.stream().map(invocation -> invocation.<Query>getArgument(0)).toList();
+		final List<UpdateDefinition> updates =
+			invocations.stream().map(invocation -> invocation.<UpdateDefinition>getArgument(1)).toList();
+		final List<FindAndModifyOptions> options = invocations.stream()
+			.map(invocation -> obtainOptions(invocation, FindAndModifyOptions.class, FindAndModifyOptions::new))
+			.toList();
+
+		final IntFunction<Document> documentFactory = index -> {
+			final Document document = recoverFieldsFromQueryAndUpdate(queries.get(index), updates.get(index));
+
+			document.put(OPTIONS_KEY, new Document(RETURN_NEW, options.get(index).isReturnNew())
+				.append(UPSERT_OPTION, options.get(index).isUpsert())
+				.append(REMOVE_OPTION, options.get(index).isRemove()));
+			return document;
+		};
+
+		return CapturedDocuments.ofUpdates(queries, updates, index -> options.get(index).isUpsert(), documentFactory);
+	}
+
+	/**
+	 * Renders each findAndReplace invocation as the replacement fields with the options under {@link #OPTIONS_KEY}. The
+	 * filter is kept apart, a replacement field never overwrites a filter field with the same name.
+	 */
+	static List<Document> capturedReplacements(final List<Invocation> invocations,
+											   final SerializationContext serializationContext) {
+
+		final List<Query> queries = invocations.stream().map(invocation -> invocation.<Query>getArgument(0)).toList();
+		final List<FindAndReplaceOptions> options = invocations.stream()
+			.map(invocation -> obtainOptions(invocation, FindAndReplaceOptions.class, FindAndReplaceOptions::new))
+			.toList();
+		final IntFunction<Document> replacementFactory =
+			index -> toDocument(invocations.get(index).getArgument(1), serializationContext);
+
+		return CapturedDocuments.ofReplacements(queries, index -> {
+			final Document document = replacementFactory.apply(index);
+
+			document.put(OPTIONS_KEY, new Document(RETURN_NEW, options.get(index).isReturnNew())
+				.append(UPSERT_OPTION, options.get(index).isUpsert()));
+			return document;
+		}, index -> new CapturedReplacement(queries.get(index),
+										   replacementFactory.apply(index),
+										   options.get(index).isUpsert()));
+	}
+
+	/**
+	 * Returns the options passed after the query and its update or replacement, defaults when the overload without
+	 * options was called or {@code null} was passed.
+	 */
+	private static <T> T obtainOptions(final Invocation invocation, final Class<T> optionsType, final Supplier<T> defaults) {
+
+		final Object[] arguments = invocation.getArguments();
+
+		return Arrays.stream(arguments, 2, arguments.length)
+			.filter(optionsType::isInstance)
+			.map(optionsType::cast)
+			.findFirst()
+			.orElseGet(defaults);
+	}
+
+	static final List<List<Class<?>>> AGGREGATE_OVERLOADS = List.of(
+		List.of(TypedAggregation.class, Class.class),
+		List.of(Aggregation.class, Class.class, Class.class));
+	static final List<List<Class<?>>> AGGREGATE_COLLECTION_OVERLOADS = List.of(
+		List.of(TypedAggregation.class, String.class, Class.class),
+		List.of(Aggregation.class, String.class, Class.class));
+	static final List<List<Class<?>>> FIND_AND_MODIFY_OVERLOADS = List.of(
+		List.of(Query.class, UpdateDefinition.class, Class.class),
+		List.of(Query.class, UpdateDefinition.class, FindAndModifyOptions.class, Class.class));
+	static final List<List<Class<?>>> FIND_AND_MODIFY_COLLECTION_OVERLOADS = List.of(
+		List.of(Query.class, UpdateDefinition.class, Class.class, String.class),
+		List.of(Query.class, UpdateDefinition.class, FindAndModifyOptions.class, Class.class, String.class));
+	static final List<List<Class<?>>> FIND_AND_REPLACE_OVERLOADS = List.of(
+		List.of(Query.class, Object.class),
+		List.of(Query.class, Object.class, FindAndReplaceOptions.class),
+		List.of(Query.class, Object.class, FindAndReplaceOptions.class, Class.class, Class.class));
+	static final List<List<Class<?>>> FIND_AND_REPLACE_COLLECTION_OVERLOADS = List.of(
+		List.of(Query.class, Object.class, String.class),
+		List.of(Query.class, Object.class, FindAndReplaceOptions.class, String.class),
+		List.of(Query.class, Object.class, FindAndReplaceOptions.class, Class.class, String.class),
+		List.of(Query.class, Object.class, FindAndReplaceOptions.class, Class.class, String.class, Class.class));
+
 	public static final String DEFAULT_KEY_ID = "_id";
-	private static final ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
-	private static final ArgumentCaptor<Update> updateCaptor = ArgumentCaptor.forClass(Update.class);
-	private static final ArgumentCaptor<String> stringCaptor = ArgumentCaptor.forClass(String.class);
+	public static final String OPTIONS_KEY = "$options";
+	public static final String RETURN_NEW = "returnNew";
+	public static final String UPSERT_OPTION = "upsert";
+	public static final String REMOVE_OPTION = "remove";
+	private static final String UNSUPPORTED_UPDATE = "Only updates made of operators like $set are supported, not %s";
+	private static final String INSERT_ALL_WITHOUT_COLLECTION_NAME = "insertAll has no collection name parameter, use INSERT_BATCH";
+
+	public Document execute(final MongoTemplate mongoTemplate, final Class<?> clazz, final VerificationMode verificationMode) {
+
+		return this.execute(mongoTemplate, clazz, verificationMode, SerializationContext.DEFAULT);
+	}
+
+	public Document execute(final MongoTemplate mongoTemplate,
+							final Class<?> clazz,
+							final VerificationMode verificationMode,
+							final String collectionName) {
+
+		return this.execute(mongoTemplate, clazz, verificationMode, collectionName, SerializationContext.DEFAULT);
+	}
+
+	/**
+	 * Returns the document captured on the last verified invocation, {@code null} when none was captured (e.g. verifying
+	 * with {@code never()}).
+	 */
+	public Document execute(final MongoTemplate mongoTemplate,
+							final Class<?> clazz,
+							final VerificationMode verificationMode,
+							final SerializationContext serializationContext) {
 
-	public abstract Document execute(MongoTemplate mongoTemplate, Class<?> clazz, VerificationMode verificationMode);
+		return CapturedDocuments.last(this.executeAll(mongoTemplate, clazz, verificationMode, serializationContext));
+	}
+
+	public Document execute(final MongoTemplate mongoTemplate,
+							final Class<?> clazz,
+							final VerificationMode verificationMode,
+							final String collectionName,
+							final SerializationContext serializationContext) {
+
+		return CapturedDocuments.last(
+			this.executeAll(mongoTemplate, clazz, verificationMode, collectionName, serializationContext));
+	}
 
-	public abstract Document execute(MongoTemplate mongoTemplate,
-									 Class<?> clazz,
-									 VerificationMode verificationMode,
-									 String collectionName);
+	/**
+	 * Returns one document per verified invocation, in invocation order. Documents are built lazily when read.
+	 */
+	public abstract List<Document> executeAll(MongoTemplate mongoTemplate,
+											  Class<?> clazz,
+											  VerificationMode verificationMode,
+											  SerializationContext serializationContext);
+
+	public abstract List<Document> executeAll(MongoTemplate mongoTemplate,
+											  Class<?> clazz,
+											  VerificationMode verificationMode,
+											  String collectionName,
+											  SerializationContext serializationContext);
 
 }
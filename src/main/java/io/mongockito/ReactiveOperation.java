@@ -0,0 +1,639 @@
+package io.mongockito;
+
+import static io.mongockito.util.document.DocumentConverter.toDocument;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+
+import io.mongockito.util.json.model.SerializationContext;
+import java.util.Collection;
+import java.util.List;
+import org.bson.Document;
+import org.mockito.ArgumentCaptor;
+import org.mockito.verification.VerificationMode;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+public enum ReactiveOperation {
+	FIND {
+		@Override
+		public List<Document> executeAll(final ReactiveMongoTemplate mongoTemplate,
+										 final Class<?> clazz,
+										 final VerificationMode verificationMode,
+										 final SerializationContext serializationContext) {
+
+			final ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+			verify(mongoTemplate, verificationMode).find(queryCaptor.capture(), eq(clazz));
+			return CapturedDocuments.ofQueries(queryCaptor);
+		}
+
+		@Override
+		public List<Document> executeAll(final ReactiveMongoTemplate mongoTemplate,
+										 final Class<?> clazz,
+										 final VerificationMode verificationMode,
+										 final String collectionName,
+										 final SerializationContext serializationContext) {
+
+			final ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+			verify(mongoTemplate, verificationMode).find(queryCaptor.capture(), eq(clazz), eq(collectionName));
+			return CapturedDocuments.ofQueries(queryCaptor);
+		}
+	},
+
+	FIND_ONE {
+		@Override
+		public List<Document> executeAll(final ReactiveMongoTemplate mongoTemplate,
+										 final Class<?> clazz,
+										 final VerificationMode verificationMode,
+										 final SerializationContext serializationContext) {
+
+			final ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+			verify(mongoTemplate, verificationMode).findOne(queryCaptor.capture(), eq(clazz));
+			return CapturedDocuments.ofQueries(queryCaptor);
+		}
+
+		@Override
+		public List<Document> executeAll(final ReactiveMongoTemplate mongoTemplate,
+										 final Class<?> clazz,
+										 final VerificationMode verificationMode,
+										 final String collectionName,
+										 final SerializationContext serializationContext) {
+
+			final ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+			verify(mongoTemplate, verificationMode).findOne(queryCaptor.capture(), eq(clazz), eq(collectionName));
+			return CapturedDocuments.ofQueries(queryCaptor);
+		}
+	},
+
+	FIND_BY_ID {
+		@Override
+		public List<Document> executeAll(final ReactiveMongoTemplate mongoTemplate,
+										 final Class<?> clazz,
+										 final VerificationMode verificationMode,
+										 final SerializationContext serializationContext) {
+
+			final ArgumentCaptor<String> stringCaptor = ArgumentCaptor.forClass(String.class);
+			verify(mongoTemplate, verificationMode).findById(stringCaptor.capture(), eq(clazz));
+			return CapturedDocuments.of(stringCaptor, id -> new Document(Operation.DEFAULT_KEY_ID, id));
+		}
+
+		@Override
+		public List<Document> executeAll(final ReactiveMongoTemplate mongoTemplate,
+										 final Class<?> clazz,
+										 final VerificationMode verificationMode,
+										 final String collectionName,
+										 final SerializationContext serializationContext) {
+
+			final ArgumentCaptor<String> stringCaptor = ArgumentCaptor.forClass(String.class);
+			verify(mongoTemplate, verificationMode).findById(stringCaptor.capture(), eq(clazz), eq(collectionName));
+			return CapturedDocuments.of(stringCaptor, id -> new Document(Operation.DEFAULT_KEY_ID, id));
+		}
+	},
+
+	FIND_AND_REMOVE {
+		@Override
+		public List<Document> executeAll(final ReactiveMongoTemplate mongoTemplate,
+										 final Class<?> clazz,
+										 final VerificationMode verificationMode,
+										 final SerializationContext serializationContext) {
+
+			final ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+			verify(mongoTemplate, verificationMode).findAndRemove(queryCaptor.capture(), eq(clazz));
+			return CapturedDocuments.ofQueries(queryCaptor);
+		}
+
+		@Override
+		public List<Document> executeAll(final ReactiveMongoTemplate mongoTemplate,
+										 final Class<?> clazz,
+										 final VerificationMode verificationMode,
+										 final String collectionName,
+										 final SerializationContext serializationContext) {
+
+			final ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+			verify(mongoTemplate, verificationMode).findAndRemove(queryCaptor.capture(), eq(clazz), eq(collectionName));
+			return CapturedDocuments.ofQueries(queryCaptor);
+		}
+	},
+
+	UPDATE_FIRST {
+		@Override
+		public List<Document> executeAll(final ReactiveMongoTemplate mongoTemplate,
+										 final Class<?> clazz,
+										 final VerificationMode verificationMode,
+										 final SerializationContext serializationContext) {
+
+			final ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+			final ArgumentCaptor<Update> updateCaptor = ArgumentCaptor.forClass(Update.class);
+			verify(mongoTemplate, verificationMode).updateFirst(queryCaptor.capture(), updateCaptor.capture(), eq(clazz));
+			return CapturedDocuments.of(queryCaptor, updateCaptor);
+
+		}
+
+		@Override
+		public List<Document> executeAll(final ReactiveMongoTemplate mongoTemplate,
+										 final Class<?> clazz,
+										 final VerificationMode verificationMode,
+										 final String collectionName,
+										 final SerializationContext serializationContext) {
+
+			final ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+			final ArgumentCaptor<Update> updateCaptor = ArgumentCaptor.forClass(Update.class);
+			verify(mongoTemplate, verificationMode).updateFirst(queryCaptor.capture(),
+																updateCaptor.capture(),
+																eq(clazz),
+																eq(collectionName));
+			return CapturedDocuments.of(queryCaptor, updateCaptor);
+		}
+	},
+
+	UPDATE_MULTI {
+		@Override
+		public List<Document> executeAll(final ReactiveMongoTemplate mongoTemplate,
+										 final Class<?> clazz,
+										 final VerificationMode verificationMode,
+										 final SerializationContext serializationContext) {
+
+			final ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+			final ArgumentCaptor<Update> updateCaptor = ArgumentCaptor.forClass(Update.class);
+			verify(mongoTemplate, verificationMode).updateMulti(queryCaptor.capture(), updateCaptor.capture(), eq(clazz));
+			return CapturedDocuments.of(queryCaptor, updateCaptor);
+
+		}
+
+		@Override
+		public List<Document> executeAll(final ReactiveMongoTemplate mongoTemplate,
+										 final Class<?> clazz,
+										 final VerificationMode verificationMode,
+										 final String collectionName,
+										 final SerializationContext serializationContext) {
+
+			final ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+			final ArgumentCaptor<Update> updateCaptor = ArgumentCaptor.forClass(Update.class);
+			verify(mongoTemplate, verificationMode).updateMulti(queryCaptor.capture(),
+																updateCaptor.capture(),
+																eq(clazz),
+																eq(collectionName));
+			return CapturedDocuments.of(queryCaptor, updateCaptor);
+		}
+	},
+
+	UPSERT {
+		@Override
+		public List<Document> executeAll(final ReactiveMongoTemplate mongoTemplate,
+										 final Class<?> clazz,
+										 final VerificationMode verificationMode,
+										 final SerializationContext serializationContext) {
+
+			final ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+			final ArgumentCaptor<Update> updateCaptor = ArgumentCaptor.forClass(Update.class);
+			verify(mongoTemplate, verificationMode).upsert(queryCaptor.capture(), updateCaptor.capture(), eq(clazz));
+			return CapturedDocuments.ofUpserts(queryCaptor, updateCaptor);
+
+		}
+
+		@Override
+		public List<Document> executeAll(final ReactiveMongoTemplate mongoTemplate,
+										 final Class<?> clazz,
+										 final VerificationMode verificationMode,
+										 final String collectionName,
+										 final SerializationContext serializationContext) {
+
+			final ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+			final ArgumentCaptor<Update> updateCaptor = ArgumentCaptor.forClass(Update.class);
+			verify(mongoTemplate, verificationMode).upsert(queryCaptor.capture(),
+														   updateCaptor.capture(),
+														   eq(clazz),
+														   eq(collectionName));
+			return CapturedDocuments.ofUpserts(queryCaptor, updateCaptor);
+		}
+	},
+
+	SAVE {
+		@Override
+		public List<Document> executeAll(final ReactiveMongoTemplate mongoTemplate,
+										 final Class<?> clazz,
+										 final VerificationMode verificationMode,
+										 final SerializationContext serializationContext) {
+
+			final ArgumentCaptor<?> saveCaptor = ArgumentCaptor.forClass(clazz);
+			verify(mongoTemplate, verificationMode).save(saveCaptor.capture());
+			return CapturedDocuments.of(saveCaptor, entity -> toDocument(entity, serializationContext));
+		}
+
+		@Override
+		public List<Document> executeAll(final ReactiveMongoTemplate mongoTemplate,
+										 final Class<?> clazz,
+										 final VerificationMode verificationMode,
+										 final String collectionName,
+										 final SerializationContext serializationContext) {
+
+			final ArgumentCaptor<?> saveCaptor = ArgumentCaptor.forClass(clazz);
+			verify(mongoTemplate, verificationMode).save(saveCaptor.capture(), eq(collectionName));
+			return CapturedDocuments.of(saveCaptor, entity -> toDocument(entity, serializationContext));
+		}
+	},
+
+	INSERT {
+		@Override
+		public List<Document> executeAll(final ReactiveMongoTemplate mongoTemplate,
+										 final Class<?> clazz,
+										 final VerificationMode verificationMode,
+										 final SerializationContext serializationContext) {
+
+			final ArgumentCaptor<?> insertCaptor = ArgumentCaptor.forClass(clazz);
+			verify(mongoTemplate, verificationMode).insert(insertCaptor.capture());
+			return CapturedDocuments.of(insertCaptor, entity -> toDocument(entity, serializationContext));
+		}
+
+		@Override
+		public List<Document> executeAll(final ReactiveMongoTemplate mongoTemplate,
+										 final Class<?> clazz,
+										 final VerificationMode verificationMode,
+										 final String collectionName,
+										 final SerializationContext serializationContext) {
+
+			final ArgumentCaptor<?> insertCaptor = ArgumentCaptor.forClass(clazz);
+			verify(mongoTemplate, verificationMode).insert(insertCaptor.capture(), eq(collectionName));
+			return CapturedDocuments.of(insertCaptor, entity -> toDocument(entity, serializationContext));
+		}
+	},
+
+	INSERT_BATCH {
+		@Override
+		public List<Document> executeAll(final ReactiveMongoTemplate mongoTemplate,
+										 final Class<?> clazz,
+										 final VerificationMode verificationMode,
+										 final SerializationContext serializationContext) {
+
+			final ArgumentCaptor<Collection<Object>> batchCaptor = CapturedDocuments.batchCaptor();
+			verify(mongoTemplate, verificationMode).insert(batchCaptor.capture(), eq(clazz));
+			return CapturedDocuments.ofBatches(batchCaptor, clazz, entity -> toDocument(entity, serializationContext));
+		}
+
+		@Override
+		public List<Document> executeAll(final ReactiveMongoTemplate mongoTemplate,
+										 final Class<?> clazz,
+										 final VerificationMode verificationMode,
+										 final String collectionName,
+										 final SerializationContext serializationContext) {
+
+			final ArgumentCaptor<Collection<Object>> batchCaptor = CapturedDocuments.batchCaptor();
+			verify(mongoTemplate, verificationMode).insert(batchCaptor.capture(), eq(collectionName));
+			return CapturedDocuments.ofBatches(batchCaptor, clazz, entity -> toDocument(entity, serializationContext));
+		}
+	},
+
+	INSERT_ALL {
+		@Override
+		public List<Document> executeAll(final ReactiveMongoTemplate mongoTemplate,
+										 final Class<?> clazz,
+										 final VerificationMode verificationMode,
+										 final SerializationContext serializationContext) {
+
+			final ArgumentCaptor<Collection<Object>> batchCaptor = CapturedDocuments.batchCaptor();
+			verify(mongoTemplate, verificationMode).insertAll(batchCaptor.capture());
+			return CapturedDocuments.ofBatches(batchCaptor, clazz, entity -> toDocument(entity, serializationContext));
+		}
+
+		@Override
+		public List<Document> executeAll(final ReactiveMongoTemplate mongoTemplate,
+										 final Class<?> clazz,
+										 final VerificationMode verificationMode,
+										 final String collectionName,
+										 final SerializationContext serializationContext) {
+
+			return fail(INSERT_ALL_WITHOUT_COLLECTION_NAME);
+		}
+	},
+
+	AGGREGATE {
+		@Override
+		public List<Document> executeAll(final ReactiveMongoTemplate mongoTemplate,
+										 final Class<?> clazz,
+										 final VerificationMode verificationMode,
+										 final SerializationContext serializationContext) {
+
+			return Operation.capturedAggregations(Operation.verifyOverloads(mongoTemplate, verificationMode, "aggregate",
+																			List.of(clazz),
+																			Operation.AGGREGATE_OVERLOADS),
+												  serializationContext);
+		}
+
+		@Override
+		public List<Document> executeAll(final ReactiveMongoTemplate mongoTemplate,
+										 final Class<?> clazz,
+										 final VerificationMode verificationMode,
+										 final String collectionName,
+										 final SerializationContext serializationContext) {
+
+			return Operation.capturedAggregations(Operation.verifyOverloads(mongoTemplate, verificationMode, "aggregate",
+																			List.of(collectionName, clazz),
+																			Operation.AGGREGATE_COLLECTION_OVERLOADS),
+												  serializationContext);
+		}
+	},
+
+	AGGREGATE_STREAM {
+		@Override
+		public List<Document> executeAll(final ReactiveMongoTemplate mongoTemplate,
+										 final Class<?> clazz,
+										 final VerificationMode verificationMode,
+										 final SerializationContext serializationContext) {
+
+			return fail(AGGREGATE_STREAM_NOT_AVAILABLE);
+		}
+
+		@Override
+		public List<Document> executeAll(final ReactiveMongoTemplate mongoTemplate,
+										 final Class<?> clazz,
+										 final VerificationMode verificationMode,
+										 final String collectionName,
+										 final SerializationContext serializationContext) {
+
+			return fail(AGGREGATE_STREAM_NOT_AVAILABLE);
+		}
+	},
+
+	STREAM {
+		@Override
+		public List<Document> executeAll(final ReactiveMongoTemplate mongoTemplate,
+										 final Class<?> clazz,
+										 final VerificationMode verificationMode,
+										 final SerializationContext serializationContext) {
+
+			return fail(STREAM_NOT_AVAILABLE);
+		}
+
+		@Override
+		public List<Document> executeAll(final ReactiveMongoTemplate mongoTemplate,
+										 final Class<?> clazz,
+										 final VerificationMode verificationMode,
+										 final String collectionName,
+										 final SerializationContext serializationContext) {
+
+			return fail(STREAM_NOT_AVAILABLE);
+		}
+	},
+
+	SCROLL {
+		@Override
+		public List<Document> executeAll(final ReactiveMongoTemplate mongoTemplate,
+										 final Class<?> clazz,
+										 final VerificationMode verificationMode,
+										 final SerializationContext serializationContext) {
+
+			final ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+			verify(mongoTemplate, verificationMode).scroll(queryCaptor.capture(), eq(clazz));
+			return CapturedDocuments.ofQueries(queryCaptor);
+		}
+
+		@Override
+		public List<Document> executeAll(final ReactiveMongoTemplate mongoTemplate,
+										 final Class<?> clazz,
+										 final VerificationMode verificationMode,
+										 final String collectionName,
+										 final SerializationContext serializationContext) {
+
+			final ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+			verify(mongoTemplate, verificationMode).scroll(queryCaptor.capture(), eq(clazz), eq(collectionName));
+			return CapturedDocuments.ofQueries(queryCaptor);
+		}
+	},
+
+	REMOVE {
+		@Override
+		public List<Document> executeAll(final ReactiveMongoTemplate mongoTemplate,
+										 final Class<?> clazz,
+										 final VerificationMode verificationMode,
+										 final SerializationContext serializationContext) {
+
+			final ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+			verify(mongoTemplate, verificationMode).remove(queryCaptor.capture(), eq(clazz));
+			return CapturedDocuments.ofQueries(queryCaptor);
+		}
+
+		@Override
+		public List<Document> executeAll(final ReactiveMongoTemplate mongoTemplate,
+										 final Class<?> clazz,
+										 final VerificationMode verificationMode,
+										 final String collectionName,
+										 final SerializationContext serializationContext) {
+
+			final ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+			verify(mongoTemplate, verificationMode).remove(queryCaptor.capture(), eq(clazz), eq(collectionName));
+			return CapturedDocuments.ofQueries(queryCaptor);
+		}
+	},
+
+	COUNT {
+		@Override
+		public List<Document> executeAll(final ReactiveMongoTemplate mongoTemplate,
+										 final Class<?> clazz,
+										 final VerificationMode verificationMode,
+										 final SerializationContext serializationContext) {
+
+			final ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+			verify(mongoTemplate, verificationMode).count(queryCaptor.capture(), eq(clazz));
+			return CapturedDocuments.ofQueries(queryCaptor);
+		}
+
+		@Override
+		public List<Document> executeAll(final ReactiveMongoTemplate mongoTemplate,
+										 final Class<?> clazz,
+										 final VerificationMode verificationMode,
+										 final String collectionName,
+										 final SerializationContext serializationContext) {
+
+			final ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+			verify(mongoTemplate, verificationMode).count(queryCaptor.capture(), eq(clazz), eq(collectionName));
+			return CapturedDocuments.ofQueries(queryCaptor);
+		}
+	},
+
+	EXACT_COUNT {
+		@Override
+		public List<Document> executeAll(final ReactiveMongoTemplate mongoTemplate,
+										 final Class<?> clazz,
+										 final VerificationMode verificationMode,
+										 final SerializationContext serializationContext) {
+
+			final ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+			verify(mongoTemplate, verificationMode).exactCount(queryCaptor.capture(), eq(clazz));
+			return CapturedDocuments.ofQueries(queryCaptor);
+		}
+
+		@Override
+		public List<Document> executeAll(final ReactiveMongoTemplate mongoTemplate,
+										 final Class<?> clazz,
+										 final VerificationMode verificationMode,
+										 final String collectionName,
+										 final SerializationContext serializationContext) {
+
+			final ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+			verify(mongoTemplate, verificationMode).exactCount(queryCaptor.capture(), eq(clazz), eq(collectionName));
+			return CapturedDocuments.ofQueries(queryCaptor);
+		}
+	},
+
+	ESTIMATED_COUNT {
+		@Override
+		public List<Document> executeAll(final ReactiveMongoTemplate mongoTemplate,
+										 final Class<?> clazz,
+										 final VerificationMode verificationMode,
+										 final SerializationContext serializationContext) {
+
+			verify(mongoTemplate, verificationMode).estimatedCount(eq(clazz));
+			return Operation.emptyDocuments(mongoTemplate, "estimatedCount", clazz);
+		}
+
+		@Override
+		public List<Document> executeAll(final ReactiveMongoTemplate mongoTemplate,
+										 final Class<?> clazz,
+										 final VerificationMode verificationMode,
+										 final String collectionName,
+										 final SerializationContext serializationContext) {
+
+			verify(mongoTemplate, verificationMode).estimatedCount(eq(collectionName));
+			return Operation.emptyDocuments(mongoTemplate, "estimatedCount", collectionName);
+		}
+	},
+
+	EXISTS {
+		@Override
+		public List<Document> executeAll(final ReactiveMongoTemplate mongoTemplate,
+										 final Class<?> clazz,
+										 final VerificationMode verificationMode,
+										 final SerializationContext serializationContext) {
+
+			final ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+			verify(mongoTemplate, verificationMode).exists(queryCaptor.capture(), eq(clazz));
+			return CapturedDocuments.ofQueries(queryCaptor);
+		}
+
+		@Override
+		public List<Document> executeAll(final ReactiveMongoTemplate mongoTemplate,
+										 final Class<?> clazz,
+										 final VerificationMode verificationMode,
+										 final String collectionName,
+										 final SerializationContext serializationContext) {
+
+			final ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+			verify(mongoTemplate, verificationMode).exists(queryCaptor.capture(), eq(clazz), eq(collectionName));
+			return CapturedDocuments.ofQueries(queryCaptor);
+		}
+	},
+
+	FIND_AND_MODIFY {
+		@Override
+		public List<Document> executeAll(final ReactiveMongoTemplate mongoTemplate,
+										 final Class<?> clazz,
+										 final VerificationMode verificationMode,
+										 final SerializationContext serializationContext) {
+
+			return Operation.capturedModifications(Operation.verifyOverloads(mongoTemplate, verificationMode, "findAndModify",
+																			 List.of(clazz),
+																			 Operation.FIND_AND_MODIFY_OVERLOADS));
+		}
+
+		@Override
+		public List<Document> executeAll(final ReactiveMongoTemplate mongoTemplate,
+										 final Class<?> clazz,
+										 final VerificationMode verificationMode,
+										 final String collectionName,
+										 final SerializationContext serializationContext) {
+
+			return Operation.capturedModifications(Operation.verifyOverloads(mongoTemplate, verificationMode, "findAndModify",
+																			 List.of(clazz, collectionName),
+																			 Operation.FIND_AND_MODIFY_COLLECTION_OVERLOADS));
+		}
+	},
+
+	FIND_AND_REPLACE {
+		@Override
+		public List<Document> executeAll(final ReactiveMongoTemplate mongoTemplate,
+										 final Class<?> clazz,
+										 final VerificationMode verificationMode,
+										 final SerializationContext serializationContext) {
+
+			return Operation.capturedReplacements(Operation.verifyOverloads(mongoTemplate, verificationMode, "findAndReplace",
+																			Operation.replacing(clazz, null),
+																			Operation.FIND_AND_REPLACE_OVERLOADS),
+												  serializationContext);
+		}
+
+		@Override
+		public List<Document> executeAll(final ReactiveMongoTemplate mongoTemplate,
+										 final Class<?> clazz,
+										 final VerificationMode verificationMode,
+										 final String collectionName,
+										 final SerializationContext serializationContext) {
+
+			return Operation.capturedReplacements(Operation.verifyOverloads(mongoTemplate, verificationMode, "findAndReplace",
+																			Operation.replacing(clazz, collectionName),
+																			Operation.FIND_AND_REPLACE_COLLECTION_OVERLOADS),
+												  serializationContext);
+		}
+	};
+
+	private static final String AGGREGATE_STREAM_NOT_AVAILABLE = "aggregateStream is not available on ReactiveMongoTemplate, use AGGREGATE";
+	private static final String STREAM_NOT_AVAILABLE = "stream is not available on ReactiveMongoTemplate, use FIND";
+	private static final String INSERT_ALL_WITHOUT_COLLECTION_NAME = "insertAll has no collection name parameter, use INSERT_BATCH";
+
+	public static ReactiveOperation of(final Operation operation) {
+
+		return valueOf(operation.name());
+	}
+
+	public Document execute(final ReactiveMongoTemplate mongoTemplate,
+							final Class<?> clazz,
+							final VerificationMode verificationMode) {
+
+		return this.execute(mongoTemplate, clazz, verificationMode, SerializationContext.DEFAULT);
+	}
+
+	public Document execute(final ReactiveMongoTemplate mongoTemplate,
+							final Class<?> clazz,
+							final VerificationMode verificationMode,
+							final String collectionName) {
+
+		return this.execute(mongoTemplate, clazz, verificationMode, collectionName, SerializationContext.DEFAULT);
+	}
+
+	/**
+	 * Returns the document captured on the last verified invocation, {@code null} when none was captured (e.g. verifying
+	 * with {@code never()}).
+	 */
+	public Document execute(final ReactiveMongoTemplate mongoTemplate,
+							final Class<?> clazz,
+							final VerificationMode verificationMode,
+							final SerializationContext serializationContext) {
+
+		return CapturedDocuments.last(this.executeAll(mongoTemplate, clazz, verificationMode, serializationContext));
+	}
+
+	public Document execute(final ReactiveMongoTemplate mongoTemplate,
+							final Class<?> clazz,
+							final VerificationMode verificationMode,
+							final String collectionName,
+							final SerializationContext serializationContext) {
+
+		return CapturedDocuments.last(
+			this.executeAll(mongoTemplate, clazz, verificationMode, collectionName, serializationContext));
+	}
+
+	/**
+	 * Returns one document per verified invocation, in invocation order. Documents are built lazily when read.
+	 */
+	public abstract List<Document> executeAll(ReactiveMongoTemplate mongoTemplate,
+											  Class<?> clazz,
+											  VerificationMode verificationMode,
+											  SerializationContext serializationContext);
+
+	public abstract List<Document> executeAll(ReactiveMongoTemplate mongoTemplate,
+											  Class<?> clazz,
+											  VerificationMode verificationMode,
+											  String collectionName,
+											  SerializationContext serializationContext);
+
+}
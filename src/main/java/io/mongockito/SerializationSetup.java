@@ -0,0 +1,85 @@
+package io.mongockito;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import io.mongockito.util.json.model.Adapter;
+import io.mongockito.util.json.model.SerializationContext;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+import lombok.Getter;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+
+/**
+ * Serialization settings shared by the {@link Verify} and {@link VerifyBulk} builders: type adapters, null policy and
+ * Mongo converter, either given or taken from the template when the verification runs.
+ */
+@Getter
+final class SerializationSetup {
+
+	private static final String MANDATORY_TYPE_ADAPTER = "mandatory field: Type Adapter";
+	private static final String MANDATORY_ADAPTER_CLASS = "mandatory field: Adapter Class";
+	private static final String MANDATORY_MONGO_CONVERTER = "mandatory field: Mongo Converter";
+	private static final String MANDATORY_TEMPLATE_CONVERTER = "mandatory field: Mongo Template Converter, stub getConverter() or use usingMongoConverter";
+
+	private List<Adapter> adapters;
+	private boolean allowNulls = true;
+	private MongoConverter mongoConverter;
+	private boolean templateConverter;
+
+	void addAdapter(final Type typeClass, final Object typeAdapter) {
+
+		assertNotNull(typeClass, MANDATORY_ADAPTER_CLASS);
+		assertNotNull(typeAdapter, MANDATORY_TYPE_ADAPTER);
+
+		this.adapters = Optional.ofNullable(this.adapters).orElseGet(ArrayList::new);
+		this.adapters.add(Adapter.builder().typeClass(typeClass).typeAdapter(typeAdapter).build());
+	}
+
+	void allowSerializeNulls(final boolean allow) {
+
+		this.allowNulls = allow;
+	}
+
+	void useMongoConverter(final MongoConverter mongoConverter) {
+
+		assertNotNull(mongoConverter, MANDATORY_MONGO_CONVERTER);
+
+		this.mongoConverter = mongoConverter;
+		this.templateConverter = false;
+	}
+
+	void useTemplateConverter() {
+
+		this.mongoConverter = null;
+		this.templateConverter = true;
+	}
+
+	/**
+	 * Builds the context of a run, the template converter being read only when {@code usingTemplateConverter} was set.
+	 */
+	SerializationContext toSerializationContext(final Supplier<MongoConverter> templateConverter) {
+
+		return SerializationContext.builder()
+			.adapters(Optional.ofNullable(this.adapters).orElseGet(Collections::emptyList))
+			.allowNulls(this.allowNulls)
+			.mongoConverter(this.obtainMongoConverter(templateConverter))
+			.build();
+	}
+
+	private MongoConverter obtainMongoConverter(final Supplier<MongoConverter> templateConverter) {
+
+		if (!this.templateConverter) {
+			return this.mongoConverter;
+		}
+
+		final MongoConverter mongoTemplateConverter = templateConverter.get();
+		assertNotNull(mongoTemplateConverter, MANDATORY_TEMPLATE_CONVERTER);
+
+		return mongoTemplateConverter;
+	}
+
+}
@@ -0,0 +1,164 @@
+package io.mongockito;
+
+import static io.mongockito.util.document.DocumentUtility.obtainValue;
+
+import io.mongockito.model.CapturedInvocation;
+import io.mongockito.model.SerializedValue;
+import io.mongockito.model.ValidateField;
+import io.mongockito.util.document.DocumentConverter;
+import io.mongockito.util.json.model.SerializationContext;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.commons.lang3.tuple.Pair;
+import org.opentest4j.MultipleFailuresError;
+
+/**
+ * Validations compiled for a whole verification: field validations are grouped by path so each path is resolved once
+ * per document, and every check runs so all failures are reported together. A plan checking a single invocation
+ * streams the expected objects of JSON and JSON_BY_KEY against the captured document, a plan shared by several items
+ * serializes them once up front.
+ */
+final class ValidationPlan {
+
+	private static final String MULTIPLE_FAILURES = "%d validations failed";
+
+	private final Map<Object, List<Check>> fieldChecks;
+	private final List<Check> invocationChecks;
+
+	private ValidationPlan(final Map<Object, List<Check>> fieldChecks, final List<Check> invocationChecks) {
+
+		this.fieldChecks = fieldChecks;
+		this.invocationChecks = invocationChecks;
+	}
+
+	static ValidationPlan compile(final List<ValidateField> fields, final SerializationContext serializationContext) {
+
+		return compile(fields, serializationContext, false);
+	}
+
+	/**
+	 * Compiles a plan run against several items, the expected objects are serialized once instead of once per item.
+	 */
+	static ValidationPlan compileForItems(final List<ValidateField> fields,
+										  final SerializationContext serializationContext) {
+
+		return compile(fields, serializationContext, true);
+	}
+
+	private static ValidationPlan compile(final List<ValidateField> fields,
+										  final SerializationContext serializationContext,
+										  final boolean serializeExpected) {
+
+		final Map<Object, List<Check>> fieldChecks = new LinkedHashMap<>();
+		final List<Check> invocationChecks = new ArrayList<>();
+
+		for (int position = 0; position < fields.size(); position++) {
+			final ValidateField field = fields.get(position);
+			final ValidationType type = field.getValidationType();
+			final Pair<?, ?> pair = serializeExpected
+									 ? serialize(type, field.getField(), serializationContext)
+									 : field.getField();
+			final Check check = new Check(position, type, pair);
+
+			if (type.isFieldValidation() && field.getField().getKey() != null) {
+				fieldChecks.computeIfAbsent(field.getField().getKey(), path -> new ArrayList<>()).add(check);
+			} else {
+				invocationChecks.add(check);
+			}
+		}
+
+		return new ValidationPlan(fieldChecks, invocationChecks);
+	}
+
+	/**
+	 * Runs every check on the invocation. A single failure is thrown as is, several are aggregated in declaration order.
+	 */
+	void validate(final CapturedInvocation invocation, final SerializationContext serializationContext) {
+
+		final List<AssertionError> failures = this.findFailures(invocation, serializationContext);
+
+		if (failures.size() == 1) {
+			throw failures.get(0);
+		}
+
+		if (!failures.isEmpty()) {
+			throw new MultipleFailuresError(String.format(MULTIPLE_FAILURES, failures.size()), failures);
+		}
+	}
+
+	boolean isEmpty() {
+
+		return this.fieldChecks.isEmpty() && this.invocationChecks.isEmpty();
+	}
+
+	boolean passes(final CapturedInvocation invocation, final SerializationContext serializationContext) {
+
+		return this.findFailures(invocation, serializationContext).isEmpty();
+	}
+
+	private List<AssertionError> findFailures(final CapturedInvocation invocation,
+											  final SerializationContext serializationContext) {
+
+		final List<Failure> failures = new ArrayList<>();
+
+		this.fieldChecks.forEach((path, checks) -> {
+			final Object currentValue = obtainValue(invocation.getDocument(), path);
+
+			for (final Check check : checks) {
+				try {
+					check.type.validateValue(currentValue, check.field, serializationContext);
+				} catch (final AssertionError error) {
+					failures.add(new Failure(check.position, error));
+				}
+			}
+		});
+
+		for (final Check check : this.invocationChecks) {
+			try {
+				check.type.validate(invocation, check.field, serializationContext);
+			} catch (final AssertionError error) {
+				failures.add(new Failure(check.position, error));
+			}
+		}
+
+		return failures.stream()
+			.sorted(Comparator.comparingInt(Failure::position))
+			.map(Failure::error)
+			.toList();
+	}
+
+	/**
+	 * Serializes the expected object of JSON and JSON_BY_KEY up front, JSON strings compared to documents are parsed
+	 * by the validation itself.
+	 */
+	private static Pair<?, ?> serialize(final ValidationType type,
+										final Pair<?, ?> field,
+										final SerializationContext serializationContext) {
+
+		if (type == ValidationType.JSON && field.getKey() != null) {
+			final Object expected = serializationContext.hasMongoConverter()
+									? DocumentConverter.toDocument(field.getKey(), serializationContext)
+									: DocumentConverter.toBsonValue(field.getKey(), serializationContext);
+			return Pair.of(new SerializedValue(expected), field.getValue());
+		}
+
+		if (type == ValidationType.JSON_BY_KEY && field.getValue() != null && !(field.getValue() instanceof String)) {
+			return Pair.of(field.getKey(),
+						   new SerializedValue(DocumentConverter.toBsonValue(field.getValue(), serializationContext)));
+		}
+
+		return field;
+	}
+
+	private record Check(int position, ValidationType type, Pair<?, ?> field) {
+
+	}
+
+	private record Failure(int position, AssertionError error) {
+
+	}
+
+}
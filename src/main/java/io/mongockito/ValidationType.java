@@ -1,79 +1,119 @@
 package io.mongockito;
 
-import static io.mongockito.util.json.JsonTool.gsonBuilder;
+import static io.mongockito.util.document.AggregationUtility.MATCH_STAGE;
+import static io.mongockito.util.document.AggregationUtility.PROJECT_STAGE;
+import static io.mongockito.util.document.AggregationUtility.obtainStageBodies;
+import static io.mongockito.util.document.AggregationUtility.obtainStageNames;
+import static io.mongockito.util.document.AggregationUtility.toFieldSet;
+import static io.mongockito.util.document.AggregationUtility.toPredicate;
+import static io.mongockito.util.document.AggregationUtility.toStageNames;
+import static io.mongockito.util.document.DocumentConverter.findDifference;
+import static io.mongockito.util.document.DocumentConverter.findDocumentDifference;
+import static io.mongockito.util.document.DocumentUtility.obtainValue;
+import static io.mongockito.util.document.QueryUtility.toFieldsDocument;
+import static io.mongockito.util.document.QueryUtility.toSortDocument;
+import static org.junit.jupiter.api.AssertionFailureBuilder.assertionFailure;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import io.mongockito.model.CapturedInvocation;
+import io.mongockito.model.CapturedUpdate;
+import io.mongockito.model.SerializedValue;
+import io.mongockito.util.document.DocumentComparator;
 import io.mongockito.util.document.DocumentUtility;
+import io.mongockito.util.document.FixtureCollection;
+import io.mongockito.util.document.QueryEvaluator;
+import io.mongockito.util.document.SnapshotStore;
+import io.mongockito.util.document.UpdateApplier;
+import io.mongockito.util.document.model.DocumentDifference;
+import io.mongockito.util.json.model.SerializationContext;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
 import org.apache.commons.lang3.tuple.Pair;
 import org.bson.Document;
+import org.bson.json.JsonParseException;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.mongodb.core.query.Query;
 
 public enum ValidationType {
 
 	EQUALS {
 		@Override
-		public void validate(final Document document, final Pair<?, ?> pair) {
+		public void validateValue(final Object currentValue,
+								  final Pair<?, ?> pair,
+								  final SerializationContext serializationContext) {
 
-			final Object fieldName = pair.getKey();
-			final Object expectedValue = pair.getValue();
-
-			assertEquals(String.valueOf(expectedValue), String.valueOf(document.get(fieldName)));
+			assertEquals(String.valueOf(pair.getValue()), String.valueOf(currentValue));
 		}
 	},
 
 	NOT_NULL {
 		@Override
-		public void validate(final Document document, final Pair<?, ?> pair) {
+		public void validateValue(final Object currentValue,
+								  final Pair<?, ?> pair,
+								  final SerializationContext serializationContext) {
 
-			final Object fieldName = pair.getKey();
-			assertNotNull(document.get(fieldName));
+			assertNotNull(currentValue);
 		}
 	},
 
 	NULL {
 		@Override
-		public void validate(final Document document, final Pair<?, ?> pair) {
+		public void validateValue(final Object currentValue,
+								  final Pair<?, ?> pair,
+								  final SerializationContext serializationContext) {
 
-			final Object fieldName = pair.getKey();
-			assertNull(document.get(fieldName));
+			assertNull(currentValue);
 		}
 	},
 
 	COLLECTION_SIZE {
 		@Override
-		public void validate(final Document document, final Pair<?, ?> pair) {
+		public void validateValue(final Object currentValue,
+								  final Pair<?, ?> pair,
+								  final SerializationContext serializationContext) {
 
-			final Object fieldName = pair.getKey();
 			final Integer expectedSize = (Integer) pair.getValue();
 
-			final int currentSize = DocumentUtility.obtainCollectionLength(document, fieldName);
-			assertEquals(expectedSize, currentSize);
+			assertEquals(expectedSize, DocumentUtility.obtainCollectionLength(currentValue));
 		}
 	},
 
 	JSON {
 		@Override
-		public void validate(final Document document, final Pair<?, ?> pair) {
+		public void validate(final Document document,
+							 final Pair<?, ?> pair,
+							 final SerializationContext serializationContext) {
 
 			if (pair.getKey() == null) {
 				fail("Mandatory object on first pair parameter");
 				return;
 			}
 
-			final Class<?> clazz = pair.getKey().getClass();
 			final Object expectedObject = pair.getKey();
-			final Object currentDocument = gsonBuilder().fromJson(document.toJson(), clazz);
 
-			assertEquals(currentDocument, expectedObject);
+			if (expectedObject instanceof final SerializedValue serialized) {
+				DocumentComparator.findDifference(document, serialized.getValue())
+					.ifPresent(ValidationType::failWithDifference);
+				return;
+			}
+
+			findDocumentDifference(document, expectedObject, serializationContext)
+				.ifPresent(ValidationType::failWithDifference);
 		}
 
 	},
 
 	JSON_BY_KEY {
 		@Override
-		public void validate(final Document document, final Pair<?, ?> pair) {
+		public void validateValue(final Object currentValue,
+								  final Pair<?, ?> pair,
+								  final SerializationContext serializationContext) {
 
 			final Object fieldName = pair.getKey();
 			final Object expectedValue = pair.getValue();
@@ -83,26 +123,444 @@ public enum ValidationType {
 				return;
 			}
 
-			final Document currentDocument = (Document) document.get(fieldName);
-			final String currentValue = this.obtainFormattedCurrentValue(currentDocument);
-			final String expectedItem = this.obtainFormattedExpectedValue(expectedValue);
-			assertEquals(expectedItem, currentValue);
+			final String path = String.valueOf(fieldName);
+
+			if (currentValue instanceof Document && expectedValue instanceof final String json) {
+				DocumentComparator.findDifference(path, currentValue, parseJson(json))
+					.ifPresent(ValidationType::failWithDifference);
+				return;
+			}
+
+			if (expectedValue instanceof final SerializedValue serialized) {
+				DocumentComparator.findDifference(path, currentValue, serialized.getValue())
+					.ifPresent(ValidationType::failWithDifference);
+				return;
+			}
+
+			findDifference(path, currentValue, expectedValue, serializationContext)
+				.ifPresent(ValidationType::failWithDifference);
+		}
+	},
+
+	STAGE_ORDER {
+		@Override
+		public void validate(final Document document,
+							 final Pair<?, ?> pair,
+							 final SerializationContext serializationContext) {
+
+			final List<String> expectedStages = toStageNames(pair.getKey());
+			final List<String> currentStages = obtainStageNames(document);
+
+			int position = 0;
+			for (final String expectedStage : expectedStages) {
+				final int found = currentStages.subList(position, currentStages.size()).indexOf(expectedStage);
+
+				if (found < 0) {
+					assertionFailure()
+						.message("Pipeline stage '" + expectedStage + "' not found in the expected order")
+						.expected(expectedStages)
+						.actual(currentStages)
+						.buildAndThrow();
+				}
+
+				position += found + 1;
+			}
+		}
+	},
+
+	MATCH_PREDICATE {
+		@Override
+		public void validate(final Document document,
+							 final Pair<?, ?> pair,
+							 final SerializationContext serializationContext) {
+
+			final Document expectedPredicate = toPredicate(pair.getKey());
+			final List<Document> predicates = obtainStageBodies(document, MATCH_STAGE);
+
+			assertFalse(predicates.isEmpty(), "Pipeline has no $match stage");
+
+			if (predicates.stream().noneMatch(predicate -> DocumentComparator.areEqual(predicate, expectedPredicate))) {
+				DocumentComparator.findDifference(MATCH_STAGE, predicates.get(0), expectedPredicate)
+					.ifPresent(ValidationType::failWithDifference);
+			}
 		}
+	},
+
+	PROJECT_FIELDS {
+		@Override
+		public void validate(final Document document,
+							 final Pair<?, ?> pair,
+							 final SerializationContext serializationContext) {
 
-		private String obtainFormattedCurrentValue(final Document currentDocument) {
+			final Set<String> expectedFields = toFieldSet(pair.getKey());
+			final List<Set<String>> projections = obtainStageBodies(document, PROJECT_STAGE).stream()
+				.map(Document::keySet)
+				.toList();
 
-			return currentDocument.toJson().replaceAll("\\s+", "");
+			assertFalse(projections.isEmpty(), "Pipeline has no $project stage");
+
+			if (!projections.contains(expectedFields)) {
+				assertionFailure()
+					.message("No $project stage with the expected field set")
+					.expected(expectedFields)
+					.actual(projections)
+					.buildAndThrow();
+			}
 		}
+	},
 
-		private String obtainFormattedExpectedValue(final Object expectedValue) {
+	SORT {
+		@Override
+		public void validate(final CapturedInvocation invocation,
+							 final Pair<?, ?> pair,
+							 final SerializationContext serializationContext) {
+
+			final Document expectedSort = toSortDocument(pair.getKey());
+			final Document currentSort = obtainQuery(invocation).getSortObject();
 
-			return gsonBuilder().toJson(expectedValue)
-				.replaceAll("^\"|\"$", "")
-				.replace("\\\"", "\"");
+			DocumentComparator.findDifference(SORT_PATH, currentSort, expectedSort)
+				.ifPresent(ValidationType::failWithDifference);
+			assertEquals(List.copyOf(expectedSort.keySet()), List.copyOf(currentSort.keySet()), "Unexpected sort key order");
 		}
+	},
+
+	PROJECTION {
+		@Override
+		public void validate(final CapturedInvocation invocation,
+							 final Pair<?, ?> pair,
+							 final SerializationContext serializationContext) {
+
+			DocumentComparator.findDifference(PROJECTION_PATH,
+											  obtainQuery(invocation).getFieldsObject(),
+											  toFieldsDocument(pair.getKey()))
+				.ifPresent(ValidationType::failWithDifference);
+		}
+	},
+
+	LIMIT {
+		@Override
+		public void validate(final CapturedInvocation invocation,
+							 final Pair<?, ?> pair,
+							 final SerializationContext serializationContext) {
+
+			assertEquals(((Number) pair.getKey()).intValue(), obtainQuery(invocation).getLimit(), "Unexpected query limit");
+		}
+	},
+
+	SKIP {
+		@Override
+		public void validate(final CapturedInvocation invocation,
+							 final Pair<?, ?> pair,
+							 final SerializationContext serializationContext) {
+
+			assertEquals(((Number) pair.getKey()).longValue(), obtainQuery(invocation).getSkip(), "Unexpected query skip");
+		}
+	},
+
+	HINT {
+		@Override
+		public void validate(final CapturedInvocation invocation,
+							 final Pair<?, ?> pair,
+							 final SerializationContext serializationContext) {
+
+			final Object expectedHint = pair.getKey() instanceof final String hint ? parseJson(hint) : pair.getKey();
+			final String currentHint = obtainQuery(invocation).getHint();
+
+			assertNotNull(currentHint, "Query has no hint");
+			DocumentComparator.findDifference(HINT_PATH, parseJson(currentHint), expectedHint)
+				.ifPresent(ValidationType::failWithDifference);
+		}
+	},
+
+	CURSOR_BATCH_SIZE {
+		@Override
+		public void validate(final CapturedInvocation invocation,
+							 final Pair<?, ?> pair,
+							 final SerializationContext serializationContext) {
+
+			final Integer batchSize = obtainQuery(invocation).getMeta().getCursorBatchSize();
+
+			assertNotNull(batchSize, "Query has no cursor batch size");
+			assertEquals(((Number) pair.getKey()).intValue(), batchSize, "Unexpected cursor batch size");
+		}
+	},
+
+	MAX_TIME_MSEC {
+		@Override
+		public void validate(final CapturedInvocation invocation,
+							 final Pair<?, ?> pair,
+							 final SerializationContext serializationContext) {
+
+			final Long maxTimeMsec = obtainQuery(invocation).getMeta().getMaxTimeMsec();
+
+			assertNotNull(maxTimeMsec, "Query has no max time");
+			assertEquals(((Number) pair.getKey()).longValue(), maxTimeMsec, "Unexpected query max time");
+		}
+	},
+
+	STABLE_SORT {
+		@Override
+		public void validate(final CapturedInvocation invocation,
+							 final Pair<?, ?> pair,
+							 final SerializationContext serializationContext) {
+
+			final Document sort = obtainQuery(invocation).getSortObject();
+
+			assertFalse(sort.isEmpty(), "Query has no sort");
+			assertEquals(String.valueOf(pair.getKey()),
+						 sort.keySet().stream().reduce((first, second) -> second).orElseThrow(),
+						 "Sort does not end with the unique field, the order is not stable");
+		}
+	},
+
+	KEYSET_SCROLL {
+		@Override
+		public void validate(final CapturedInvocation invocation,
+							 final Pair<?, ?> pair,
+							 final SerializationContext serializationContext) {
+
+			final Query query = obtainQuery(invocation);
+			final KeysetScrollPosition keyset = query.getKeyset();
+
+			assertNotNull(keyset, "Query does not scroll by keyset");
+			assertTrue(query.isSorted(), "Keyset scroll needs a sort");
+			assertEquals(0L, query.getSkip(), "Keyset scroll must not skip documents");
+			assertEquals(pair.getKey(), keyset.getDirection(), "Unexpected keyset scroll direction");
+		}
+	},
 
+	SELECTS {
+		@Override
+		public void validate(final CapturedInvocation invocation,
+							 final Pair<?, ?> pair,
+							 final SerializationContext serializationContext) {
+
+			final List<Object> selected = ((FixtureCollection) pair.getKey()).find(obtainQuery(invocation)).stream()
+				.map(document -> document.get(Operation.DEFAULT_KEY_ID))
+				.toList();
+
+			if (!DocumentComparator.areEqual(selected, pair.getValue())) {
+				assertEquals(pair.getValue(), selected, "Unexpected documents selected from the fixtures");
+			}
+		}
+	},
+
+	SELECTS_FIRST {
+		@Override
+		public void validate(final CapturedInvocation invocation,
+							 final Pair<?, ?> pair,
+							 final SerializationContext serializationContext) {
+
+			final Document selected = ((FixtureCollection) pair.getKey()).findOne(obtainQuery(invocation));
+			final Object selectedId = selected == null ? null : selected.get(Operation.DEFAULT_KEY_ID);
+
+			if (!DocumentComparator.areEqual(selectedId, pair.getValue())) {
+				assertEquals(pair.getValue(), selectedId, "Unexpected first document selected from the fixtures");
+			}
+		}
+	},
+
+	APPLIED_UPDATE {
+		@Override
+		public void validate(final CapturedInvocation invocation,
+							 final Pair<?, ?> pair,
+							 final SerializationContext serializationContext) {
+
+			final Document after = applyUpdate(invocation, (Document) pair.getKey());
+
+			DocumentComparator.findDifference(after, pair.getValue()).ifPresent(ValidationType::failWithDifference);
+		}
+	},
+
+	APPLIED_UPDATE_FIELD {
+		@Override
+		public void validate(final CapturedInvocation invocation,
+							 final Pair<?, ?> pair,
+							 final SerializationContext serializationContext) {
+
+			final Pair<?, ?> field = (Pair<?, ?>) pair.getValue();
+			final Document after = applyUpdate(invocation, (Document) pair.getKey());
+
+			DocumentComparator.findDifference(String.valueOf(field.getKey()),
+											  obtainValue(after, field.getKey()),
+											  field.getValue())
+				.ifPresent(ValidationType::failWithDifference);
+		}
+	},
+
+	UPDATE_FILTER {
+		@Override
+		public void validate(final CapturedInvocation invocation,
+							 final Pair<?, ?> pair,
+							 final SerializationContext serializationContext) {
+
+			EQUALS.validate(obtainFilter(invocation), pair, serializationContext);
+		}
+	},
+
+	UPDATE_OPERATOR {
+		@Override
+		public void validate(final CapturedInvocation invocation,
+							 final Pair<?, ?> pair,
+							 final SerializationContext serializationContext) {
+
+			final Document fields = obtainUpdate(invocation).getOperator(String.valueOf(pair.getKey()));
+
+			EQUALS.validate(fields, (Pair<?, ?>) pair.getValue(), serializationContext);
+		}
+	},
+
+	ARRAY_FILTERS {
+		@Override
+		public void validate(final CapturedInvocation invocation,
+							 final Pair<?, ?> pair,
+							 final SerializationContext serializationContext) {
+
+			DocumentComparator.findDifference("arrayFilters", obtainUpdate(invocation).getArrayFilters(), pair.getKey())
+				.ifPresent(ValidationType::failWithDifference);
+		}
+	},
+
+	UPSERT {
+		@Override
+		public void validate(final CapturedInvocation invocation,
+							 final Pair<?, ?> pair,
+							 final SerializationContext serializationContext) {
+
+			final boolean upsert = invocation.hasReplacement()
+								   ? invocation.getReplacement().isUpsert()
+								   : obtainUpdate(invocation).isUpsert();
+
+			assertEquals(pair.getKey(), upsert, "Unexpected upsert flag");
+		}
+	},
+
+	SNAPSHOT {
+		@Override
+		public void validate(final Document document,
+							 final Pair<?, ?> pair,
+							 final SerializationContext serializationContext) {
+
+			final Document current = serializationContext.hasMongoConverter()
+									 ? (Document) serializationContext.getMongoConverter().convertToMongoType(document)
+									 : document;
+
+			SnapshotStore.compare(String.valueOf(pair.getKey()), current).ifPresent(ValidationType::failWithDifference);
+		}
 	};
 
-	public abstract void validate(Document document, Pair<?, ?> pair);
+	private static final String SORT_PATH = "$sort";
+	private static final String PROJECTION_PATH = "$projection";
+	private static final String HINT_PATH = "$hint";
+
+	private static final String NO_CAPTURED_QUERY = "The verified operation does not capture a Query";
+	private static final String NO_CAPTURED_UPDATE = "The verified operation does not capture an Update";
+	private static final String NOT_A_FIELD_VALIDATION = "%s does not validate a single field value";
+	private static final Set<ValidationType> FIELD_VALIDATIONS = EnumSet.of(EQUALS, NOT_NULL, NULL, COLLECTION_SIZE, JSON_BY_KEY);
+
+	private static Query obtainQuery(final CapturedInvocation invocation) {
+
+		if (!invocation.hasQuery()) {
+			return fail(NO_CAPTURED_QUERY);
+		}
+
+		return invocation.getQuery();
+	}
+
+	private static CapturedUpdate obtainUpdate(final CapturedInvocation invocation) {
+
+		if (!invocation.hasUpdate()) {
+			return fail(NO_CAPTURED_UPDATE);
+		}
+
+		return invocation.getUpdate();
+	}
+
+	/**
+	 * Returns the filter of the captured update or replacement, kept apart from the updated or replaced fields.
+	 */
+	private static Document obtainFilter(final CapturedInvocation invocation) {
+
+		return invocation.hasReplacement() ? invocation.getReplacement().getFilter() : obtainUpdate(invocation).getFilter();
+	}
+
+	/**
+	 * Applies the captured update to the before-image, which must match the captured filter for the update to happen.
+	 */
+	private static Document applyUpdate(final CapturedInvocation invocation, final Document before) {
+
+		final CapturedUpdate update = obtainUpdate(invocation);
+		final Document filter = update.getFilter();
+
+		assertTrue(QueryEvaluator.matches(before, filter), "The captured filter does not match the before-image");
+
+		return UpdateApplier.apply(before, update.getOperators(), filter, update.getArrayFilters());
+	}
+
+	private static Object parseJson(final String json) {
+
+		try {
+			return Document.parse(json);
+		} catch (final JsonParseException e) {
+			return json;
+		}
+	}
+
+	private static void failWithDifference(final DocumentDifference difference) {
+
+		assertionFailure()
+			.message(difference.getMessage())
+			.expected(difference.getExpected())
+			.actual(difference.getCurrent())
+			.buildAndThrow();
+	}
+
+	public void validate(final Document document, final Pair<?, ?> pair) {
+
+		this.validate(document, pair, SerializationContext.DEFAULT);
+	}
+
+	/**
+	 * Validates the captured document. Field validations check the value found at the path given as first pair
+	 * element. Validation types reading the captured {@link Query} (sort, projection, limit, ...) fail here, they need
+	 * the whole invocation.
+	 */
+	public void validate(final Document document, final Pair<?, ?> pair, final SerializationContext serializationContext) {
+
+		if (!this.isFieldValidation()) {
+			fail(String.format(NOT_A_FIELD_VALIDATION, this));
+		}
+
+		this.validateValue(pair.getKey() == null ? null : obtainValue(document, pair.getKey()), pair, serializationContext);
+	}
+
+	/**
+	 * Validates the value already resolved at the path given as first pair element, so several validations on the
+	 * same path share one lookup. Only field validations (EQUALS, NOT_NULL, NULL, COLLECTION_SIZE, JSON_BY_KEY)
+	 * support it.
+	 */
+	public void validateValue(final Object currentValue,
+							  final Pair<?, ?> pair,
+							  final SerializationContext serializationContext) {
+
+		fail(String.format(NOT_A_FIELD_VALIDATION, this));
+	}
+
+	public boolean isFieldValidation() {
+
+		return FIELD_VALIDATIONS.contains(this);
+	}
+
+	public void validate(final CapturedInvocation invocation, final Pair<?, ?> pair) {
+
+		this.validate(invocation, pair, SerializationContext.DEFAULT);
+	}
+
+	public void validate(final CapturedInvocation invocation,
+						 final Pair<?, ?> pair,
+						 final SerializationContext serializationContext) {
+
+		this.validate(invocation.getDocument(), pair, serializationContext);
+	}
 
 }
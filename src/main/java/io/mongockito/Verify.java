@@ -4,15 +4,24 @@ import static io.micrometer.common.util.StringUtils.isNotBlank;
 import static lombok.AccessLevel.PRIVATE;
 import static org.apache.commons.lang3.math.NumberUtils.INTEGER_ONE;
 import static org.apache.commons.lang3.math.NumberUtils.INTEGER_TWO;
+import static org.apache.commons.lang3.math.NumberUtils.INTEGER_ZERO;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.times;
 
+import io.mongockito.model.CapturedInvocation;
 import io.mongockito.model.ValidateField;
-import io.mongockito.util.json.JsonTool;
+import io.mongockito.model.ValidateItemField;
+import io.mongockito.util.document.AggregationUtility;
+import io.mongockito.util.document.FixtureCollection;
+import io.mongockito.util.document.QueryPlanChecker;
 import io.mongockito.util.json.model.Adapter;
+import io.mongockito.util.json.model.SerializationContext;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -21,23 +30,35 @@ import lombok.Value;
 import org.apache.commons.lang3.tuple.Pair;
 import org.bson.Document;
 import org.mockito.verification.VerificationMode;
+import org.springframework.data.domain.ScrollPosition.Direction;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.core.query.Query;
 
 @Value
 @RequiredArgsConstructor(access = PRIVATE)
 public class Verify {
 
-	private static final String MANDATORY_FIELD_NAME = "mandatory field: FieldName";
+	static final String MANDATORY_FIELD_NAME = "mandatory field: FieldName";
 	private static final String MANDATORY_OPERATION = "mandatory field: Operation";
-	private static final String MANDATORY_VALIDATION_TYPE = "mandatory field: Validation Type";
+	static final String MANDATORY_VALIDATION_TYPE = "mandatory field: Validation Type";
 	private static final String MANDATORY_CLASS = "mandatory field: Class";
-	private static final String MANDATORY_TYPE_ADAPTER = "mandatory field: Type Adapter";
-	private static final String MANDATORY_ADAPTER_CLASS = "mandatory field: Adapter Class";
-	private static final String MANDATORY_MONGO_TEMPLATE = "mandatory field: Mongo Template";
+	static final String MANDATORY_MONGO_TEMPLATE = "mandatory field: Mongo Template";
 	private static final String MANDATORY_EXPECTED_SIZE = "mandatory field: Map Size";
 	private static final String MANDATORY_FIELD_EXPECTED_VALUE = "mandatory field: expectedValue";
-	private static final String MANDATORY_FIELD_VERIFICATION_MODE = "mandatory field: Verification Mode";
-	private static final String MANDATORY_FIELD_COLLECTION_NAME = "mandatory field: CollectionCame";
+	private static final String MANDATORY_FIXTURES = "mandatory field: Fixture Collection";
+	private static final String MANDATORY_BEFORE_IMAGE = "mandatory field: Before Image";
+	private static final String MANDATORY_UPDATE_OPERATOR = "mandatory field: Update Operator";
+	private static final String MANDATORY_SNAPSHOT_NAME = "mandatory field: Snapshot Name";
+	static final String MANDATORY_FIELD_VERIFICATION_MODE = "mandatory field: Verification Mode";
+	static final String MANDATORY_FIELD_COLLECTION_NAME = "mandatory field: CollectionName";
+	private static final String INVALID_INVOCATION_INDEX = "Invocation index must be zero or positive";
+	private static final String INVALID_DOCUMENT_COUNT = "Document count must be zero or positive";
+	private static final String UNEXPECTED_DOCUMENT_COUNT = "Unexpected number of captured documents";
+	private static final String MANDATORY_INDEX_CHECK = "mandatory field: Index Check";
+	private static final String NO_CAPTURED_QUERY = "The verified operation does not capture a Query";
+	private static final String NO_CAPTURED_INVOCATION = "No invocation captured to validate";
 	public static final String TOO_MANY_PARAMETERS = "Too many parameters";
 
 	Operation operation;
@@ -47,16 +68,32 @@ public class Verify {
 	boolean allowNulls;
 	VerificationMode verificationMode;
 	String collectionName;
+	MongoConverter mongoConverter;
+	boolean templateConverter;
+	boolean everyInvocation;
+	Integer invocationIndex;
+	boolean distinctInvocations;
+	Integer documentCount;
+	IndexCheck indexCheck;
+	boolean noMatchingInvocation;
 
 	Verify(final OperationBuilder builder) {
 
 		this.operation = builder.operation;
 		this.clazz = builder.clazz;
 		this.fields = builder.fields;
-		this.adapters = builder.adapters;
-		this.allowNulls = builder.allowNulls;
+		this.adapters = builder.serializationSetup.getAdapters();
+		this.allowNulls = builder.serializationSetup.isAllowNulls();
 		this.verificationMode = builder.verificationMode;
 		this.collectionName = builder.collectionName;
+		this.mongoConverter = builder.serializationSetup.getMongoConverter();
+		this.templateConverter = builder.serializationSetup.isTemplateConverter();
+		this.everyInvocation = builder.everyInvocation;
+		this.invocationIndex = builder.invocationIndex;
+		this.distinctInvocations = builder.distinctInvocations;
+		this.documentCount = builder.documentCount;
+		this.indexCheck = builder.indexCheck;
+		this.noMatchingInvocation = builder.noMatchingInvocation;
 	}
 
 	public static OperationBuilder that() {
@@ -64,16 +101,52 @@ public class Verify {
 		return new OperationBuilder();
 	}
 
+	/**
+	 * Fails when any database operation was called on the template, e.g. to prove that a read was served from a cache.
+	 * Converter and collection name accessors are ignored.
+	 */
+	public static void noInteractions(final MongoTemplate mongoTemplate) {
+
+		assertNotNull(mongoTemplate, MANDATORY_MONGO_TEMPLATE);
+		InteractionValidator.validateNoInteractions(mongoTemplate);
+	}
+
+	public static void noInteractions(final ReactiveMongoTemplate reactiveMongoTemplate) {
+
+		assertNotNull(reactiveMongoTemplate, MANDATORY_MONGO_TEMPLATE);
+		InteractionValidator.validateNoInteractions(reactiveMongoTemplate);
+	}
+
+	/**
+	 * Fails when a database operation was called on the template and was not checked by a previous {@code run(...)}.
+	 */
+	public static void noMoreInteractions(final MongoTemplate mongoTemplate) {
+
+		assertNotNull(mongoTemplate, MANDATORY_MONGO_TEMPLATE);
+		InteractionValidator.validateNoMoreInteractions(mongoTemplate);
+	}
+
+	public static void noMoreInteractions(final ReactiveMongoTemplate reactiveMongoTemplate) {
+
+		assertNotNull(reactiveMongoTemplate, MANDATORY_MONGO_TEMPLATE);
+		InteractionValidator.validateNoMoreInteractions(reactiveMongoTemplate);
+	}
+
 
 	public static class OperationBuilder {
 
 		Operation operation;
 		Class<?> clazz;
 		List<ValidateField> fields;
-		List<Adapter> adapters;
-		boolean allowNulls = true;
+		final SerializationSetup serializationSetup = new SerializationSetup();
 		VerificationMode verificationMode = times(1);
 		String collectionName;
+		boolean everyInvocation;
+		Integer invocationIndex;
+		boolean distinctInvocations;
+		Integer documentCount;
+		IndexCheck indexCheck;
+		boolean noMatchingInvocation;
 
 		OperationBuilder() {
 
@@ -116,6 +189,76 @@ public class Verify {
 			return this;
 		}
 
+		/**
+		 * Applies the validations to the document of every verified invocation instead of only the last one.
+		 */
+		public OperationBuilder validatesEveryInvocation() {
+
+			this.everyInvocation = true;
+			this.invocationIndex = null;
+			return this;
+		}
+
+		/**
+		 * Applies the validations to the document of the verified invocation at the given position, starting at zero.
+		 */
+		public OperationBuilder validatesInvocation(final int index) {
+
+			assertTrue(index >= 0, INVALID_INVOCATION_INDEX);
+
+			this.everyInvocation = false;
+			this.invocationIndex = index;
+			return this;
+		}
+
+		/**
+		 * Checks that no two verified invocations captured the same document.
+		 */
+		public OperationBuilder validatesDistinctInvocations() {
+
+			this.distinctInvocations = true;
+			return this;
+		}
+
+		/**
+		 * Turns the validations into a forbidden pattern: fails when any invocation of the operation passes all of them,
+		 * e.g. a find with a given id that should have been served from a cache. Every invocation is captured, so the
+		 * verification mode is not used.
+		 */
+		public OperationBuilder validatesNoMatchingInvocation() {
+
+			this.noMatchingInvocation = true;
+			return this;
+		}
+
+		/**
+		 * Checks the number of captured documents: one per element for batch inserts, one per invocation otherwise.
+		 */
+		public OperationBuilder validatesDocumentCount(final int documentCount) {
+
+			assertTrue(documentCount >= 0, INVALID_DOCUMENT_COUNT);
+
+			this.documentCount = documentCount;
+			return this;
+		}
+
+		/**
+		 * Checks that every captured query can be served by an index declared on {@code ofClass} with {@code @Indexed},
+		 * {@code @CompoundIndex} or {@code @TextIndexed}, following the equality-sort-range rule. Fails otherwise.
+		 */
+		public OperationBuilder validatesIndexUsage() {
+
+			return this.validatesIndexUsage(IndexCheck.FAIL);
+		}
+
+		public OperationBuilder validatesIndexUsage(final IndexCheck indexCheck) {
+
+			assertNotNull(indexCheck, MANDATORY_INDEX_CHECK);
+
+			this.indexCheck = indexCheck;
+			return this;
+		}
+
 		public <K, V> OperationBuilder validatesEquals(final K fieldName,
 													   final V expectedValue) {
 
@@ -162,6 +305,232 @@ public class Verify {
 			return this.addValidation(ValidationType.JSON_BY_KEY, Pair.of(fieldName, expectedValue));
 		}
 
+		/**
+		 * Checks that the aggregation pipeline contains these stages in this order, other stages may sit in between.
+		 */
+		public OperationBuilder validatesStageOrder(final String... stages) {
+
+			assertNotNull(stages, MANDATORY_FIELD_NAME);
+
+			return this.addValidation(ValidationType.STAGE_ORDER, List.of(stages));
+		}
+
+		public OperationBuilder validatesMatchPredicate(final Object predicate) {
+
+			assertNotNull(predicate, MANDATORY_FIELD_EXPECTED_VALUE);
+
+			return this.addValidation(ValidationType.MATCH_PREDICATE, predicate);
+		}
+
+		public OperationBuilder validatesProjectFields(final String... fields) {
+
+			assertNotNull(fields, MANDATORY_FIELD_NAME);
+
+			return this.addValidation(ValidationType.PROJECT_FIELDS, List.of(fields));
+		}
+
+		/**
+		 * Checks the sort of the captured Query, key order included. Accepts a Sort, a Document or a JSON string.
+		 */
+		public OperationBuilder validatesSort(final Object sort) {
+
+			assertNotNull(sort, MANDATORY_FIELD_EXPECTED_VALUE);
+
+			return this.addValidation(ValidationType.SORT, sort);
+		}
+
+		/**
+		 * Checks the projection of the captured Query. Accepts a Document, a JSON string or the included field names.
+		 */
+		public OperationBuilder validatesProjection(final Object fields) {
+
+			assertNotNull(fields, MANDATORY_FIELD_EXPECTED_VALUE);
+
+			return this.addValidation(ValidationType.PROJECTION, fields);
+		}
+
+		public OperationBuilder validatesLimit(final int limit) {
+
+			return this.addValidation(ValidationType.LIMIT, limit);
+		}
+
+		public OperationBuilder validatesSkip(final long skip) {
+
+			return this.addValidation(ValidationType.SKIP, skip);
+		}
+
+		/**
+		 * Checks the hint of the captured Query, either an index name or an index document (Document or JSON string).
+		 */
+		public OperationBuilder validatesHint(final Object hint) {
+
+			assertNotNull(hint, MANDATORY_FIELD_EXPECTED_VALUE);
+
+			return this.addValidation(ValidationType.HINT, hint);
+		}
+
+		public OperationBuilder validatesCursorBatchSize(final int cursorBatchSize) {
+
+			return this.addValidation(ValidationType.CURSOR_BATCH_SIZE, cursorBatchSize);
+		}
+
+		public OperationBuilder validatesMaxTimeMsec(final long maxTimeMsec) {
+
+			return this.addValidation(ValidationType.MAX_TIME_MSEC, maxTimeMsec);
+		}
+
+		/**
+		 * Checks that the sort of the captured Query ends with {@code _id}, so documents with equal sort values keep a
+		 * stable order across cursors and pages.
+		 */
+		public OperationBuilder validatesStableSort() {
+
+			return this.validatesStableSort(Operation.DEFAULT_KEY_ID);
+		}
+
+		public OperationBuilder validatesStableSort(final String uniqueField) {
+
+			return this.addValidation(ValidationType.STABLE_SORT, uniqueField);
+		}
+
+		/**
+		 * Checks that the captured Query scrolls forward by keyset, sorted and without skip.
+		 */
+		public OperationBuilder validatesKeysetScroll() {
+
+			return this.validatesKeysetScroll(Direction.FORWARD);
+		}
+
+		public OperationBuilder validatesKeysetScroll(final Direction direction) {
+
+			return this.addValidation(ValidationType.KEYSET_SCROLL, direction);
+		}
+
+		/**
+		 * Checks the {@code returnNew} option of FIND_AND_MODIFY and FIND_AND_REPLACE, {@code false} when no options were
+		 * passed.
+		 */
+		public OperationBuilder validatesReturnNew(final boolean returnNew) {
+
+			return this.validatesEquals(Operation.OPTIONS_KEY + "." + Operation.RETURN_NEW, returnNew);
+		}
+
+		/**
+		 * Checks the {@code upsert} option of FIND_AND_MODIFY and FIND_AND_REPLACE, {@code false} when no options were
+		 * passed.
+		 */
+		public OperationBuilder validatesUpsertOption(final boolean upsert) {
+
+			return this.validatesEquals(Operation.OPTIONS_KEY + "." + Operation.UPSERT_OPTION, upsert);
+		}
+
+		/**
+		 * Replays the filter, sort, skip, limit and projection of the captured Query on the fixtures and checks the
+		 * {@code _id} of the selected documents, in order.
+		 */
+		public OperationBuilder validatesSelects(final FixtureCollection fixtures, final Object... expectedIds) {
+
+			assertNotNull(fixtures, MANDATORY_FIXTURES);
+			assertNotNull(expectedIds, MANDATORY_FIELD_EXPECTED_VALUE);
+
+			return this.addValidation(ValidationType.SELECTS, Pair.of(fixtures, Arrays.asList(expectedIds)));
+		}
+
+		/**
+		 * Replays the captured Query on the fixtures and checks the {@code _id} of the first selected document,
+		 * {@code null} when none should match.
+		 */
+		public OperationBuilder validatesSelectsFirst(final FixtureCollection fixtures, final Object expectedId) {
+
+			assertNotNull(fixtures, MANDATORY_FIXTURES);
+
+			return this.addValidation(ValidationType.SELECTS_FIRST, Pair.of(fixtures, expectedId));
+		}
+
+		/**
+		 * Applies the captured update (UPDATE_FIRST, UPDATE_MULTI, UPSERT, FIND_AND_MODIFY) to the before-image and
+		 * compares the resulting after-image with the expected document, unlike the flattened document where an
+		 * {@code $inc} of 1 reads as a value of 1.
+		 */
+		public OperationBuilder validatesAppliedUpdate(final Document before, final Document expectedAfter) {
+
+			assertNotNull(before, MANDATORY_BEFORE_IMAGE);
+			assertNotNull(expectedAfter, MANDATORY_FIELD_EXPECTED_VALUE);
+
+			return this.addValidation(ValidationType.APPLIED_UPDATE, Pair.of(before, expectedAfter));
+		}
+
+		/**
+		 * Applies the captured update to the before-image and checks a single field of the after-image, e.g. a counter.
+		 */
+		public OperationBuilder validatesAppliedUpdate(final Document before,
+													   final String fieldName,
+													   final Object expectedValue) {
+
+			assertNotNull(before, MANDATORY_BEFORE_IMAGE);
+			assertNotNull(fieldName, MANDATORY_FIELD_NAME);
+
+			return this.addValidation(ValidationType.APPLIED_UPDATE_FIELD,
+									  Pair.of(before, Pair.of(fieldName, expectedValue)));
+		}
+
+		/**
+		 * Checks a field of the captured update or replacement filter only, never mistaken for an updated or replaced
+		 * field with the same name.
+		 */
+		public OperationBuilder validatesFilter(final String fieldName, final Object expectedValue) {
+
+			assertNotNull(fieldName, MANDATORY_FIELD_NAME);
+
+			return this.addValidation(ValidationType.UPDATE_FILTER, Pair.of(fieldName, expectedValue));
+		}
+
+		/**
+		 * Checks a field of a single update operator, e.g. {@code validatesUpdateOperator("$inc", "counter", 1)}.
+		 */
+		public OperationBuilder validatesUpdateOperator(final String operator,
+														final String fieldName,
+														final Object expectedValue) {
+
+			assertNotNull(operator, MANDATORY_UPDATE_OPERATOR);
+			assertNotNull(fieldName, MANDATORY_FIELD_NAME);
+
+			return this.addValidation(ValidationType.UPDATE_OPERATOR,
+									  Pair.of(operator, Pair.of(fieldName, expectedValue)));
+		}
+
+		/**
+		 * Checks the array filters of the captured update, in order. Accepts Criteria, Documents or JSON strings.
+		 */
+		public OperationBuilder validatesArrayFilters(final Object... arrayFilters) {
+
+			assertNotNull(arrayFilters, MANDATORY_FIELD_EXPECTED_VALUE);
+
+			return this.addValidation(ValidationType.ARRAY_FILTERS,
+									  Arrays.stream(arrayFilters).map(AggregationUtility::toPredicate).toList());
+		}
+
+		/**
+		 * Checks whether the captured update inserts when nothing matches: always for UPSERT, as configured in the
+		 * options for FIND_AND_MODIFY and FIND_AND_REPLACE, never for UPDATE_FIRST and UPDATE_MULTI.
+		 */
+		public OperationBuilder validatesUpsert(final boolean upsert) {
+
+			return this.addValidation(ValidationType.UPSERT, upsert);
+		}
+
+		/**
+		 * Compares the captured document with the snapshot {@code name}, a canonical Extended JSON file under
+		 * {@code src/test/resources/snapshots}. The snapshot is written when missing, or rewritten when the system
+		 * property {@code mongockito.snapshot.update} is {@code true}.
+		 */
+		public OperationBuilder validatesSnapshot(final String name) {
+
+			assertNotNull(name, MANDATORY_SNAPSHOT_NAME);
+
+			return this.addValidation(ValidationType.SNAPSHOT, name);
+		}
+
 		public OperationBuilder validates(final ValidationType validationType, Object... values) {
 
 			assertNotNull(values, MANDATORY_FIELD_NAME);
@@ -195,17 +564,25 @@ public class Verify {
 
 		public OperationBuilder allowSerializeNulls(final boolean allow) {
 
-			this.allowNulls = allow;
+			this.serializationSetup.allowSerializeNulls(allow);
 			return this;
 		}
 
 		public OperationBuilder addAdapter(final Type typeClass, final Object typeAdapter) {
 
-			assertNotNull(typeClass, MANDATORY_ADAPTER_CLASS);
-			assertNotNull(typeAdapter, MANDATORY_TYPE_ADAPTER);
+			this.serializationSetup.addAdapter(typeClass, typeAdapter);
+			return this;
+		}
+
+		public OperationBuilder usingMongoConverter(final MongoConverter mongoConverter) {
 
-			this.adapters = Optional.ofNullable(this.adapters).orElseGet(ArrayList::new);
-			this.adapters.add(Adapter.builder().typeClass(typeClass).typeAdapter(typeAdapter).build());
+			this.serializationSetup.useMongoConverter(mongoConverter);
+			return this;
+		}
+
+		public OperationBuilder usingTemplateConverter() {
+
+			this.serializationSetup.useTemplateConverter();
 			return this;
 		}
 
@@ -213,17 +590,84 @@ public class Verify {
 
 			this.validateAndCompleteBuilder(mongoTemplate);
 
-			JsonTool.addAdapters(this.adapters);
-			JsonTool.allowSerializeNulls(this.allowNulls);
+			final SerializationContext serializationContext =
+				this.serializationSetup.toSerializationContext(mongoTemplate::getConverter);
+			final List<Document> documents = this.execute(mongoTemplate, serializationContext);
+
+			this.validate(documents, serializationContext);
+		}
+
+		public void run(final ReactiveMongoTemplate reactiveMongoTemplate) {
+
+			this.validateAndCompleteBuilder(reactiveMongoTemplate);
+
+			final SerializationContext serializationContext =
+				this.serializationSetup.toSerializationContext(reactiveMongoTemplate::getConverter);
+			final List<Document> documents = this.execute(reactiveMongoTemplate, serializationContext);
+
+			this.validate(documents, serializationContext);
+		}
+
+		private void validate(final List<Document> documents, final SerializationContext serializationContext) {
+
+			if (this.documentCount != null) {
+				assertEquals(this.documentCount, documents.size(), UNEXPECTED_DOCUMENT_COUNT);
+			}
+
+			if (this.distinctInvocations) {
+				ItemValidator.validateDistinct(documents);
+			}
+
+			if (this.indexCheck != null) {
+				this.validateIndexUsage(documents);
+			}
+
+			if (this.noMatchingInvocation) {
+				ItemValidator.validateNoMatch(documents, this.obtainItemFields(), serializationContext);
+				return;
+			}
+
+			if (this.everyInvocation || this.invocationIndex != null) {
+				ItemValidator.validate(documents, this.obtainItemFields(), serializationContext);
+				return;
+			}
+
+			// the verification mode already passed, so nothing captured only needs a check when fields must be validated
+			if (documents.isEmpty()) {
+				assertTrue(this.fields.isEmpty(), NO_CAPTURED_INVOCATION);
+				return;
+			}
+
+			final CapturedInvocation invocation = CapturedDocuments.lastInvocation(documents);
+			ValidationPlan.compile(this.fields, serializationContext).validate(invocation, serializationContext);
+		}
+
+		private void validateIndexUsage(final List<Document> documents) {
+
+			final List<Document> indexes = QueryPlanChecker.obtainIndexKeys(this.clazz);
+
+			for (int index = 0; index < documents.size(); index++) {
+				final CapturedInvocation invocation = CapturedDocuments.invocation(documents, index);
+				assertTrue(invocation.hasQuery(), NO_CAPTURED_QUERY);
 
-			final Document document = this.execute(mongoTemplate);
+				final Query query = invocation.getQuery();
+				QueryPlanChecker.check(query.getQueryObject(), query.getSortObject(), indexes, this.clazz)
+					.ifPresent(this.indexCheck::report);
+			}
+		}
 
-			this.fields.forEach(field -> field.getValidationType().validate(document, field.getField()));
+		private List<ValidateItemField> obtainItemFields() {
 
-			JsonTool.reset();
+			return this.fields.stream()
+				.map(field -> ValidateItemField.builder()
+					.index(this.invocationIndex)
+					.validationType(field.getValidationType())
+					.field(field.getField())
+					.build())
+				.toList();
 		}
 
-		private void validateAndCompleteBuilder(final MongoTemplate mongoTemplate) {
+		private void validateAndCompleteBuilder(final Object mongoTemplate) {
 
 			assertNotNull(mongoTemplate, MANDATORY_MONGO_TEMPLATE);
 			assertNotNull(this.operation, MANDATORY_OPERATION);
@@ -233,19 +677,44 @@ public class Verify {
 				this.verificationMode = times(INTEGER_ONE);
 			}
 
+			if (this.noMatchingInvocation) {
+				this.verificationMode = atLeast(INTEGER_ZERO);
+			}
+
 			if (this.fields == null) {
 				this.fields = Collections.emptyList();
 			}
 		}
 
-		private Document execute(final MongoTemplate mongoTemplate) {
+		private List<Document> execute(final MongoTemplate mongoTemplate,
+									   final SerializationContext serializationContext) {
 
 			if (isNotBlank(this.collectionName)) {
-				return this.operation.execute(mongoTemplate, this.clazz, this.verificationMode, this.collectionName);
+				return this.operation.executeAll(mongoTemplate,
+											     this.clazz,
+											     this.verificationMode,
+											     this.collectionName,
+											     serializationContext);
 			}
 
-			return this.operation.execute(mongoTemplate, this.clazz, this.verificationMode);
+			return this.operation.executeAll(mongoTemplate, this.clazz, this.verificationMode, serializationContext);
+
+		}
+
+		private List<Document> execute(final ReactiveMongoTemplate reactiveMongoTemplate,
+									   final SerializationContext serializationContext) {
+
+			final ReactiveOperation reactiveOperation = ReactiveOperation.of(this.operation);
+
+			if (isNotBlank(this.collectionName)) {
+				return reactiveOperation.executeAll(reactiveMongoTemplate,
+												    this.clazz,
+												    this.verificationMode,
+												    this.collectionName,
+												    serializationContext);
+			}
 
+			return reactiveOperation.executeAll(reactiveMongoTemplate, this.clazz, this.verificationMode, serializationContext);
 		}
 	}
 }
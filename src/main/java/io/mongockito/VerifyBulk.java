@@ -0,0 +1,262 @@
+package io.mongockito;
+
+import static io.micrometer.common.util.StringUtils.isNotBlank;
+import static lombok.AccessLevel.PRIVATE;
+import static org.apache.commons.lang3.math.NumberUtils.INTEGER_ONE;
+import static org.apache.commons.lang3.math.NumberUtils.INTEGER_TWO;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import io.mongockito.model.ValidateItemField;
+import io.mongockito.util.json.model.Adapter;
+import io.mongockito.util.json.model.SerializationContext;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import org.apache.commons.lang3.tuple.Pair;
+import org.bson.Document;
+import org.mockito.ArgumentCaptor;
+import org.mockito.verification.VerificationMode;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+
+@Value
+@RequiredArgsConstructor(access = PRIVATE)
+public class VerifyBulk {
+
+	private static final String MANDATORY_OPERATION = "mandatory field: Bulk Operation";
+	private static final String MANDATORY_CLASS_OR_COLLECTION = "mandatory field: Class or CollectionName";
+	private static final String MANDATORY_BULK_OPERATIONS = "mandatory field: Bulk Operations";
+	private static final String MANDATORY_BULK_MODE = "mandatory field: Bulk Mode";
+	private static final String INVALID_ITEM_INDEX = "Item index must be zero or positive";
+	private static final String INVALID_BATCH_SIZE = "Batch size must be zero or positive";
+	private static final String UNEXPECTED_BULK_MODE = "Unexpected bulk mode";
+	private static final String UNEXPECTED_BATCH_SIZE = "Unexpected number of bulk items";
+
+	BulkOperation operation;
+	Class<?> clazz;
+	String collectionName;
+	BulkMode bulkMode;
+	Integer batchSize;
+	List<ValidateItemField> fields;
+	List<Adapter> adapters;
+	boolean allowNulls;
+	VerificationMode verificationMode;
+	MongoConverter mongoConverter;
+	boolean templateConverter;
+
+	VerifyBulk(final BulkOperationBuilder builder) {
+
+		this.operation = builder.operation;
+		this.clazz = builder.clazz;
+		this.collectionName = builder.collectionName;
+		this.bulkMode = builder.bulkMode;
+		this.batchSize = builder.batchSize;
+		this.fields = builder.fields;
+		this.adapters = builder.serializationSetup.getAdapters();
+		this.allowNulls = builder.serializationSetup.isAllowNulls();
+		this.verificationMode = builder.verificationMode;
+		this.mongoConverter = builder.serializationSetup.getMongoConverter();
+		this.templateConverter = builder.serializationSetup.isTemplateConverter();
+	}
+
+	public static BulkOperationBuilder that() {
+
+		return new BulkOperationBuilder();
+	}
+
+
+	public static class BulkOperationBuilder {
+
+		BulkOperation operation;
+		Class<?> clazz;
+		String collectionName;
+		BulkMode bulkMode;
+		Integer batchSize;
+		List<ValidateItemField> fields;
+		final SerializationSetup serializationSetup = new SerializationSetup();
+		VerificationMode verificationMode = times(1);
+
+		BulkOperationBuilder() {
+
+		}
+
+		public VerifyBulk build() {
+
+			return new VerifyBulk(this);
+		}
+
+		public BulkOperationBuilder thisOperation(final BulkOperation operation) {
+
+			assertNotNull(operation, MANDATORY_OPERATION);
+
+			this.operation = operation;
+			return this;
+		}
+
+		public BulkOperationBuilder ofClass(final Class<?> clazz) {
+
+			assertNotNull(clazz, MANDATORY_CLASS_OR_COLLECTION);
+
+			this.clazz = clazz;
+			return this;
+		}
+
+		public BulkOperationBuilder fromCollection(final String collectionName) {
+
+			assertNotNull(collectionName, Verify.MANDATORY_FIELD_COLLECTION_NAME);
+
+			this.collectionName = collectionName;
+			return this;
+		}
+
+		public BulkOperationBuilder addVerificationMode(final VerificationMode verificationMode) {
+
+			assertNotNull(verificationMode, Verify.MANDATORY_FIELD_VERIFICATION_MODE);
+
+			this.verificationMode = verificationMode;
+			return this;
+		}
+
+		public BulkOperationBuilder validatesBulkMode(final BulkMode bulkMode) {
+
+			assertNotNull(bulkMode, MANDATORY_BULK_MODE);
+
+			this.bulkMode = bulkMode;
+			return this;
+		}
+
+		public BulkOperationBuilder validatesBatchSize(final int batchSize) {
+
+			assertTrue(batchSize >= 0, INVALID_BATCH_SIZE);
+
+			this.batchSize = batchSize;
+			return this;
+		}
+
+		public BulkOperationBuilder validatesEach(final ValidationType validationType, final Object... values) {
+
+			return this.addValidation(null, validationType, values);
+		}
+
+		public BulkOperationBuilder validatesItem(final int index,
+												  final ValidationType validationType,
+												  final Object... values) {
+
+			assertTrue(index >= 0, INVALID_ITEM_INDEX);
+
+			return this.addValidation(index, validationType, values);
+		}
+
+		private BulkOperationBuilder addValidation(final Integer index,
+												   final ValidationType validationType,
+												   final Object... values) {
+
+			assertNotNull(validationType, Verify.MANDATORY_VALIDATION_TYPE);
+			assertNotNull(values, Verify.MANDATORY_FIELD_NAME);
+			assertTrue(values.length > 0, Verify.MANDATORY_FIELD_NAME);
+			assertTrue(values.length <= INTEGER_TWO, Verify.TOO_MANY_PARAMETERS);
+			assertNotNull(values[0], Verify.MANDATORY_FIELD_NAME);
+
+			final Pair<?, ?> field = values.length == INTEGER_ONE ? Pair.of(values[0], null) : Pair.of(values[0], values[1]);
+
+			this.fields = Optional.ofNullable(this.fields).orElseGet(ArrayList::new);
+			this.fields.add(ValidateItemField.builder()
+								.index(index)
+								.validationType(validationType)
+								.field(field)
+								.build());
+			return this;
+		}
+
+		public BulkOperationBuilder allowSerializeNulls(final boolean allow) {
+
+			this.serializationSetup.allowSerializeNulls(allow);
+			return this;
+		}
+
+		public BulkOperationBuilder addAdapter(final Type typeClass, final Object typeAdapter) {
+
+			this.serializationSetup.addAdapter(typeClass, typeAdapter);
+			return this;
+		}
+
+		public BulkOperationBuilder usingMongoConverter(final MongoConverter mongoConverter) {
+
+			this.serializationSetup.useMongoConverter(mongoConverter);
+			return this;
+		}
+
+		public BulkOperationBuilder usingTemplateConverter() {
+
+			this.serializationSetup.useTemplateConverter();
+			return this;
+		}
+
+		/**
+		 * Verifies that {@code bulkOps(...)} was requested on the template and executed on the returned bulk mock, then
+		 * validates the items queued on it with the configured operation.
+		 */
+		public void run(final MongoTemplate mongoTemplate, final BulkOperations bulkOperations) {
+
+			this.validateAndCompleteBuilder(mongoTemplate, bulkOperations);
+
+			this.verifyBulkMode(mongoTemplate);
+			verify(bulkOperations, this.verificationMode).execute();
+
+			final SerializationContext serializationContext =
+				this.serializationSetup.toSerializationContext(mongoTemplate::getConverter);
+			final List<Document> documents = this.operation.execute(bulkOperations, this.clazz, serializationContext);
+
+			if (this.batchSize != null) {
+				assertEquals(this.batchSize, documents.size(), UNEXPECTED_BATCH_SIZE);
+			}
+
+			ItemValidator.validate(documents, this.fields, serializationContext);
+		}
+
+		private void verifyBulkMode(final MongoTemplate mongoTemplate) {
+
+			final ArgumentCaptor<BulkMode> bulkModeCaptor = ArgumentCaptor.forClass(BulkMode.class);
+
+			if (this.clazz == null) {
+				verify(mongoTemplate, this.verificationMode).bulkOps(bulkModeCaptor.capture(), eq(this.collectionName));
+			} else if (isNotBlank(this.collectionName)) {
+				verify(mongoTemplate, this.verificationMode)
+					.bulkOps(bulkModeCaptor.capture(), eq(this.clazz), eq(this.collectionName));
+			} else {
+				verify(mongoTemplate, this.verificationMode).bulkOps(bulkModeCaptor.capture(), eq(this.clazz));
+			}
+
+			if (this.bulkMode != null) {
+				bulkModeCaptor.getAllValues().forEach(mode -> assertEquals(this.bulkMode, mode, UNEXPECTED_BULK_MODE));
+			}
+		}
+
+		private void validateAndCompleteBuilder(final MongoTemplate mongoTemplate, final BulkOperations bulkOperations) {
+
+			assertNotNull(mongoTemplate, Verify.MANDATORY_MONGO_TEMPLATE);
+			assertNotNull(bulkOperations, MANDATORY_BULK_OPERATIONS);
+			assertNotNull(this.operation, MANDATORY_OPERATION);
+			assertTrue(this.clazz != null || isNotBlank(this.collectionName), MANDATORY_CLASS_OR_COLLECTION);
+
+			if (this.verificationMode == null) {
+				this.verificationMode = times(INTEGER_ONE);
+			}
+
+			if (this.fields == null) {
+				this.fields = Collections.emptyList();
+			}
+		}
+	}
+}
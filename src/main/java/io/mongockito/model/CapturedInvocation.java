@@ -0,0 +1,54 @@
+package io.mongockito.model;
+
+import lombok.Value;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.query.Query;
+
+@Value
+public class CapturedInvocation {
+
+	Document document;
+	/** Captured {@link Query} as passed by the code under test, {@code null} when the operation takes no query. */
+	Query query;
+	/** Captured update split in its parts, {@code null} when the operation takes none. */
+	CapturedUpdate update;
+	/** Captured replacement split in its parts, {@code null} when the operation takes none. */
+	CapturedReplacement replacement;
+
+	public CapturedInvocation(final Document document,
+							  final Query query,
+							  final CapturedUpdate update,
+							  final CapturedReplacement replacement) {
+
+		this.document = document;
+		this.query = query;
+		this.update = update;
+		this.replacement = replacement;
+	}
+
+	public CapturedInvocation(final Document document, final Query query, final CapturedUpdate update) {
+
+		this(document, query, update, null);
+	}
+
+	public CapturedInvocation(final Document document, final Query query) {
+
+		this(document, query, null);
+	}
+
+	public boolean hasQuery() {
+
+		return this.query != null;
+	}
+
+	public boolean hasUpdate() {
+
+		return this.update != null;
+	}
+
+	public boolean hasReplacement() {
+
+		return this.replacement != null;
+	}
+
+}
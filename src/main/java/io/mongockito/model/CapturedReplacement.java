@@ -0,0 +1,23 @@
+package io.mongockito.model;
+
+import lombok.Value;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.query.Query;
+
+/**
+ * Captured replacement split in its parts: filter, replacement document and upsert flag, so filter fields and replaced
+ * fields never collide.
+ */
+@Value
+public class CapturedReplacement {
+
+	Query query;
+	Document replacement;
+	boolean upsert;
+
+	public Document getFilter() {
+
+		return this.query.getQueryObject();
+	}
+
+}
@@ -0,0 +1,47 @@
+package io.mongockito.model;
+
+import java.util.List;
+import lombok.Value;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.UpdateDefinition;
+import org.springframework.data.mongodb.core.query.UpdateDefinition.ArrayFilter;
+
+/**
+ * Captured update split in its parts: filter, update operators, array filters and upsert flag. Only the captured
+ * arguments are kept, each part is rendered from them when read, so query fields and updated fields never collide.
+ */
+@Value
+public class CapturedUpdate {
+
+	Query query;
+	UpdateDefinition update;
+	boolean upsert;
+
+	public Document getFilter() {
+
+		return this.query.getQueryObject();
+	}
+
+	/**
+	 * Returns the update document, one entry per operator, e.g. <code>{$set: {...}, $inc: {...}}</code>.
+	 */
+	public Document getOperators() {
+
+		return this.update.getUpdateObject();
+	}
+
+	/**
+	 * Returns the fields of a single operator, empty when the update does not use it.
+	 */
+	public Document getOperator(final String operator) {
+
+		return this.getOperators().get(operator) instanceof final Document fields ? fields : new Document();
+	}
+
+	public List<Document> getArrayFilters() {
+
+		return this.update.getArrayFilters().stream().map(ArrayFilter::asDocument).toList();
+	}
+
+}
@@ -0,0 +1,14 @@
+package io.mongockito.model;
+
+import lombok.Value;
+
+/**
+ * Expected value already serialized to its BSON form, so JSON and JSON_BY_KEY compare it directly instead of
+ * serializing the expected object again on every validated item.
+ */
+@Value
+public class SerializedValue {
+
+	Object value;
+
+}
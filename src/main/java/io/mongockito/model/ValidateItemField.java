@@ -0,0 +1,22 @@
+package io.mongockito.model;
+
+import io.mongockito.ValidationType;
+import lombok.Builder;
+import lombok.Value;
+import org.apache.commons.lang3.tuple.Pair;
+
+@Value
+@Builder
+public class ValidateItemField {
+
+	/** Position of the validated item, {@code null} when the validation applies to every item. */
+	Integer index;
+	ValidationType validationType;
+	Pair<?, ?> field;
+
+	public boolean isEveryItem() {
+
+		return this.index == null;
+	}
+
+}
@@ -0,0 +1,133 @@
+package io.mongockito.util.document;
+
+import io.mongockito.util.json.model.SerializationContext;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.experimental.UtilityClass;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperationContext;
+import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
+import org.springframework.data.mongodb.core.aggregation.TypeBasedAggregationOperationContext;
+import org.springframework.data.mongodb.core.aggregation.TypedAggregation;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.query.CriteriaDefinition;
+
+@UtilityClass
+public class AggregationUtility {
+
+	public static final String PIPELINE = "pipeline";
+	public static final String BATCH_SIZE = "batchSize";
+	public static final String MATCH_STAGE = "$match";
+	public static final String PROJECT_STAGE = "$project";
+	private static final String CURSOR = "cursor";
+
+	/**
+	 * Renders the aggregation as <code>{pipeline: [stages], allowDiskUse, explain, batchSize, ...}</code>, stages are
+	 * rendered with {@link Aggregation#DEFAULT_CONTEXT} and options are flattened next to the pipeline.
+	 */
+	public static Document toDocument(final Aggregation aggregation) {
+
+		return toDocument(aggregation, SerializationContext.DEFAULT);
+	}
+
+	/**
+	 * Same as {@link #toDocument(Aggregation)}, but a {@link TypedAggregation} is rendered with the mapping of its
+	 * input type when the context has a {@link MongoConverter}, so {@code @Field} renames read as they are sent.
+	 */
+	public static Document toDocument(final Aggregation aggregation, final SerializationContext serializationContext) {
+
+		final AggregationOptions options = aggregation.getOptions();
+		final Document document = new Document(PIPELINE, aggregation.toPipeline(obtainOperationContext(aggregation,
+																										 serializationContext)));
+
+		document.putAll(options.toDocument());
+		document.remove(CURSOR);
+
+		if (options.getCursorBatchSize() != null) {
+			document.put(BATCH_SIZE, options.getCursorBatchSize());
+		}
+
+		return document;
+	}
+
+	private static AggregationOperationContext obtainOperationContext(final Aggregation aggregation,
+																	  final SerializationContext serializationContext) {
+
+		if (aggregation instanceof final TypedAggregation<?> typedAggregation && serializationContext.hasMongoConverter()) {
+			final MongoConverter converter = serializationContext.getMongoConverter();
+
+			return new TypeBasedAggregationOperationContext(typedAggregation.getInputType(), converter.getMappingContext(),
+															new QueryMapper(converter));
+		}
+
+		return Aggregation.DEFAULT_CONTEXT;
+	}
+
+	public static List<Document> obtainStages(final Document document) {
+
+		final Object pipeline = document.get(PIPELINE);
+
+		if (!(pipeline instanceof final List<?> stages)) {
+			return Collections.emptyList();
+		}
+
+		return stages.stream()
+			.filter(Document.class::isInstance)
+			.map(Document.class::cast)
+			.toList();
+	}
+
+	public static List<String> obtainStageNames(final Document document) {
+
+		return obtainStages(document).stream()
+			.map(stage -> stage.keySet().stream().findFirst().orElse(""))
+			.toList();
+	}
+
+	public static List<Document> obtainStageBodies(final Document document, final String stageName) {
+
+		return obtainStages(document).stream()
+			.map(stage -> stage.get(stageName))
+			.filter(Document.class::isInstance)
+			.map(Document.class::cast)
+			.toList();
+	}
+
+	/**
+	 * Accepts a {@link CriteriaDefinition}, a {@link Document} or a JSON string and returns it as a predicate document.
+	 */
+	public static Document toPredicate(final Object predicate) {
+
+		if (predicate instanceof final CriteriaDefinition criteria) {
+			return criteria.getCriteriaObject();
+		} else if (predicate instanceof final Document document) {
+			return document;
+		}
+
+		return Document.parse(String.valueOf(predicate));
+	}
+
+	public static List<String> toStageNames(final Object stages) {
+
+		if (stages instanceof final Collection<?> collection) {
+			return collection.stream().map(String::valueOf).toList();
+		}
+
+		return List.of(String.valueOf(stages));
+	}
+
+	public static Set<String> toFieldSet(final Object fields) {
+
+		if (fields instanceof final Collection<?> collection) {
+			return collection.stream().map(String::valueOf).collect(Collectors.toSet());
+		}
+
+		return Set.of(String.valueOf(fields));
+	}
+
+}
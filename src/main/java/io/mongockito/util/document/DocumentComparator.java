@@ -0,0 +1,115 @@
+package io.mongockito.util.document;
+
+import static io.mongockito.util.document.model.DocumentDifference.childPath;
+
+import io.mongockito.util.document.model.DocumentDifference;
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import lombok.experimental.UtilityClass;
+
+@UtilityClass
+public class DocumentComparator {
+
+	private static final String ROOT_PATH = "";
+
+	public static boolean areEqual(final Object current, final Object expected) {
+
+		return findDifference(current, expected).isEmpty();
+	}
+
+	public static Optional<DocumentDifference> findDifference(final Object current, final Object expected) {
+
+		return findDifference(ROOT_PATH, current, expected);
+	}
+
+	public static Optional<DocumentDifference> findDifference(final String path, final Object current, final Object expected) {
+
+		return Optional.ofNullable(compare(path, current, expected));
+	}
+
+	public static boolean areEqualValues(final Object current, final Object expected) {
+
+		if (current instanceof final Number currentNumber && expected instanceof final Number expectedNumber) {
+			return areEqualNumbers(currentNumber, expectedNumber);
+		}
+
+		return Objects.equals(current, expected);
+	}
+
+	private static DocumentDifference compare(final String path, final Object current, final Object expected) {
+
+		if (current == expected) {
+			return null;
+		}
+
+		if (current instanceof final Map<?, ?> currentMap && expected instanceof final Map<?, ?> expectedMap) {
+			return compareMaps(path, currentMap, expectedMap);
+		}
+
+		if (current instanceof final List<?> currentList && expected instanceof final List<?> expectedList) {
+			return compareLists(path, currentList, expectedList);
+		}
+
+		return areEqualValues(current, expected) ? null : new DocumentDifference(path, expected, current);
+	}
+
+	private static DocumentDifference compareMaps(final String path, final Map<?, ?> current, final Map<?, ?> expected) {
+
+		for (final Map.Entry<?, ?> expectedEntry : expected.entrySet()) {
+			final DocumentDifference difference = compare(childPath(path, expectedEntry.getKey()),
+														  current.get(expectedEntry.getKey()),
+														  expectedEntry.getValue());
+			if (difference != null) {
+				return difference;
+			}
+		}
+
+		for (final Map.Entry<?, ?> currentEntry : current.entrySet()) {
+			if (currentEntry.getValue() != null && !expected.containsKey(currentEntry.getKey())) {
+				return new DocumentDifference(childPath(path, currentEntry.getKey()), null, currentEntry.getValue());
+			}
+		}
+
+		return null;
+	}
+
+	private static DocumentDifference compareLists(final String path, final List<?> current, final List<?> expected) {
+
+		final int commonSize = Math.min(current.size(), expected.size());
+
+		for (int index = 0; index < commonSize; index++) {
+			final DocumentDifference difference = compare(childPath(path, index), current.get(index), expected.get(index));
+			if (difference != null) {
+				return difference;
+			}
+		}
+
+		if (current.size() != expected.size()) {
+			return new DocumentDifference(path, expected, current);
+		}
+
+		return null;
+	}
+
+	private static boolean areEqualNumbers(final Number current, final Number expected) {
+
+		if (isIntegral(current) && isIntegral(expected)) {
+			return current.longValue() == expected.longValue();
+		}
+
+		return Double.compare(current.doubleValue(), expected.doubleValue()) == 0;
+	}
+
+	private static boolean isIntegral(final Number number) {
+
+		return number instanceof Integer
+			|| number instanceof Long
+			|| number instanceof Short
+			|| number instanceof Byte
+			|| number instanceof BigInteger && ((BigInteger) number).bitLength() < Long.SIZE;
+	}
+
+}
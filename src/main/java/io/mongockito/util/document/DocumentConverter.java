@@ -0,0 +1,60 @@
+package io.mongockito.util.document;
+
+import io.mongockito.util.document.model.DocumentDifference;
+import io.mongockito.util.json.JsonTool;
+import io.mongockito.util.json.model.SerializationContext;
+import java.util.Optional;
+import lombok.experimental.UtilityClass;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+
+@UtilityClass
+public class DocumentConverter {
+
+	private static final String ROOT_PATH = "";
+
+	public static Document toDocument(final Object entity, final SerializationContext serializationContext) {
+
+		if (serializationContext.hasMongoConverter()) {
+			final Document document = new Document();
+			serializationContext.getMongoConverter().write(entity, document);
+			return document;
+		}
+
+		return JsonTool.toDocument(entity, serializationContext);
+	}
+
+	public static Object toBsonValue(final Object value, final SerializationContext serializationContext) {
+
+		if (serializationContext.hasMongoConverter()) {
+			final MongoConverter mongoConverter = serializationContext.getMongoConverter();
+			return value == null ? null : mongoConverter.convertToMongoType(value);
+		}
+
+		return JsonTool.toBsonValue(value, serializationContext);
+	}
+
+	public static Optional<DocumentDifference> findDocumentDifference(final Document current,
+																	  final Object expectedEntity,
+																	  final SerializationContext serializationContext) {
+
+		if (serializationContext.hasMongoConverter()) {
+			return DocumentComparator.findDifference(current, toDocument(expectedEntity, serializationContext));
+		}
+
+		return JsonTool.findDifference(ROOT_PATH, current, expectedEntity, serializationContext);
+	}
+
+	public static Optional<DocumentDifference> findDifference(final String path,
+															  final Object current,
+															  final Object expected,
+															  final SerializationContext serializationContext) {
+
+		if (serializationContext.hasMongoConverter()) {
+			return DocumentComparator.findDifference(path, current, toBsonValue(expected, serializationContext));
+		}
+
+		return JsonTool.findDifference(path, current, expected, serializationContext);
+	}
+
+}
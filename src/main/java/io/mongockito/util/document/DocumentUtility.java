@@ -11,9 +11,23 @@ import org.bson.Document;
 @UtilityClass
 public class DocumentUtility {
 
+	public static Object obtainValue(final Document document, final Object fieldName) {
+
+		final Object value = document.get(fieldName);
+
+		if (value != null || !FieldPath.isNested(fieldName) || document.containsKey(fieldName)) {
+			return value;
+		}
+
+		return FieldPath.of((String) fieldName).resolve(document);
+	}
+
 	public static int obtainCollectionLength(final Document completeDocument, final Object fieldName) {
 
-		final Object document = completeDocument.get(fieldName);
+		return obtainCollectionLength(obtainValue(completeDocument, fieldName));
+	}
+
+	public static int obtainCollectionLength(final Object document) {
 
 		if (Objects.isNull(document)) {
 			return INTEGER_ZERO;
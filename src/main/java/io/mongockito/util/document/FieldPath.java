@@ -0,0 +1,135 @@
+package io.mongockito.util.document;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class FieldPath {
+
+	private static final int MAX_CACHED_PATHS = 1024;
+	private static final int NO_INDEX = -1;
+	private static final Pattern SEPARATOR = Pattern.compile("\\.");
+	private static final Map<String, FieldPath> cache = new ConcurrentHashMap<>();
+
+	@Getter
+	private final String path;
+	private final String[] segments;
+	private final int[] indexes;
+
+	public static FieldPath of(final String path) {
+
+		final FieldPath cached = cache.get(path);
+		if (cached != null) {
+			return cached;
+		}
+
+		if (cache.size() >= MAX_CACHED_PATHS) {
+			cache.clear();
+		}
+
+		return cache.computeIfAbsent(path, FieldPath::compile);
+	}
+
+	public static boolean isNested(final Object fieldName) {
+
+		return fieldName instanceof final String path && path.indexOf('.') >= 0;
+	}
+
+	public Object resolve(final Object root) {
+
+		Object current = root;
+
+		for (int i = 0; i < this.segments.length && current != null; i++) {
+			current = this.resolveSegment(current, i);
+		}
+
+		return current;
+	}
+
+	/**
+	 * Resolves the path with query semantics: arrays met on the way fan out to their embedded documents, besides
+	 * honouring numeric segments as indexes. Every value found at the end of the path is passed to the consumer, a
+	 * missing field produces none.
+	 */
+	public void resolveAll(final Object root, final Consumer<Object> consumer) {
+
+		this.resolveAll(root, 0, consumer);
+	}
+
+	private void resolveAll(final Object current, final int position, final Consumer<Object> consumer) {
+
+		if (position == this.segments.length) {
+			consumer.accept(current);
+		} else if (current instanceof final Map<?, ?> map) {
+			if (map.containsKey(this.segments[position])) {
+				this.resolveAll(map.get(this.segments[position]), position + 1, consumer);
+			}
+		} else if (current instanceof final List<?> list) {
+			final int index = this.indexes[position];
+
+			if (index >= 0 && index < list.size()) {
+				this.resolveAll(list.get(index), position + 1, consumer);
+			}
+
+			for (final Object element : list) {
+				if (element instanceof Map<?, ?>) {
+					this.resolveAll(element, position, consumer);
+				}
+			}
+		}
+	}
+
+	private Object resolveSegment(final Object current, final int position) {
+
+		if (current instanceof final Map<?, ?> map) {
+			return map.get(this.segments[position]);
+		}
+
+		if (current instanceof final List<?> list) {
+			final int index = this.indexes[position];
+			return index >= 0 && index < list.size() ? list.get(index) : null;
+		}
+
+		return null;
+	}
+
+	private static FieldPath compile(final String path) {
+
+		final String[] segments = SEPARATOR.split(path, -1);
+		final int[] indexes = new int[segments.length];
+
+		for (int i = 0; i < segments.length; i++) {
+			indexes[i] = parseIndex(segments[i]);
+		}
+
+		return new FieldPath(path, segments, indexes);
+	}
+
+	private static int parseIndex(final String segment) {
+
+		if (segment.isEmpty() || segment.length() > 9) {
+			return NO_INDEX;
+		}
+
+		for (int i = 0; i < segment.length(); i++) {
+			if (!Character.isDigit(segment.charAt(i))) {
+				return NO_INDEX;
+			}
+		}
+
+		return Integer.parseInt(segment);
+	}
+
+	@Override
+	public String toString() {
+
+		return this.path;
+	}
+
+}
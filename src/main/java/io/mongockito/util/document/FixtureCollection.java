@@ -0,0 +1,246 @@
+package io.mongockito.util.document;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.bson.BsonRegularExpression;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.query.Query;
+
+/**
+ * In-memory collection of fixture documents on which captured queries are replayed with {@link QueryEvaluator}, so
+ * tests can assert which documents a query selects instead of how it was written. Hash indexes on top-level equality
+ * and {@code $in} fields narrow the candidates on large fixtures; the full filter is always applied afterwards.
+ */
+public final class FixtureCollection {
+
+	private static final String MANDATORY_DOCUMENTS = "mandatory field: Fixture Documents";
+	private static final String MANDATORY_INDEX_FIELD = "mandatory field: Index Field";
+	private static final String AND = "$and";
+	private static final String EQ = "$eq";
+	private static final String IN = "$in";
+
+	private final List<Document> documents;
+	private final Map<String, Map<Object, BitSet>> hashIndexes = new HashMap<>();
+
+	private FixtureCollection(final List<Document> documents) {
+
+		this.documents = documents;
+	}
+
+	public static FixtureCollection of(final Collection<Document> documents) {
+
+		assertNotNull(documents, MANDATORY_DOCUMENTS);
+
+		return new FixtureCollection(List.copyOf(documents));
+	}
+
+	public static FixtureCollection of(final Document... documents) {
+
+		assertNotNull(documents, MANDATORY_DOCUMENTS);
+
+		return of(List.of(documents));
+	}
+
+	/**
+	 * Indexes the field, dotted paths and array elements included, by value. Numbers are indexed by numeric value so
+	 * {@code 1} and {@code 1L} land on the same entry.
+	 */
+	public FixtureCollection withHashIndex(final String field) {
+
+		assertNotNull(field, MANDATORY_INDEX_FIELD);
+
+		final FieldPath path = FieldPath.of(field);
+		final Map<Object, BitSet> index = new HashMap<>();
+
+		for (int position = 0; position < this.documents.size(); position++) {
+			final int current = position;
+			path.resolveAll(this.documents.get(position), value -> {
+				final List<?> values = value instanceof final List<?> list ? list : Collections.singletonList(value);
+				values.stream()
+					.filter(FixtureCollection::isIndexable)
+					.forEach(element -> index.computeIfAbsent(toIndexKey(element), key -> new BitSet()).set(current));
+			});
+		}
+
+		this.hashIndexes.put(field, index);
+		return this;
+	}
+
+	public int size() {
+
+		return this.documents.size();
+	}
+
+	/**
+	 * Returns the documents selected by the query filter, in natural order unless sorted, after skip, limit and
+	 * projection.
+	 */
+	public List<Document> find(final Query query) {
+
+		return this.find(query.getQueryObject(), query.getSortObject(), query.getSkip(), query.getLimit(),
+						 query.getFieldsObject());
+	}
+
+	public List<Document> find(final Document filter,
+							   final Document sort,
+							   final long skip,
+							   final int limit,
+							   final Document projection) {
+
+		Stream<Document> selected = this.select(filter);
+
+		if (!sort.isEmpty()) {
+			selected = selected.sorted(QueryEvaluator.sortComparator(sort));
+		}
+
+		selected = selected.skip(skip);
+
+		if (limit > 0) {
+			selected = selected.limit(limit);
+		}
+
+		return selected.map(document -> QueryEvaluator.project(document, projection)).toList();
+	}
+
+	/**
+	 * Returns the first document selected by the query, {@code null} when none matches.
+	 */
+	public Document findOne(final Query query) {
+
+		return this.find(query.getQueryObject(), query.getSortObject(), query.getSkip(), 1, query.getFieldsObject())
+			.stream()
+			.findFirst()
+			.orElse(null);
+	}
+
+	public long count(final Document filter) {
+
+		return this.select(filter).count();
+	}
+
+	private Stream<Document> select(final Document filter) {
+
+		final BitSet candidates = this.obtainCandidates(filter);
+		final IntStream positions = candidates == null ? IntStream.range(0, this.documents.size()) : candidates.stream();
+
+		return positions.mapToObj(this.documents::get).filter(document -> QueryEvaluator.matches(document, filter));
+	}
+
+	/**
+	 * Intersects the index entries of every indexed equality found at the top level of the filter or inside
+	 * {@code $and}, {@code null} when no index applies.
+	 */
+	private BitSet obtainCandidates(final Map<?, ?> filter) {
+
+		BitSet candidates = null;
+
+		for (final Entry<?, ?> entry : filter.entrySet()) {
+			final BitSet found = AND.equals(entry.getKey())
+								 ? this.obtainCandidates((List<?>) entry.getValue())
+								 : this.lookup(String.valueOf(entry.getKey()), entry.getValue());
+
+			candidates = intersect(candidates, found);
+		}
+
+		return candidates;
+	}
+
+	private BitSet obtainCandidates(final List<?> filters) {
+
+		BitSet candidates = null;
+
+		for (final Object filter : filters) {
+			candidates = intersect(candidates, this.obtainCandidates((Map<?, ?>) filter));
+		}
+
+		return candidates;
+	}
+
+	private BitSet lookup(final String field, final Object condition) {
+
+		final Map<Object, BitSet> index = this.hashIndexes.get(field);
+
+		if (index == null) {
+			return null;
+		}
+
+		final List<?> values = obtainLookupValues(condition);
+
+		if (values == null || !values.stream().allMatch(FixtureCollection::isIndexable)) {
+			return null;
+		}
+
+		final BitSet found = new BitSet(this.documents.size());
+		values.forEach(value -> found.or(index.getOrDefault(toIndexKey(value), new BitSet())));
+		return found;
+	}
+
+	private static List<?> obtainLookupValues(final Object condition) {
+
+		if (!(condition instanceof final Map<?, ?> operators)) {
+			return condition == null ? null : List.of(condition);
+		}
+
+		if (operators.size() != 1) {
+			return null;
+		}
+
+		if (operators.containsKey(EQ)) {
+			return operators.get(EQ) == null ? null : List.of(operators.get(EQ));
+		}
+
+		return operators.get(IN) instanceof final List<?> values ? values : null;
+	}
+
+	private static BitSet intersect(final BitSet candidates, final BitSet found) {
+
+		if (found == null) {
+			return candidates;
+		}
+
+		if (candidates == null) {
+			return found;
+		}
+
+		candidates.and(found);
+		return candidates;
+	}
+
+	/**
+	 * Only scalars are indexed: missing fields, nulls, embedded documents, arrays and regular expressions are left to
+	 * the full filter evaluation.
+	 */
+	private static boolean isIndexable(final Object value) {
+
+		return value != null
+			&& !(value instanceof Map<?, ?>)
+			&& !(value instanceof Collection<?>)
+			&& !(value instanceof Pattern)
+			&& !(value instanceof BsonRegularExpression);
+	}
+
+	private static Object toIndexKey(final Object value) {
+
+		if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+			return ((Number) value).longValue();
+		}
+
+		if (value instanceof final Number number) {
+			final double decimal = number.doubleValue();
+			return decimal == Math.rint(decimal) && Math.abs(decimal) < 0x1p53 ? (Object) (long) decimal : decimal;
+		}
+
+		return value;
+	}
+
+}
@@ -0,0 +1,476 @@
+package io.mongockito.util.document;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.function.IntPredicate;
+import java.util.regex.Pattern;
+import lombok.experimental.UtilityClass;
+import org.bson.BsonRegularExpression;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+
+/**
+ * Evaluates query filters, sorts and projections against documents in memory, following the MongoDB semantics for the
+ * supported operators: arrays match when one of their elements does, and values of different types never compare.
+ */
+@UtilityClass
+public class QueryEvaluator {
+
+	private static final String UNSUPPORTED_OPERATOR = "Unsupported query operator: %s";
+	private static final String UNSUPPORTED_PROJECTION = "Unsupported projection on %s: %s";
+	private static final String OPERATOR_PREFIX = "$";
+	private static final String ID = "_id";
+
+	/**
+	 * Tells whether the document passes the filter. Supported operators: {@code $eq, $ne, $gt, $gte, $lt, $lte, $in,
+	 * $nin, $exists, $elemMatch, $size, $all, $not, $regex, $and, $or, $nor}. Others fail.
+	 */
+	public static boolean matches(final Map<?, ?> document, final Map<?, ?> filter) {
+
+		for (final Entry<?, ?> entry : filter.entrySet()) {
+			if (!matchesEntry(document, String.valueOf(entry.getKey()), entry.getValue())) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Tells whether a single value passes a field condition, either a plain value (equality) or an operator expression
+	 * such as <code>{$gt: 5}</code>.
+	 */
+	public static boolean matchesValue(final Object value, final Object condition) {
+
+		return matchesField(Collections.singletonList(value), condition);
+	}
+
+	/**
+	 * Orders documents by the sort specification, missing values first on ascending order. For arrays the smallest
+	 * element counts on ascending order and the biggest on descending order.
+	 */
+	public static Comparator<Document> sortComparator(final Document sort) {
+
+		Comparator<Document> comparator = (first, second) -> 0;
+
+		for (final Entry<String, Object> entry : sort.entrySet()) {
+			final FieldPath path = FieldPath.of(entry.getKey());
+			final boolean ascending = ((Number) entry.getValue()).intValue() >= 0;
+			final Comparator<Document> fieldComparator =
+				(first, second) -> compareAny(sortKey(first, path, ascending), sortKey(second, path, ascending));
+
+			comparator = comparator.thenComparing(ascending ? fieldComparator : fieldComparator.reversed());
+		}
+
+		return comparator;
+	}
+
+	/**
+	 * Applies an inclusion or exclusion projection, {@code _id} being included unless excluded explicitly. Dotted paths
+	 * reach embedded documents, also inside arrays.
+	 */
+	public static Document project(final Document document, final Document projection) {
+
+		if (projection.isEmpty()) {
+			return document;
+		}
+
+		final Map<String, Object> tree = new LinkedHashMap<>();
+		boolean inclusion = false;
+
+		for (final Entry<String, Object> entry : projection.entrySet()) {
+			final boolean included = isIncluded(entry.getKey(), entry.getValue());
+			inclusion |= included && !ID.equals(entry.getKey());
+			addToTree(tree, entry.getKey().split("\\."), included);
+		}
+
+		if (!inclusion) {
+			tree.values().removeIf(Boolean.TRUE::equals);
+			return (Document) exclude(document, tree);
+		}
+
+		tree.putIfAbsent(ID, Boolean.TRUE);
+		tree.values().removeIf(Boolean.FALSE::equals);
+		return (Document) include(document, tree);
+	}
+
+	/**
+	 * Compares two values of the same type, {@code null} when their types cannot be compared.
+	 */
+	public static Integer compareSameType(final Object first, final Object second) {
+
+		if (first instanceof final Number firstNumber && second instanceof final Number secondNumber) {
+			return compareNumbers(firstNumber, secondNumber);
+		}
+
+		if (first != null && second != null && first.getClass().equals(second.getClass())
+			&& first instanceof final Comparable<?> comparable) {
+			return compareComparable(comparable, second);
+		}
+
+		return null;
+	}
+
+	private static boolean matchesEntry(final Map<?, ?> document, final String key, final Object condition) {
+
+		return switch (key) {
+			case "$and" -> asList(condition).stream().allMatch(filter -> matches(document, (Map<?, ?>) filter));
+			case "$or" -> asList(condition).stream().anyMatch(filter -> matches(document, (Map<?, ?>) filter));
+			case "$nor" -> asList(condition).stream().noneMatch(filter -> matches(document, (Map<?, ?>) filter));
+			case "$comment" -> true;
+			default -> key.startsWith(OPERATOR_PREFIX)
+					   ? fail(String.format(UNSUPPORTED_OPERATOR, key))
+					   : matchesField(obtainValues(document, key), condition);
+		};
+	}
+
+	private static boolean matchesField(final List<Object> values, final Object condition) {
+
+		if (!isOperatorExpression(condition)) {
+			return matchesEquality(values, condition);
+		}
+
+		final Map<?, ?> operators = (Map<?, ?>) condition;
+
+		for (final Entry<?, ?> operator : operators.entrySet()) {
+			if (!matchesOperator(values, String.valueOf(operator.getKey()), operator.getValue(), operators)) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	private static boolean matchesOperator(final List<Object> values,
+										   final String operator,
+										   final Object operand,
+										   final Map<?, ?> operators) {
+
+		return switch (operator) {
+			case "$eq" -> matchesEquality(values, operand);
+			case "$ne" -> !matchesEquality(values, operand);
+			case "$in" -> asList(operand).stream().anyMatch(expected -> matchesEquality(values, expected));
+			case "$nin" -> asList(operand).stream().noneMatch(expected -> matchesEquality(values, expected));
+			case "$all" -> asList(operand).stream().allMatch(expected -> matchesEquality(values, expected));
+			case "$gt" -> matchesRange(values, operand, comparison -> comparison > 0);
+			case "$gte" -> matchesRange(values, operand, comparison -> comparison >= 0);
+			case "$lt" -> matchesRange(values, operand, comparison -> comparison < 0);
+			case "$lte" -> matchesRange(values, operand, comparison -> comparison <= 0);
+			case "$exists" -> values.isEmpty() != isTruthy(operand);
+			case "$size" -> values.stream()
+				.anyMatch(value -> value instanceof final List<?> list && list.size() == ((Number) operand).intValue());
+			case "$elemMatch" -> values.stream().anyMatch(value -> matchesElement(value, (Map<?, ?>) operand));
+			case "$not" -> !matchesField(values, operand);
+			case "$regex" -> matchesEquality(values, toRegex(operand, operators.get("$options")));
+			case "$options" -> true;
+			default -> fail(String.format(UNSUPPORTED_OPERATOR, operator));
+		};
+	}
+
+	private static boolean matchesEquality(final List<Object> values, final Object expected) {
+
+		if (values.isEmpty()) {
+			return expected == null;
+		}
+
+		for (final Object value : values) {
+			if (isEqual(value, expected)) {
+				return true;
+			}
+
+			if (value instanceof final List<?> list && list.stream().anyMatch(element -> isEqual(element, expected))) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private static boolean isEqual(final Object value, final Object expected) {
+
+		final Pattern pattern = toPattern(expected);
+
+		if (pattern != null) {
+			return value instanceof final String text && pattern.matcher(text).find();
+		}
+
+		return DocumentComparator.areEqual(value, expected);
+	}
+
+	private static boolean matchesRange(final List<Object> values, final Object operand, final IntPredicate predicate) {
+
+		for (final Object value : values) {
+			final List<?> candidates = value instanceof final List<?> list ? list : Collections.singletonList(value);
+
+			for (final Object candidate : candidates) {
+				final Integer comparison = compareSameType(candidate, operand);
+
+				if (comparison != null && predicate.test(comparison)) {
+					return true;
+				}
+			}
+		}
+
+		return false;
+	}
+
+	private static boolean matchesElement(final Object value, final Map<?, ?> condition) {
+
+		if (!(value instanceof final List<?> elements)) {
+			return false;
+		}
+
+		for (final Object element : elements) {
+			final boolean matches = isOperatorExpression(condition)
+									? matchesField(Collections.singletonList(element), condition)
+									: element instanceof final Map<?, ?> embedded && matches(embedded, condition);
+			if (matches) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	private static List<Object> obtainValues(final Map<?, ?> document, final String key) {
+
+		final List<Object> values = new ArrayList<>(1);
+		FieldPath.of(key).resolveAll(document, values::add);
+		return values;
+	}
+
+	private static boolean isOperatorExpression(final Object condition) {
+
+		return condition instanceof final Map<?, ?> map && !map.isEmpty()
+			&& String.valueOf(map.keySet().iterator().next()).startsWith(OPERATOR_PREFIX);
+	}
+
+	private static Pattern toPattern(final Object value) {
+
+		if (value instanceof final Pattern pattern) {
+			return pattern;
+		}
+
+		if (value instanceof final BsonRegularExpression regex) {
+			return Pattern.compile(regex.getPattern(), toFlags(regex.getOptions()));
+		}
+
+		return null;
+	}
+
+	private static Pattern toRegex(final Object operand, final Object options) {
+
+		if (operand instanceof final String regex) {
+			return Pattern.compile(regex, options == null ? 0 : toFlags(String.valueOf(options)));
+		}
+
+		return toPattern(operand);
+	}
+
+	private static int toFlags(final String options) {
+
+		int flags = 0;
+
+		for (final char option : options.toCharArray()) {
+			flags |= switch (option) {
+				case 'i' -> Pattern.CASE_INSENSITIVE;
+				case 'm' -> Pattern.MULTILINE;
+				case 's' -> Pattern.DOTALL;
+				case 'x' -> Pattern.COMMENTS;
+				default -> 0;
+			};
+		}
+
+		return flags;
+	}
+
+	private static Object sortKey(final Document document, final FieldPath path, final boolean ascending) {
+
+		final List<Object> candidates = new ArrayList<>(1);
+		path.resolveAll(document, value -> {
+			if (value instanceof final List<?> list && !list.isEmpty()) {
+				candidates.addAll(list);
+			} else {
+				candidates.add(value);
+			}
+		});
+
+		final Comparator<Object> comparator = QueryEvaluator::compareAny;
+		return candidates.stream()
+			.reduce((first, second) -> (comparator.compare(first, second) <= 0) == ascending ? first : second)
+			.orElse(null);
+	}
+
+	private static int compareAny(final Object first, final Object second) {
+
+		final int rankComparison = Integer.compare(typeRank(first), typeRank(second));
+
+		if (rankComparison != 0) {
+			return rankComparison;
+		}
+
+		final Integer comparison = compareSameType(first, second);
+		return comparison == null ? 0 : comparison;
+	}
+
+	/**
+	 * BSON comparison order between types.
+	 */
+	private static int typeRank(final Object value) {
+
+		if (value == null) {
+			return 1;
+		} else if (value instanceof Number) {
+			return 2;
+		} else if (value instanceof CharSequence) {
+			return 3;
+		} else if (value instanceof Map<?, ?>) {
+			return 4;
+		} else if (value instanceof Collection<?>) {
+			return 5;
+		} else if (value instanceof ObjectId) {
+			return 7;
+		} else if (value instanceof Boolean) {
+			return 8;
+		} else if (value instanceof Date) {
+			return 9;
+		}
+
+		return 10;
+	}
+
+	private static int compareNumbers(final Number first, final Number second) {
+
+		if (isIntegral(first) && isIntegral(second)) {
+			return Long.compare(first.longValue(), second.longValue());
+		}
+
+		return Double.compare(first.doubleValue(), second.doubleValue());
+	}
+
+	private static boolean isIntegral(final Number number) {
+
+		return number instanceof Integer
+			|| number instanceof Long
+			|| number instanceof Short
+			|| number instanceof Byte
+			|| number instanceof BigInteger && ((BigInteger) number).bitLength() < Long.SIZE;
+	}
+
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private static int compareComparable(final Comparable comparable, final Object other) {
+
+		return comparable.compareTo(other);
+	}
+
+	private static boolean isIncluded(final String field, final Object value) {
+
+		if (value instanceof final Number number) {
+			return number.intValue() != 0;
+		}
+
+		if (value instanceof final Boolean included) {
+			return included;
+		}
+
+		return fail(String.format(UNSUPPORTED_PROJECTION, field, value));
+	}
+
+	@SuppressWarnings("unchecked")
+	private static void addToTree(final Map<String, Object> tree, final String[] segments, final boolean included) {
+
+		Map<String, Object> node = tree;
+
+		for (int i = 0; i < segments.length - 1; i++) {
+			final Object child = node.get(segments[i]);
+
+			if (child instanceof Map<?, ?>) {
+				node = (Map<String, Object>) child;
+			} else {
+				final Map<String, Object> created = new LinkedHashMap<>();
+				node.put(segments[i], created);
+				node = created;
+			}
+		}
+
+		node.put(segments[segments.length - 1], included);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Object include(final Object value, final Map<String, Object> tree) {
+
+		if (value instanceof final List<?> list) {
+			return list.stream()
+				.filter(Map.class::isInstance)
+				.map(element -> include(element, tree))
+				.toList();
+		}
+
+		final Document projected = new Document();
+
+		((Map<String, Object>) value).forEach((key, fieldValue) -> {
+			final Object node = tree.get(key);
+
+			if (Boolean.TRUE.equals(node)) {
+				projected.put(key, fieldValue);
+			} else if (node instanceof final Map<?, ?> subTree
+				&& (fieldValue instanceof Map<?, ?> || fieldValue instanceof List<?>)) {
+				projected.put(key, include(fieldValue, (Map<String, Object>) subTree));
+			}
+		});
+
+		return projected;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Object exclude(final Object value, final Map<String, Object> tree) {
+
+		if (value instanceof final List<?> list) {
+			return list.stream()
+				.map(element -> element instanceof Map<?, ?> ? exclude(element, tree) : element)
+				.toList();
+		}
+
+		final Document projected = new Document();
+
+		((Map<String, Object>) value).forEach((key, fieldValue) -> {
+			final Object node = tree.get(key);
+
+			if (node == null) {
+				projected.put(key, fieldValue);
+			} else if (node instanceof final Map<?, ?> subTree
+				&& (fieldValue instanceof Map<?, ?> || fieldValue instanceof List<?>)) {
+				projected.put(key, exclude(fieldValue, (Map<String, Object>) subTree));
+			} else if (!Boolean.FALSE.equals(node)) {
+				projected.put(key, fieldValue);
+			}
+		});
+
+		return projected;
+	}
+
+	private static boolean isTruthy(final Object value) {
+
+		if (value instanceof final Boolean bool) {
+			return bool;
+		}
+
+		return value instanceof final Number number ? number.intValue() != 0 : value != null;
+	}
+
+	private static List<?> asList(final Object value) {
+
+		return value instanceof final List<?> list ? list : Collections.singletonList(value);
+	}
+
+}
@@ -0,0 +1,305 @@
+package io.mongockito.util.document;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import java.util.stream.StreamSupport;
+import lombok.experimental.UtilityClass;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
+
+/**
+ * Checks offline whether a filter and sort can be served by one of the indexes declared on an entity with
+ * {@code @Indexed}, {@code @CompoundIndex} or {@code @TextIndexed}, following the equality-sort-range rule: equality
+ * fields first, then the sort fields in order and direction (or all reversed), then the range fields. Every filter
+ * field has to be part of that index prefix.
+ */
+@UtilityClass
+public class QueryPlanChecker {
+
+	private static final String ID = "_id";
+	private static final String AND = "$and";
+	private static final String OR = "$or";
+	private static final String TEXT = "$text";
+	private static final String TEXT_INDEX = "text";
+	private static final Set<String> EQUALITY_OPERATORS = Set.of("$eq", "$in", "$elemMatch");
+	private static final String NO_TEXT_INDEX = "Query uses $text but %s declares no @TextIndexed field";
+	private static final String NO_INDEX = "No declared index serves filter %s with sort %s following the equality-sort-range rule, declared indexes: %s";
+
+	private static final Map<Class<?>, List<Document>> INDEXES = new ConcurrentHashMap<>();
+	private static final MongoMappingContext MAPPING_CONTEXT = createMappingContext();
+
+	/**
+	 * Returns the keys of every index declared on the entity, the implicit <code>{_id: 1}</code> index first. Indexes
+	 * are resolved once per class.
+	 */
+	public static List<Document> obtainIndexKeys(final Class<?> clazz) {
+
+		return INDEXES.computeIfAbsent(clazz, QueryPlanChecker::resolveIndexKeys);
+	}
+
+	/**
+	 * Returns the reason why no index serves the filter and sort, empty when one does. Property names are mapped to
+	 * field names first, as the query mapper does, e.g. {@code id} to {@code _id} or a {@code @Field} rename. An empty
+	 * filter without sort reads the whole collection on purpose and is always accepted.
+	 */
+	public static Optional<String> check(final Document filter,
+										 final Document sort,
+										 final List<Document> indexes,
+										 final Class<?> clazz) {
+
+		final MongoPersistentEntity<?> entity = MAPPING_CONTEXT.getPersistentEntity(clazz);
+
+		return checkMapped(mapFilter(filter, entity), mapSort(sort, entity), indexes, clazz);
+	}
+
+	private static Optional<String> checkMapped(final Document filter,
+												final Document sort,
+												final List<Document> indexes,
+												final Class<?> clazz) {
+
+		if (filter.containsKey(TEXT)) {
+			return indexes.stream().anyMatch(QueryPlanChecker::isTextIndex)
+				   ? Optional.empty()
+				   : Optional.of(String.format(NO_TEXT_INDEX, clazz.getSimpleName()));
+		}
+
+		if (filter.get(OR) instanceof final List<?> branches) {
+			return checkBranches(filter, sort, branches, indexes, clazz);
+		}
+
+		final QueryShape shape = QueryShape.of(filter, sort);
+
+		if (shape.isEmpty() || indexes.stream().anyMatch(index -> serves(index, shape))) {
+			return Optional.empty();
+		}
+
+		return Optional.of(String.format(NO_INDEX, filter.toJson(), sort.toJson(), indexes));
+	}
+
+	/**
+	 * Every <code>$or</code> branch is planned on its own, so each one, merged with the rest of the filter, needs an index.
+	 */
+	private static Optional<String> checkBranches(final Document filter,
+												  final Document sort,
+												  final List<?> branches,
+												  final List<Document> indexes,
+												  final Class<?> clazz) {
+
+		for (final Object branch : branches) {
+			final Document branchFilter = new Document(filter);
+			branchFilter.remove(OR);
+
+			if (branch instanceof final Map<?, ?> branchMap) {
+				branchMap.forEach((key, value) -> branchFilter.put(String.valueOf(key), value));
+			}
+
+			final Optional<String> problem = checkMapped(branchFilter, sort, indexes, clazz);
+
+			if (problem.isPresent()) {
+				return problem;
+			}
+		}
+
+		return Optional.empty();
+	}
+
+	private static boolean serves(final Document index, final QueryShape shape) {
+
+		final List<Entry<String, Object>> keys = new ArrayList<>(index.entrySet());
+		final Set<String> equality = new HashSet<>(shape.equality);
+		final Set<String> range = new HashSet<>(shape.range);
+
+		int position = consumeEquality(keys, 0, equality);
+		Integer sortFactor = null;
+
+		for (final Entry<String, Integer> sortField : shape.sort.entrySet()) {
+			position = consumeEquality(keys, position, equality);
+
+			if (position >= keys.size() || !sortField.getKey().equals(keys.get(position).getKey())
+				|| !(keys.get(position).getValue() instanceof final Number direction)) {
+				return false;
+			}
+
+			final int factor = Integer.signum(sortField.getValue() * direction.intValue());
+
+			if (sortFactor != null && sortFactor != factor) {
+				return false;
+			}
+
+			sortFactor = factor;
+			position++;
+		}
+
+		while (position < keys.size() && keys.get(position).getValue() instanceof Number
+			&& range.remove(keys.get(position).getKey())) {
+			position++;
+		}
+
+		return equality.isEmpty() && range.isEmpty();
+	}
+
+	private static int consumeEquality(final List<Entry<String, Object>> keys, final int start, final Set<String> equality) {
+
+		int position = start;
+
+		while (position < keys.size() && equality.remove(keys.get(position).getKey())) {
+			position++;
+		}
+
+		return position;
+	}
+
+	private static boolean isTextIndex(final Document index) {
+
+		return index.containsValue(TEXT_INDEX);
+	}
+
+	/**
+	 * Maps the property paths of the filter, inside <code>$and</code>, <code>$or</code> and <code>$nor</code> too.
+	 * Operator values are kept as they are.
+	 */
+	private static Document mapFilter(final Map<?, ?> filter, final MongoPersistentEntity<?> entity) {
+
+		final Document mapped = new Document();
+
+		filter.forEach((key, value) -> {
+			final String field = String.valueOf(key);
+
+			if (field.startsWith("$") && value instanceof final Collection<?> conditions) {
+				mapped.put(field, conditions.stream()
+					.map(condition -> condition instanceof final Map<?, ?> map ? mapFilter(map, entity) : condition)
+					.toList());
+			} else {
+				mapped.put(field.startsWith("$") ? field : mapPath(field, entity), value);
+			}
+		});
+
+		return mapped;
+	}
+
+	private static Document mapSort(final Document sort, final MongoPersistentEntity<?> entity) {
+
+		final Document mapped = new Document();
+		sort.forEach((field, direction) -> mapped.put(mapPath(field, entity), direction));
+
+		return mapped;
+	}
+
+	/**
+	 * Maps every segment of a dotted property path to its field name, segments that are not properties (array
+	 * indexes, unknown or already mapped names) are kept from there on.
+	 */
+	private static String mapPath(final String path, final MongoPersistentEntity<?> entity) {
+
+		final String[] segments = path.split("\\.");
+		MongoPersistentEntity<?> current = entity;
+
+		for (int index = 0; index < segments.length && current != null; index++) {
+			final MongoPersistentProperty property = current.getPersistentProperty(segments[index]);
+
+			if (property == null) {
+				break;
+			}
+
+			segments[index] = property.getFieldName();
+			current = property.isEntity() ? MAPPING_CONTEXT.getPersistentEntity(property) : null;
+		}
+
+		return String.join(".", segments);
+	}
+
+	private static MongoMappingContext createMappingContext() {
+
+		final MongoMappingContext mappingContext = new MongoMappingContext();
+		mappingContext.setSimpleTypeHolder(new MongoCustomConversions(List.of()).getSimpleTypeHolder());
+
+		return mappingContext;
+	}
+
+	private static List<Document> resolveIndexKeys(final Class<?> clazz) {
+
+		final Iterable<? extends IndexDefinition> definitions =
+			IndexResolver.create(MAPPING_CONTEXT).resolveIndexFor(clazz);
+
+		final List<Document> indexes = new ArrayList<>();
+		indexes.add(new Document(ID, 1));
+		StreamSupport.stream(definitions.spliterator(), false)
+			.map(IndexDefinition::getIndexKeys)
+			.forEach(indexes::add);
+
+		return List.copyOf(indexes);
+	}
+
+	private static final class QueryShape {
+
+		private final Set<String> equality = new LinkedHashSet<>();
+		private final Set<String> range = new LinkedHashSet<>();
+		private final Map<String, Integer> sort = new LinkedHashMap<>();
+
+		static QueryShape of(final Document filter, final Document sort) {
+
+			final QueryShape shape = new QueryShape();
+			shape.classify(filter);
+
+			// a sort on a field fixed by equality does not need the index order
+			sort.forEach((field, direction) -> {
+				if (!shape.equality.contains(field) && direction instanceof final Number number) {
+					shape.sort.put(field, number.intValue());
+				}
+			});
+
+			shape.range.removeAll(shape.equality);
+			return shape;
+		}
+
+		boolean isEmpty() {
+
+			return this.equality.isEmpty() && this.range.isEmpty() && this.sort.isEmpty();
+		}
+
+		private void classify(final Map<?, ?> filter) {
+
+			filter.forEach((key, value) -> {
+				final String field = String.valueOf(key);
+
+				if (AND.equals(field) && value instanceof final Collection<?> conditions) {
+					conditions.stream()
+						.filter(Map.class::isInstance)
+						.forEach(condition -> this.classify((Map<?, ?>) condition));
+				} else if (!field.startsWith("$")) {
+					(isEquality(value) ? this.equality : this.range).add(field);
+				}
+			});
+		}
+
+		private static boolean isEquality(final Object value) {
+
+			if (value instanceof Pattern) {
+				return false;
+			}
+
+			if (value instanceof final Map<?, ?> operators && !operators.isEmpty()
+				&& String.valueOf(operators.keySet().iterator().next()).startsWith("$")) {
+				return EQUALITY_OPERATORS.containsAll(operators.keySet().stream().map(String::valueOf).toList());
+			}
+
+			return true;
+		}
+	}
+
+}
@@ -0,0 +1,50 @@
+package io.mongockito.util.document;
+
+import java.util.Collection;
+import lombok.experimental.UtilityClass;
+import org.bson.Document;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Query;
+
+@UtilityClass
+public class QueryUtility {
+
+	private static final int INCLUDED = 1;
+
+	/**
+	 * Accepts a {@link Sort}, a {@link Document} or a JSON string and returns it as a sort document.
+	 */
+	public static Document toSortDocument(final Object sort) {
+
+		if (sort instanceof final Sort springSort) {
+			return new Query().with(springSort).getSortObject();
+		}
+
+		return toDocument(sort);
+	}
+
+	/**
+	 * Accepts a {@link Document}, a JSON string or a collection of included field names and returns it as a projection
+	 * document.
+	 */
+	public static Document toFieldsDocument(final Object fields) {
+
+		if (fields instanceof final Collection<?> fieldNames) {
+			final Document projection = new Document();
+			fieldNames.forEach(fieldName -> projection.put(String.valueOf(fieldName), INCLUDED));
+			return projection;
+		}
+
+		return toDocument(fields);
+	}
+
+	private static Document toDocument(final Object value) {
+
+		if (value instanceof final Document document) {
+			return document;
+		}
+
+		return Document.parse(String.valueOf(value));
+	}
+
+}
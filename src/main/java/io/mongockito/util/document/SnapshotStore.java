@@ -0,0 +1,156 @@
+package io.mongockito.util.document;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import com.mongodb.MongoClientSettings;
+import io.mongockito.util.document.model.DocumentDifference;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import lombok.experimental.UtilityClass;
+import org.bson.Document;
+import org.bson.codecs.DocumentCodec;
+import org.bson.codecs.configuration.CodecConfigurationException;
+import org.bson.json.JsonMode;
+import org.bson.json.JsonWriterSettings;
+
+/**
+ * Golden files of captured documents, stored as canonical Extended JSON so types survive ({@code 1} and {@code 1L}
+ * differ) and diffs stay readable in reviews. A missing snapshot fails, so a forgotten or misnamed file is never
+ * silently recreated on CI; set the system property {@value #UPDATE_PROPERTY} to {@code true} to write missing
+ * snapshots and rewrite the ones that differ.
+ *
+ * <p>Snapshots are only opened when validated. The file is memory-mapped and compared byte by byte with the canonical
+ * rendering of the captured document; it is parsed only when the bytes differ, to report the first differing path.
+ * With updates enabled the file is read into memory instead, so it can be rewritten while no mapping is open.
+ */
+@UtilityClass
+public class SnapshotStore {
+
+	public static final String DIRECTORY_PROPERTY = "mongockito.snapshot.directory";
+	public static final String UPDATE_PROPERTY = "mongockito.snapshot.update";
+	public static final String DEFAULT_DIRECTORY = "src/test/resources/snapshots";
+
+	private static final String EXTENSION = ".json";
+	private static final Pattern VALID_NAME = Pattern.compile("[A-Za-z0-9_-]+(/[A-Za-z0-9_-]+)*");
+	private static final String INVALID_NAME = "Invalid snapshot name, use letters, digits, '_', '-' and '/': %s";
+	private static final String NOT_SERIALIZABLE = "The captured document cannot be rendered as BSON, use a Mongo converter: %s";
+	private static final String IO_ERROR = "Cannot access the snapshot %s";
+	private static final String MISSING_SNAPSHOT = "Missing snapshot %s, run with -D" + UPDATE_PROPERTY + "=true to write it";
+	private static final JsonWriterSettings CANONICAL = JsonWriterSettings.builder()
+		.outputMode(JsonMode.EXTENDED)
+		.indent(true)
+		.indentCharacters("  ")
+		.newLineCharacters("\n")
+		.build();
+	private static final DocumentCodec CODEC = new DocumentCodec(MongoClientSettings.getDefaultCodecRegistry());
+
+	public static Optional<DocumentDifference> compare(final String name, final Document current) {
+
+		return compare(Path.of(System.getProperty(DIRECTORY_PROPERTY, DEFAULT_DIRECTORY)), name, current);
+	}
+
+	/**
+	 * Compares the document with the snapshot of the given name under the directory. With updates enabled a missing or
+	 * differing snapshot is written and the comparison passes, otherwise a missing snapshot fails.
+	 */
+	public static Optional<DocumentDifference> compare(final Path directory, final String name, final Document current) {
+
+		assertTrue(name != null && VALID_NAME.matcher(name).matches(), String.format(INVALID_NAME, name));
+
+		final Path snapshot = directory.resolve(name + EXTENSION);
+		final byte[] rendered = render(current);
+		final boolean update = Boolean.getBoolean(UPDATE_PROPERTY);
+
+		if (Files.notExists(snapshot)) {
+			assertTrue(update, String.format(MISSING_SNAPSHOT, snapshot));
+			write(snapshot, rendered);
+			return Optional.empty();
+		}
+
+		final ByteBuffer stored = update ? read(snapshot) : map(snapshot);
+
+		if (stored.mismatch(ByteBuffer.wrap(rendered)) == -1) {
+			return Optional.empty();
+		}
+
+		final Document expected = Document.parse(StandardCharsets.UTF_8.decode(stored).toString());
+		final Optional<DocumentDifference> difference = findDifference(current, rendered, expected);
+
+		if (difference.isPresent() && update) {
+			write(snapshot, rendered);
+			return Optional.empty();
+		}
+
+		return difference;
+	}
+
+	/**
+	 * Values equal for {@link DocumentComparator} may still differ in BSON type, e.g. int and long, the canonical
+	 * renderings tell them apart. Formatting changes made by hand are not differences.
+	 */
+	private static Optional<DocumentDifference> findDifference(final Document current,
+															   final byte[] rendered,
+															   final Document expected) {
+
+		final Optional<DocumentDifference> difference = DocumentComparator.findDifference(current, expected);
+
+		if (difference.isPresent() || Arrays.equals(rendered, render(expected))) {
+			return difference;
+		}
+
+		return Optional.of(new DocumentDifference("", new String(render(expected), StandardCharsets.UTF_8),
+												  new String(rendered, StandardCharsets.UTF_8)));
+	}
+
+	/**
+	 * Renders the document as indented canonical Extended JSON, the exact content of its snapshot file.
+	 */
+	public static byte[] render(final Document document) {
+
+		try {
+			return (document.toJson(CANONICAL, CODEC) + "\n").getBytes(StandardCharsets.UTF_8);
+		} catch (final CodecConfigurationException e) {
+			return fail(String.format(NOT_SERIALIZABLE, e.getMessage()), e);
+		}
+	}
+
+	private static MappedByteBuffer map(final Path snapshot) {
+
+		try (final FileChannel channel = FileChannel.open(snapshot, StandardOpenOption.READ)) {
+			return channel.map(MapMode.READ_ONLY, 0, channel.size());
+		} catch (final IOException e) {
+			return fail(String.format(IO_ERROR, snapshot), e);
+		}
+	}
+
+	private static ByteBuffer read(final Path snapshot) {
+
+		try {
+			return ByteBuffer.wrap(Files.readAllBytes(snapshot));
+		} catch (final IOException e) {
+			return fail(String.format(IO_ERROR, snapshot), e);
+		}
+	}
+
+	private static void write(final Path snapshot, final byte[] rendered) {
+
+		try {
+			Files.createDirectories(snapshot.getParent());
+			Files.write(snapshot, rendered);
+		} catch (final IOException e) {
+			fail(String.format(IO_ERROR, snapshot), e);
+		}
+	}
+
+}
@@ -0,0 +1,524 @@
+package io.mongockito.util.document;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import org.bson.Document;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.mongodb.core.query.Update.Modifier;
+import org.springframework.data.mongodb.core.query.Update.Modifiers;
+
+/**
+ * Applies update operators to a before-image and returns the after-image, leaving the before-image untouched.
+ * Containers are copied on write: only the documents and arrays along the updated paths are cloned, everything else is
+ * shared with the before-image.
+ */
+public final class UpdateApplier {
+
+	private static final String UNSUPPORTED_OPERATOR = "Unsupported update operator: %s";
+	private static final String UNSUPPORTED_PATH = "Unsupported update path: %s";
+	private static final String NOT_A_NUMBER = "Cannot apply $inc to the non-numeric field %s: %s";
+	private static final String NOT_AN_ARRAY = "Cannot apply %s to the non-array field %s: %s";
+	private static final String NOT_A_CONTAINER = "Cannot create field %s in %s";
+	private static final String NO_POSITIONAL_MATCH = "The positional operator did not find the array match in the query filter: %s";
+	private static final String NO_ARRAY_FILTER = "No array filter found for the identifier %s";
+	private static final String POSITIONAL = "$";
+	private static final String EACH = "$each";
+	private static final String POSITION = "$position";
+	private static final String SLICE = "$slice";
+	private static final String SORT = "$sort";
+
+	private static final String SET_ON_INSERT = "$setOnInsert";
+	private static final String UNSET = "$unset";
+	private static final String PULL = "$pull";
+	private static final Set<String> SUPPORTED_OPERATORS = Set.of("$set", UNSET, "$inc", "$push", "$addToSet", PULL);
+
+	private final Document before;
+	private final Document filter;
+	private final List<Document> arrayFilters;
+	private final Set<Object> owned = Collections.newSetFromMap(new IdentityHashMap<>());
+	private final Document after;
+
+	private UpdateApplier(final Document before, final Document filter, final List<Document> arrayFilters) {
+
+		this.before = before;
+		this.filter = filter;
+		this.arrayFilters = arrayFilters;
+		this.after = this.own(new Document(before));
+	}
+
+	public static Document apply(final Document before, final Document update) {
+
+		return apply(before, update, new Document(), List.of());
+	}
+
+	public static Document apply(final Document before, final Document update, final Document filter) {
+
+		return apply(before, update, filter, List.of());
+	}
+
+	/**
+	 * Applies {@code $set, $unset, $inc, $push} (with {@code $each, $position, $slice, $sort}), {@code $addToSet} (with
+	 * {@code $each}), {@code $pull} and {@code $setOnInsert}, which is ignored since the document already exists. The
+	 * filter resolves the positional {@code $}, {@code $[]} updates every element and {@code $[identifier]} the elements
+	 * matching the array filters on that identifier. Other operators fail.
+	 */
+	public static Document apply(final Document before,
+								 final Document update,
+								 final Document filter,
+								 final List<Document> arrayFilters) {
+
+		final UpdateApplier applier = new UpdateApplier(before, filter, arrayFilters);
+
+		for (final Entry<String, Object> operator : update.entrySet()) {
+			if (SET_ON_INSERT.equals(operator.getKey())) {
+				continue;
+			}
+
+			if (!SUPPORTED_OPERATORS.contains(operator.getKey())) {
+				fail(String.format(UNSUPPORTED_OPERATOR, operator.getKey()));
+			}
+
+			((Map<?, ?>) operator.getValue()).forEach((path, value) -> applier.apply(operator.getKey(),
+																					 String.valueOf(path),
+																					 toModifiers(value)));
+		}
+
+		return applier.after;
+	}
+
+	private void apply(final String operator, final String path, final Object value) {
+
+		final boolean create = !UNSET.equals(operator) && !PULL.equals(operator);
+
+		this.write(this.after, this.resolvePositional(path), 0, (container, key) -> {
+			switch (operator) {
+				case "$set" -> put(container, key, value);
+				case "$unset" -> remove(container, key);
+				case "$inc" -> increment(container, key, path, (Number) value);
+				case "$push" -> this.push(container, key, path, value);
+				case "$addToSet" -> this.addToSet(container, key, path, value);
+				default -> this.pull(container, key, path, value);
+			}
+		}, create);
+	}
+
+	/**
+	 * Walks the path owning every container on the way, then runs the action on the last one. Missing containers are
+	 * created unless {@code create} is false, in which case the update is a no-op as in MongoDB.
+	 */
+	private void write(final Object container,
+					   final String[] segments,
+					   final int position,
+					   final BiConsumer<Object, String> action,
+					   final boolean create) {
+
+		final String segment = segments[position];
+
+		if (isFilteredPositional(segment)) {
+			if (!(container instanceof final List<?> list)) {
+				return;
+			}
+
+			final String identifier = segment.substring(2, segment.length() - 1);
+
+			for (int index = 0; index < list.size(); index++) {
+				if (identifier.isEmpty() || this.matchesArrayFilters(identifier, list.get(index))) {
+					this.writeAt(container, String.valueOf(index), segments, position, action, create);
+				}
+			}
+		} else if (segment.startsWith(POSITIONAL)) {
+			fail(String.format(UNSUPPORTED_PATH, String.join(".", segments)));
+		} else {
+			this.writeAt(container, segment, segments, position, action, create);
+		}
+	}
+
+	private void writeAt(final Object container,
+						 final String key,
+						 final String[] segments,
+						 final int position,
+						 final BiConsumer<Object, String> action,
+						 final boolean create) {
+
+		if (position == segments.length - 1) {
+			action.accept(container, key);
+			return;
+		}
+
+		final Object child = this.ownChild(container, key, create);
+
+		if (child != null) {
+			this.write(child, segments, position + 1, action, create);
+		}
+	}
+
+	private Object ownChild(final Object container, final String key, final boolean create) {
+
+		final Object child = get(container, key);
+
+		if (child instanceof final Map<?, ?> map) {
+			return this.owned.contains(child) ? child : put(container, key, this.own(new Document(castMap(map))));
+		}
+
+		if (child instanceof final List<?> list) {
+			return this.owned.contains(child) ? child : put(container, key, this.own(new ArrayList<>(list)));
+		}
+
+		if (child == null && create) {
+			return put(container, key, this.own(new Document()));
+		}
+
+		return child == null ? null : fail(String.format(NOT_A_CONTAINER, key, child));
+	}
+
+	private <T> T own(final T container) {
+
+		this.owned.add(container);
+		return container;
+	}
+
+	private static void increment(final Object container, final String key, final String path, final Number increment) {
+
+		final Object current = get(container, key);
+
+		if (current == null) {
+			put(container, key, increment);
+		} else if (current instanceof final Number number) {
+			put(container, key, add(number, increment));
+		} else {
+			fail(String.format(NOT_A_NUMBER, path, current));
+		}
+	}
+
+	private void push(final Object container, final String key, final String path, final Object value) {
+
+		final List<Object> array = this.ownArray(container, key, path, "$push");
+		final Map<?, ?> modifiers = value instanceof final Map<?, ?> map && map.containsKey(EACH) ? map : null;
+
+		if (modifiers == null) {
+			array.add(value);
+			return;
+		}
+
+		final List<?> elements = (List<?>) modifiers.get(EACH);
+		final Object position = modifiers.get(POSITION);
+		final int index = position == null ? array.size() : toInsertIndex(((Number) position).intValue(), array.size());
+		array.addAll(index, elements);
+
+		if (modifiers.get(SORT) != null) {
+			sort(array, modifiers.get(SORT));
+		}
+
+		if (modifiers.get(SLICE) != null) {
+			slice(array, ((Number) modifiers.get(SLICE)).intValue());
+		}
+	}
+
+	private void addToSet(final Object container, final String key, final String path, final Object value) {
+
+		final List<Object> array = this.ownArray(container, key, path, "$addToSet");
+		final List<?> elements = value instanceof final Map<?, ?> map && map.containsKey(EACH)
+								 ? (List<?>) map.get(EACH)
+								 : Collections.singletonList(value);
+
+		for (final Object element : elements) {
+			if (array.stream().noneMatch(existing -> DocumentComparator.areEqual(existing, element))) {
+				array.add(element);
+			}
+		}
+	}
+
+	private void pull(final Object container, final String key, final String path, final Object condition) {
+
+		final Object current = get(container, key);
+
+		if (current == null) {
+			return;
+		}
+
+		this.ownArray(container, key, path, "$pull").removeIf(element -> matchesPull(element, condition));
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<Object> ownArray(final Object container, final String key, final String path, final String operator) {
+
+		final Object current = get(container, key);
+
+		if (current == null) {
+			return (List<Object>) put(container, key, this.own(new ArrayList<>()));
+		}
+
+		if (!(current instanceof final List<?> list)) {
+			return fail(String.format(NOT_AN_ARRAY, operator, path, current));
+		}
+
+		return this.owned.contains(list) ? (List<Object>) list : (List<Object>) put(container, key, this.own(new ArrayList<>(list)));
+	}
+
+	/**
+	 * Replaces the positional {@code $} by the index of the first element of the array matching the conditions of the
+	 * filter on that array, as MongoDB does.
+	 */
+	private String[] resolvePositional(final String path) {
+
+		final String[] segments = path.split("\\.");
+
+		for (int i = 0; i < segments.length; i++) {
+			if (POSITIONAL.equals(segments[i])) {
+				final String arrayPath = String.join(".", List.of(segments).subList(0, i));
+				segments[i] = String.valueOf(this.findPositionalIndex(arrayPath));
+				return segments;
+			}
+		}
+
+		return segments;
+	}
+
+	private int findPositionalIndex(final String arrayPath) {
+
+		final List<Object> arrays = new ArrayList<>(1);
+		FieldPath.of(arrayPath).resolveAll(this.before, arrays::add);
+
+		if (arrays.size() == 1 && arrays.get(0) instanceof final List<?> elements) {
+			for (int index = 0; index < elements.size(); index++) {
+				if (this.matchesPositional(arrayPath, elements.get(index))) {
+					return index;
+				}
+			}
+		}
+
+		return fail(String.format(NO_POSITIONAL_MATCH, arrayPath));
+	}
+
+	private boolean matchesPositional(final String arrayPath, final Object element) {
+
+		return matchesElement(this.filter, arrayPath, element) == Boolean.TRUE;
+	}
+
+	private boolean matchesArrayFilters(final String identifier, final Object element) {
+
+		final List<Boolean> results = this.arrayFilters.stream()
+			.map(arrayFilter -> matchesElement(arrayFilter, identifier, element))
+			.filter(Objects::nonNull)
+			.toList();
+
+		if (results.isEmpty()) {
+			fail(String.format(NO_ARRAY_FILTER, identifier));
+		}
+
+		return !results.contains(Boolean.FALSE);
+	}
+
+	/**
+	 * Checks the element against the conditions on {@code name} or {@code name.field}, {@code null} when the conditions
+	 * do not reference it.
+	 */
+	private static Boolean matchesElement(final Document conditions, final String name, final Object element) {
+
+		final String prefix = name + ".";
+		Boolean matches = null;
+
+		for (final Entry<String, Object> entry : conditions.entrySet()) {
+			final String key = entry.getKey();
+
+			if (key.equals(name)) {
+				matches = matches != Boolean.FALSE
+					&& QueryEvaluator.matchesValue(Collections.singletonList(element), entry.getValue());
+			} else if (key.startsWith(prefix)) {
+				final Document condition = new Document(key.substring(prefix.length()), entry.getValue());
+				matches = matches != Boolean.FALSE
+					&& element instanceof final Map<?, ?> embedded && QueryEvaluator.matches(embedded, condition);
+			}
+		}
+
+		return matches;
+	}
+
+	/**
+	 * Tells whether the segment is {@code $[]} or {@code $[identifier]}.
+	 */
+	private static boolean isFilteredPositional(final String segment) {
+
+		return segment.startsWith("$[") && segment.endsWith("]");
+	}
+
+	private static boolean matchesPull(final Object element, final Object condition) {
+
+		if (condition instanceof final Map<?, ?> map && !map.isEmpty()
+			&& !String.valueOf(map.keySet().iterator().next()).startsWith(POSITIONAL)) {
+			return element instanceof final Map<?, ?> embedded && QueryEvaluator.matches(embedded, map);
+		}
+
+		return QueryEvaluator.matchesValue(element, condition);
+	}
+
+	/**
+	 * {@link Update} keeps {@code $each}, {@code $position}, {@code $slice} and {@code $sort} as {@link Modifiers} until
+	 * the update is mapped, they are rendered here as the documents MongoDB receives.
+	 */
+	private static Object toModifiers(final Object value) {
+
+		if (value instanceof final Modifier modifier) {
+			return new Document(modifier.getKey(), toModifierValue(modifier.getValue()));
+		}
+
+		if (value instanceof final Modifiers modifiers) {
+			final Document document = new Document();
+			modifiers.getModifiers()
+				.forEach(modifier -> document.put(modifier.getKey(), toModifierValue(modifier.getValue())));
+			return document;
+		}
+
+		return value;
+	}
+
+	private static Object toModifierValue(final Object value) {
+
+		if (value instanceof final Object[] values) {
+			return Arrays.asList(values);
+		}
+
+		if (value instanceof final Direction direction) {
+			return direction.isAscending() ? 1 : -1;
+		}
+
+		if (value instanceof final Sort sort) {
+			return QueryUtility.toSortDocument(sort);
+		}
+
+		return value;
+	}
+
+	private static void sort(final List<Object> array, final Object specification) {
+
+		if (specification instanceof final Document sort) {
+			array.sort((first, second) -> QueryEvaluator.sortComparator(sort)
+				.compare((Document) first, (Document) second));
+			return;
+		}
+
+		final int direction = ((Number) specification).intValue();
+		array.sort((first, second) -> direction * Integer.signum(nullSafe(QueryEvaluator.compareSameType(first, second))));
+	}
+
+	private static void slice(final List<Object> array, final int slice) {
+
+		if (slice >= 0 && slice < array.size()) {
+			array.subList(slice, array.size()).clear();
+		} else if (slice < 0 && -slice < array.size()) {
+			array.subList(0, array.size() + slice).clear();
+		}
+	}
+
+	private static int toInsertIndex(final int position, final int size) {
+
+		return position < 0 ? Math.max(0, size + position) : Math.min(position, size);
+	}
+
+	/**
+	 * Adds with the BSON widening rules: int overflows to long, any floating point operand gives a double.
+	 */
+	private static Number add(final Number current, final Number increment) {
+
+		if (current instanceof BigDecimal || increment instanceof BigDecimal) {
+			return new BigDecimal(current.toString()).add(new BigDecimal(increment.toString()));
+		}
+
+		if (isFloatingPoint(current) || isFloatingPoint(increment)) {
+			return current.doubleValue() + increment.doubleValue();
+		}
+
+		final long sum = Math.addExact(current.longValue(), increment.longValue());
+
+		if (current instanceof Long || increment instanceof Long || sum != (int) sum) {
+			return sum;
+		}
+
+		return (int) sum;
+	}
+
+	private static boolean isFloatingPoint(final Number number) {
+
+		return number instanceof Double || number instanceof Float;
+	}
+
+	private static int nullSafe(final Integer comparison) {
+
+		return comparison == null ? 0 : comparison;
+	}
+
+	private static Object get(final Object container, final String key) {
+
+		if (container instanceof final Map<?, ?> map) {
+			return map.get(key);
+		}
+
+		final int index = toIndex(container, key);
+		final List<?> list = (List<?>) container;
+		return index < list.size() ? list.get(index) : null;
+	}
+
+	/**
+	 * Sets the value and returns it. Arrays are padded with nulls up to the index, as MongoDB does.
+	 */
+	@SuppressWarnings("unchecked")
+	private static Object put(final Object container, final String key, final Object value) {
+
+		if (container instanceof final Map<?, ?> map) {
+			((Map<String, Object>) map).put(key, value);
+			return value;
+		}
+
+		final int index = toIndex(container, key);
+		final List<Object> list = (List<Object>) container;
+
+		while (list.size() <= index) {
+			list.add(null);
+		}
+
+		list.set(index, value);
+		return value;
+	}
+
+	/**
+	 * Removes the field, array elements are set to null instead so the other positions do not move.
+	 */
+	@SuppressWarnings("unchecked")
+	private static void remove(final Object container, final String key) {
+
+		if (container instanceof final Map<?, ?> map) {
+			map.remove(key);
+		} else if (toIndex(container, key) < ((List<?>) container).size()) {
+			((List<Object>) container).set(toIndex(container, key), null);
+		}
+	}
+
+	private static int toIndex(final Object container, final String key) {
+
+		if (!(container instanceof List<?>) || !key.chars().allMatch(Character::isDigit) || key.isEmpty()) {
+			return fail(String.format(NOT_A_CONTAINER, key, container));
+		}
+
+		return Integer.parseInt(key);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Map<String, Object> castMap(final Map<?, ?> map) {
+
+		return (Map<String, Object>) map;
+	}
+
+}
@@ -0,0 +1,26 @@
+package io.mongockito.util.document.model;
+
+import static org.apache.commons.lang3.StringUtils.isEmpty;
+
+import lombok.Value;
+
+@Value
+public class DocumentDifference {
+
+	String path;
+	Object expected;
+	Object current;
+
+	public String getMessage() {
+
+		return isEmpty(this.path)
+			? "Document differs at root"
+			: "Document differs at path '" + this.path + "'";
+	}
+
+	public static String childPath(final String path, final Object key) {
+
+		return isEmpty(path) ? String.valueOf(key) : path + "." + key;
+	}
+
+}
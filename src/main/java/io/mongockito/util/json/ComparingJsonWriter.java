@@ -0,0 +1,360 @@
+package io.mongockito.util.json;
+
+import static io.mongockito.util.document.model.DocumentDifference.childPath;
+import static io.mongockito.util.json.DocumentJsonWriter.toBsonNumber;
+
+import com.google.gson.stream.JsonWriter;
+import io.mongockito.util.document.DocumentComparator;
+import io.mongockito.util.document.model.DocumentDifference;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.bson.Document;
+
+class ComparingJsonWriter extends JsonWriter {
+
+	private static final Writer UNWRITABLE_WRITER = Writer.nullWriter();
+
+	private final Deque<Frame> stack = new ArrayDeque<>();
+	private final Object root;
+	private final String rootPath;
+	private String pendingName;
+	private boolean rootVisited;
+	private DocumentJsonWriter recorder;
+	private Position recordedPosition;
+	private int recordedDepth;
+
+	ComparingJsonWriter(final String rootPath, final Object root) {
+
+		super(UNWRITABLE_WRITER);
+		this.rootPath = rootPath;
+		this.root = root;
+	}
+
+	Optional<DocumentDifference> compare(final Runnable serialization) {
+
+		try {
+			serialization.run();
+			return Optional.empty();
+		} catch (final DifferenceFoundException e) {
+			return Optional.of(e.difference);
+		}
+	}
+
+	@Override
+	public JsonWriter beginArray() {
+
+		if (this.recorder != null) {
+			this.recordedDepth++;
+			this.recorder.beginArray();
+			return this;
+		}
+
+		final Position position = this.next();
+		if (!(position.current instanceof final List<?> list)) {
+			throw new DifferenceFoundException(new DocumentDifference(position.path, List.of(), position.current));
+		}
+		this.stack.push(new Frame(position.path, list));
+		return this;
+	}
+
+	@Override
+	public JsonWriter endArray() {
+
+		if (this.recorder != null) {
+			this.recorder.endArray();
+			return this.endRecorded();
+		}
+
+		final Frame frame = this.stack.pop();
+		if (frame.index < frame.list.size()) {
+			throw new DifferenceFoundException(
+				new DocumentDifference(childPath(frame.path, frame.index), null, frame.list.get(frame.index)));
+		}
+		return this;
+	}
+
+	@Override
+	public JsonWriter beginObject() {
+
+		if (this.recorder != null) {
+			this.recordedDepth++;
+			this.recorder.beginObject();
+			return this;
+		}
+
+		final Position position = this.next();
+		if (position.current != null && !(position.current instanceof Map)) {
+			// an adapter may write an Extended JSON object such as {"$oid": ...}, compared once read back as BSON
+			return this.record(position);
+		}
+		if (!(position.current instanceof final Map<?, ?> map)) {
+			throw new DifferenceFoundException(new DocumentDifference(position.path, new Document(), position.current));
+		}
+		this.stack.push(new Frame(position.path, map));
+		return this;
+	}
+
+	@Override
+	public JsonWriter endObject() {
+
+		if (this.recorder != null) {
+			this.recorder.endObject();
+			return this.endRecorded();
+		}
+
+		final Frame frame = this.stack.pop();
+		for (final Map.Entry<?, ?> entry : frame.map.entrySet()) {
+			if (entry.getValue() != null && !frame.visitedKeys.contains(entry.getKey())) {
+				throw new DifferenceFoundException(
+					new DocumentDifference(childPath(frame.path, entry.getKey()), null, entry.getValue()));
+			}
+		}
+		return this;
+	}
+
+	@Override
+	public JsonWriter name(final String name) {
+
+		if (name == null) {
+			throw new NullPointerException("name == null");
+		}
+		if (this.recorder != null) {
+			this.recorder.name(name);
+			return this;
+		}
+		this.pendingName = name;
+		return this;
+	}
+
+	@Override
+	public JsonWriter value(final String value) {
+
+		if (this.recorder != null) {
+			this.recorder.value(value);
+			return this;
+		}
+		return this.compareValue(value);
+	}
+
+	@Override
+	public JsonWriter jsonValue(final String value) {
+
+		if (this.recorder != null) {
+			this.recorder.jsonValue(value);
+			return this;
+		}
+		if (value == null) {
+			return this.nullValue();
+		}
+
+		final Position position = this.next();
+		final Object expected = Document.parse("{\"value\":" + value + "}").get("value");
+		if (position.missing) {
+			throw new DifferenceFoundException(new DocumentDifference(position.path, expected, null));
+		}
+		DocumentComparator.findDifference(position.path, position.current, expected)
+			.ifPresent(difference -> {
+				throw new DifferenceFoundException(difference);
+			});
+		return this;
+	}
+
+	@Override
+	public JsonWriter nullValue() {
+
+		if (this.recorder != null) {
+			this.recorder.nullValue();
+			return this;
+		}
+		if (this.pendingName != null && !this.getSerializeNulls()) {
+			this.pendingName = null;
+			return this;
+		}
+		return this.compareValue(null);
+	}
+
+	@Override
+	public JsonWriter value(final boolean value) {
+
+		if (this.recorder != null) {
+			this.recorder.value(value);
+			return this;
+		}
+		return this.compareValue(value);
+	}
+
+	@Override
+	public JsonWriter value(final Boolean value) {
+
+		if (this.recorder != null) {
+			this.recorder.value(value);
+			return this;
+		}
+		return this.compareValue(value);
+	}
+
+	@Override
+	public JsonWriter value(final float value) {
+
+		if (this.recorder != null) {
+			this.recorder.value(value);
+			return this;
+		}
+		return this.compareValue(toBsonNumber(Float.toString(value)));
+	}
+
+	@Override
+	public JsonWriter value(final double value) {
+
+		if (this.recorder != null) {
+			this.recorder.value(value);
+			return this;
+		}
+		return this.compareValue(toBsonNumber(Double.toString(value)));
+	}
+
+	@Override
+	public JsonWriter value(final long value) {
+
+		if (this.recorder != null) {
+			this.recorder.value(value);
+			return this;
+		}
+		return this.compareValue(toBsonNumber(value));
+	}
+
+	@Override
+	public JsonWriter value(final Number value) {
+
+		if (this.recorder != null) {
+			this.recorder.value(value);
+			return this;
+		}
+		return this.compareValue(value == null ? null : toBsonNumber(value.toString()));
+	}
+
+	@Override
+	public void flush() {
+
+	}
+
+	@Override
+	public void close() {
+
+	}
+
+	private JsonWriter record(final Position position) {
+
+		this.recorder = new DocumentJsonWriter();
+		this.recorder.setSerializeNulls(this.getSerializeNulls());
+		this.recorder.beginObject();
+		this.recordedPosition = position;
+		this.recordedDepth = 1;
+		return this;
+	}
+
+	private JsonWriter endRecorded() {
+
+		if (--this.recordedDepth > 0) {
+			return this;
+		}
+
+		final Object expected = this.recorder.get();
+		final Position position = this.recordedPosition;
+		this.recorder = null;
+		this.recordedPosition = null;
+
+		DocumentComparator.findDifference(position.path, position.current, expected)
+			.ifPresent(difference -> {
+				throw new DifferenceFoundException(difference);
+			});
+		return this;
+	}
+
+	private JsonWriter compareValue(final Object expected) {
+
+		final Position position = this.next();
+		if (position.missing || !DocumentComparator.areEqualValues(position.current, expected)) {
+			throw new DifferenceFoundException(new DocumentDifference(position.path, expected, position.current));
+		}
+		return this;
+	}
+
+	private Position next() {
+
+		final Frame frame = this.stack.peek();
+
+		if (frame == null) {
+			if (this.rootVisited) {
+				throw new IllegalStateException("Only one root value can be compared");
+			}
+			this.rootVisited = true;
+			return new Position(this.rootPath, this.root, false);
+		}
+
+		if (frame.map != null) {
+			final String name = this.pendingName;
+			this.pendingName = null;
+			frame.visitedKeys.add(name);
+			return new Position(childPath(frame.path, name), frame.map.get(name), false);
+		}
+
+		final int index = frame.index++;
+		if (index >= frame.list.size()) {
+			return new Position(childPath(frame.path, index), null, true);
+		}
+		return new Position(childPath(frame.path, index), frame.list.get(index), false);
+	}
+
+	private record Position(String path, Object current, boolean missing) {
+
+	}
+
+	private static final class Frame {
+
+		private final String path;
+		private final Map<?, ?> map;
+		private final List<?> list;
+		private final Set<Object> visitedKeys;
+		private int index;
+
+		private Frame(final String path, final Map<?, ?> map) {
+
+			this.path = path;
+			this.map = map;
+			this.list = null;
+			this.visitedKeys = new HashSet<>();
+		}
+
+		private Frame(final String path, final List<?> list) {
+
+			this.path = path;
+			this.map = null;
+			this.list = list;
+			this.visitedKeys = null;
+		}
+	}
+
+	/**
+	 * Stops the serialization at the first difference. Only used as control flow, so no stack trace is captured.
+	 */
+	private static final class DifferenceFoundException extends RuntimeException {
+
+		private static final long serialVersionUID = 1L;
+
+		private final transient DocumentDifference difference;
+
+		private DifferenceFoundException(final DocumentDifference difference) {
+
+			super(difference.getMessage(), null, false, false);
+			this.difference = difference;
+		}
+	}
+
+}
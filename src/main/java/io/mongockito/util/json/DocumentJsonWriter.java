@@ -0,0 +1,241 @@
+package io.mongockito.util.json;
+
+import com.google.gson.stream.JsonWriter;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import org.bson.Document;
+
+/**
+ * Builds the BSON value written by Gson without going through JSON text. Single-key Extended JSON objects such as
+ * {@code {"$oid": ...}} or {@code {"$date": ...}} written by custom adapters are read back as their BSON type, as
+ * {@link Document#parse(String)} does.
+ */
+class DocumentJsonWriter extends JsonWriter {
+
+	private static final Writer UNWRITABLE_WRITER = Writer.nullWriter();
+	private static final Set<String> EXTENDED_JSON_KEYS = Set.of("$oid", "$date", "$numberLong", "$numberDecimal",
+																 "$numberInt", "$numberDouble");
+
+	private final Deque<Object> stack = new ArrayDeque<>();
+	private final Deque<String> objectNames = new ArrayDeque<>();
+	private String pendingName;
+	private Object product;
+
+	DocumentJsonWriter() {
+
+		super(UNWRITABLE_WRITER);
+	}
+
+	Object get() {
+
+		if (!this.stack.isEmpty()) {
+			throw new IllegalStateException("Incomplete document, expected to be closed: " + this.stack.peek());
+		}
+		return this.product;
+	}
+
+	@Override
+	public JsonWriter beginArray() {
+
+		final List<Object> array = new ArrayList<>();
+		this.put(array);
+		this.stack.push(array);
+		return this;
+	}
+
+	@Override
+	public JsonWriter endArray() {
+
+		if (this.pendingName != null || !(this.stack.peek() instanceof List)) {
+			throw new IllegalStateException("Unexpected end of array");
+		}
+		this.stack.pop();
+		return this;
+	}
+
+	@Override
+	public JsonWriter beginObject() {
+
+		if (this.stack.peek() instanceof Document && this.pendingName == null) {
+			throw new IllegalStateException("Object without name inside an object");
+		}
+
+		// the object is added to its parent once closed, when it is known whether it is an Extended JSON value
+		this.objectNames.push(this.pendingName == null ? "" : this.pendingName);
+		this.pendingName = null;
+		this.stack.push(new Document());
+		return this;
+	}
+
+	@Override
+	public JsonWriter endObject() {
+
+		if (this.pendingName != null || !(this.stack.peek() instanceof Document)) {
+			throw new IllegalStateException("Unexpected end of object");
+		}
+
+		final Document document = (Document) this.stack.pop();
+		final String name = this.objectNames.pop();
+		this.pendingName = this.stack.peek() instanceof Document ? name : null;
+		this.put(fromExtendedJson(document));
+		return this;
+	}
+
+	@Override
+	public JsonWriter name(final String name) {
+
+		if (name == null) {
+			throw new NullPointerException("name == null");
+		}
+		if (this.pendingName != null || !(this.stack.peek() instanceof Document)) {
+			throw new IllegalStateException("Unexpected name: " + name);
+		}
+		this.pendingName = name;
+		return this;
+	}
+
+	@Override
+	public JsonWriter value(final String value) {
+
+		this.put(value);
+		return this;
+	}
+
+	@Override
+	public JsonWriter jsonValue(final String value) {
+
+		if (value == null) {
+			return this.nullValue();
+		}
+		this.put(Document.parse("{\"value\":" + value + "}").get("value"));
+		return this;
+	}
+
+	@Override
+	public JsonWriter nullValue() {
+
+		this.put(null);
+		return this;
+	}
+
+	@Override
+	public JsonWriter value(final boolean value) {
+
+		this.put(value);
+		return this;
+	}
+
+	@Override
+	public JsonWriter value(final Boolean value) {
+
+		this.put(value);
+		return this;
+	}
+
+	@Override
+	public JsonWriter value(final float value) {
+
+		this.put(toBsonNumber(Float.toString(value)));
+		return this;
+	}
+
+	@Override
+	public JsonWriter value(final double value) {
+
+		this.put(toBsonNumber(Double.toString(value)));
+		return this;
+	}
+
+	@Override
+	public JsonWriter value(final long value) {
+
+		this.put(toBsonNumber(value));
+		return this;
+	}
+
+	@Override
+	public JsonWriter value(final Number value) {
+
+		this.put(value == null ? null : toBsonNumber(value.toString()));
+		return this;
+	}
+
+	@Override
+	public void flush() {
+
+	}
+
+	@Override
+	public void close() {
+
+		if (!this.stack.isEmpty()) {
+			throw new IllegalStateException("Incomplete document");
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private void put(final Object value) {
+
+		if (this.pendingName != null) {
+			if (value != null || this.getSerializeNulls()) {
+				((Document) this.stack.getFirst()).put(this.pendingName, value);
+			}
+			this.pendingName = null;
+		} else if (this.stack.isEmpty()) {
+			this.product = value;
+		} else if (this.stack.peek() instanceof List) {
+			((List<Object>) this.stack.getFirst()).add(value);
+		} else {
+			throw new IllegalStateException("Value without name inside an object: " + value);
+		}
+	}
+
+	/**
+	 * Returns the BSON value of a single-key Extended JSON object, the document itself otherwise.
+	 */
+	static Object fromExtendedJson(final Document document) {
+
+		if (document.size() != 1 || !EXTENDED_JSON_KEYS.contains(document.keySet().iterator().next())) {
+			return document;
+		}
+
+		return Document.parse("{\"value\":" + document.toJson() + "}").get("value");
+	}
+
+	static Object toBsonNumber(final String text) {
+
+		if (isFloatingPoint(text)) {
+			return Double.parseDouble(text);
+		}
+
+		try {
+			return toBsonNumber(Long.parseLong(text));
+		} catch (final NumberFormatException e) {
+			return Double.parseDouble(text);
+		}
+	}
+
+	static Object toBsonNumber(final long value) {
+
+		if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) {
+			return (int) value;
+		}
+		return value;
+	}
+
+	private static boolean isFloatingPoint(final String text) {
+
+		for (int i = 0; i < text.length(); i++) {
+			final char c = text.charAt(i);
+			if (c == '.' || c == 'e' || c == 'E' || Character.isLetter(c)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+}
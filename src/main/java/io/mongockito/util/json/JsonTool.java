@@ -4,13 +4,23 @@ import static org.apache.commons.lang3.StringUtils.isEmpty;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
-import io.mongockito.util.json.model.Adapter;
+import io.mongockito.util.document.model.DocumentDifference;
 import io.mongockito.util.json.adapters.LocalDateTimeAdapter;
 import io.mongockito.util.json.adapters.ObjectIdAdapter;
+import io.mongockito.util.json.model.Adapter;
+import io.mongockito.util.json.model.SerializationContext;
+import java.lang.reflect.Modifier;
 import java.time.LocalDateTime;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.experimental.UtilityClass;
+import org.bson.Document;
 import org.bson.types.ObjectId;
 import org.springframework.data.mongodb.core.mapping.Field;
 import org.springframework.data.mongodb.core.mapping.FieldType;
@@ -28,53 +38,114 @@ public class JsonTool {
 		.typeAdapter(new LocalDateTimeAdapter())
 		.build();
 
-	private final List<Adapter> adapters = new ArrayList<>();
-	private boolean allowNulls = true;
+	private static final int MAX_CACHED_GSON_INSTANCES = 64;
+
+	private final Map<GsonKey, Gson> gsonCache = new ConcurrentHashMap<>();
+	private final Deque<GsonKey> cachedKeys = new ArrayDeque<>();
+	private final ClassValue<Boolean> statelessAdapters = new ClassValue<>() {
+		@Override
+		protected Boolean computeValue(final Class<?> type) {
+
+			return isStateless(type);
+		}
+	};
 
 	public static Gson gsonBuilder() {
-		return createGsonBuilder().create();
+
+		return gsonBuilder(SerializationContext.DEFAULT);
+	}
+
+	/**
+	 * Returns the Gson configured for the context, shared by every context with the same adapters and null policy.
+	 * Adapters without instance fields are matched by class, so {@code new LocalDateTimeAdapter()} per verification
+	 * still hits the cache; stateful adapters are matched by identity. Lookups take no lock; once the cache is full,
+	 * caching a new configuration evicts the oldest one.
+	 */
+	public static Gson gsonBuilder(final SerializationContext serializationContext) {
+
+		final GsonKey key = GsonKey.of(serializationContext);
+		final Gson cached = gsonCache.get(key);
+
+		return cached != null ? cached : cacheGson(key, serializationContext);
 	}
 
-	public static void addAdapters(final List<Adapter> newAdapters) {
-		if (newAdapters != null) {
-			adapters.clear();
-			adapters.addAll(newAdapters);
+	public static Document toDocument(final Object value, final SerializationContext serializationContext) {
+
+		final Object bsonValue = toBsonValue(value, serializationContext);
+
+		if (bsonValue instanceof final Document document) {
+			return document;
 		}
+
+		throw new IllegalArgumentException("Value is not serialized as a document: " + value);
 	}
 
-	public static void allowSerializeNulls(final boolean allow) {
-		allowNulls = allow;
+	public static Object toBsonValue(final Object value, final SerializationContext serializationContext) {
+
+		if (value == null) {
+			return null;
+		}
+
+		final DocumentJsonWriter writer = new DocumentJsonWriter();
+		gsonBuilder(serializationContext).toJson(value, value.getClass(), writer);
+		return writer.get();
 	}
 
-	public static void reset() {
-		adapters.clear();
-		allowNulls = true;
+	public static Optional<DocumentDifference> findDifference(final String path,
+															  final Object current,
+															  final Object expected,
+															  final SerializationContext serializationContext) {
+
+		final ComparingJsonWriter writer = new ComparingJsonWriter(path, current);
+
+		if (expected == null) {
+			return writer.compare(writer::nullValue);
+		}
+
+		final Gson gson = gsonBuilder(serializationContext);
+		return writer.compare(() -> gson.toJson(expected, expected.getClass(), writer));
 	}
 
-	private static GsonBuilder createGsonBuilder() {
+	private static Gson cacheGson(final GsonKey key, final SerializationContext serializationContext) {
 
-		final GsonBuilder gsonBuilder = new GsonBuilder().setFieldNamingStrategy(JsonTool::obtainFieldNaming);
+		synchronized (cachedKeys) {
+			final Gson cached = gsonCache.get(key);
 
-		addAdaptersToBuilder(gsonBuilder);
+			if (cached != null) {
+				return cached;
+			}
 
-		if (allowNulls) {
-			gsonBuilder.serializeNulls();
-		}
+			final Gson gson = createGson(serializationContext);
+			gsonCache.put(key, gson);
+			cachedKeys.addLast(key);
+
+			if (cachedKeys.size() > MAX_CACHED_GSON_INSTANCES) {
+				gsonCache.remove(cachedKeys.removeFirst());
+			}
 
-		return gsonBuilder;
+			return gson;
+		}
 	}
 
-	private static void addAdaptersToBuilder(final GsonBuilder gsonBuilder) {
+	private static Gson createGson(final SerializationContext serializationContext) {
+
+		final GsonBuilder gsonBuilder = new GsonBuilder().setFieldNamingStrategy(JsonTool::obtainFieldNaming);
 
-		final List<Adapter> defaultOrAdapters = obtainJsonAdapters();
+		obtainJsonAdapters(serializationContext).forEach(adapter -> addAdapterToBuilder(gsonBuilder, adapter));
 
-		defaultOrAdapters.forEach(adapter -> addAdapterToBuilder(gsonBuilder, adapter));
+		if (serializationContext.isAllowNulls()) {
+			gsonBuilder.serializeNulls();
+		}
+
+		return gsonBuilder.create();
 	}
 
-	private static List<Adapter> obtainJsonAdapters() {
+	private static List<Adapter> obtainJsonAdapters(final SerializationContext serializationContext) {
+
+		final List<Adapter> adapters = serializationContext.getAdapters();
 
 		return adapters.isEmpty()
-			? List.of( DEFAULT_OBJECT_ID_ADAPTER, DEFAULT_LOCAL_DATE_TIME_ADAPTER)
+			? List.of(DEFAULT_OBJECT_ID_ADAPTER, DEFAULT_LOCAL_DATE_TIME_ADAPTER)
 			: adapters;
 	}
 
@@ -96,4 +167,56 @@ public class JsonTool {
 		return f.getName();
 	}
 
+	private static boolean isStateless(final Class<?> type) {
+
+		for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+			final boolean hasInstanceFields = Arrays.stream(current.getDeclaredFields())
+				.anyMatch(field -> !Modifier.isStatic(field.getModifiers()));
+
+			if (hasInstanceFields) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * What the created Gson depends on: registered type, adapter (its class when stateless) and null policy.
+	 */
+	private record GsonKey(List<Object> adapters, boolean allowNulls) {
+
+		static GsonKey of(final SerializationContext serializationContext) {
+
+			final List<Adapter> adapters = serializationContext.getAdapters();
+			final List<Object> keys = new ArrayList<>(adapters.size() * 2);
+
+			for (final Adapter adapter : adapters) {
+				final Object typeAdapter = adapter.getTypeAdapter();
+
+				keys.add(adapter.getTypeClass());
+				keys.add(typeAdapter == null || !statelessAdapters.get(typeAdapter.getClass())
+						 ? new IdentityKey(typeAdapter)
+						 : typeAdapter.getClass());
+			}
+
+			return new GsonKey(keys, serializationContext.isAllowNulls());
+		}
+	}
+
+	private record IdentityKey(Object value) {
+
+		@Override
+		public boolean equals(final Object other) {
+
+			return other instanceof final IdentityKey identityKey && identityKey.value == this.value;
+		}
+
+		@Override
+		public int hashCode() {
+
+			return System.identityHashCode(this.value);
+		}
+	}
+
 }
@@ -0,0 +1,28 @@
+package io.mongockito.util.json.model;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Singular;
+import lombok.Value;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+
+@Value
+@Builder(toBuilder = true)
+public class SerializationContext {
+
+	public static final SerializationContext DEFAULT = SerializationContext.builder().build();
+
+	@Singular
+	List<Adapter> adapters;
+
+	@Builder.Default
+	boolean allowNulls = true;
+
+	MongoConverter mongoConverter;
+
+	public boolean hasMongoConverter() {
+
+		return this.mongoConverter != null;
+	}
+
+}
@@ -0,0 +1,120 @@
+package io.mongockito;
+
+import static io.mongockito.common.TestConstants.DEFAULT_KEY_ID;
+import static io.mongockito.common.TestConstants.FIELD_LOCKED;
+import static io.mongockito.common.business.EntityExampleObjectMother.ID_FIELD;
+import static io.mongockito.common.business.EntityExampleObjectMother.ID_FILED_OTHER;
+import static io.mongockito.common.business.EntityExampleObjectMother.createEntityExampleWithoutMap;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+import io.mongockito.common.model.EntityExample;
+import io.mongockito.util.json.model.SerializationContext;
+import java.util.List;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.mongodb.core.query.UpdateDefinition;
+import org.springframework.data.util.Pair;
+
+@ExtendWith(MockitoExtension.class)
+class BulkOperationTest {
+
+	@Mock
+	protected BulkOperations bulkOperations;
+
+	@Test
+	void should_flatten_single_and_list_inserts_in_order() {
+
+		final EntityExample first = createEntityExampleWithoutMap();
+		final EntityExample second = first.toBuilder().id(ID_FILED_OTHER).build();
+
+		this.bulkOperations.insert(first);
+		this.bulkOperations.insert(List.of(second, first));
+
+		final List<Document> documents = BulkOperation.INSERT.execute(this.bulkOperations);
+
+		assertEquals(3, documents.size());
+		assertEquals(ID_FIELD, documents.get(0).get(DEFAULT_KEY_ID));
+		assertEquals(ID_FILED_OTHER, documents.get(1).get(DEFAULT_KEY_ID));
+		assertEquals(ID_FIELD, documents.get(2).get(DEFAULT_KEY_ID));
+	}
+
+	@Test
+	void should_fail_when_inserted_item_is_not_of_the_given_class() {
+
+		this.bulkOperations.insert(List.of(createEntityExampleWithoutMap(), new Document(DEFAULT_KEY_ID, ID_FIELD)));
+
+		assertThatThrownBy(() -> BulkOperation.INSERT.execute(this.bulkOperations, EntityExample.class,
+															  SerializationContext.DEFAULT))
+			.isInstanceOf(AssertionError.class)
+			.hasMessageContaining("Batch element 1 of type org.bson.Document is not an instance of "
+									  + EntityExample.class.getName());
+	}
+
+	@Test
+	void should_capture_replacement_of_each_replace_one() {
+
+		final Query query = new Query(where(DEFAULT_KEY_ID).is(ID_FIELD));
+		final EntityExample replacement = createEntityExampleWithoutMap().toBuilder().id(ID_FILED_OTHER).build();
+
+		this.bulkOperations.replaceOne(query, replacement);
+
+		final List<Document> documents = BulkOperation.REPLACE_ONE.execute(this.bulkOperations, EntityExample.class,
+																		   SerializationContext.DEFAULT);
+
+		assertEquals(1, documents.size());
+		assertEquals(ID_FILED_OTHER, documents.get(0).get(DEFAULT_KEY_ID));
+	}
+
+	@Test
+	void should_fail_when_replacement_is_not_of_the_given_class() {
+
+		this.bulkOperations.replaceOne(new Query(where(DEFAULT_KEY_ID).is(ID_FIELD)), new Document(DEFAULT_KEY_ID, ID_FIELD));
+
+		assertThatThrownBy(() -> BulkOperation.REPLACE_ONE.execute(this.bulkOperations, EntityExample.class,
+																   SerializationContext.DEFAULT))
+			.isInstanceOf(AssertionError.class)
+			.hasMessageContaining("Batch element 0 of type org.bson.Document");
+	}
+
+	@Test
+	void should_merge_query_and_update_of_each_update_one_item() {
+
+		final Query query = new Query(where(DEFAULT_KEY_ID).is(ID_FIELD));
+		final Update update = new Update().set(FIELD_LOCKED, Boolean.TRUE);
+		final Query otherQuery = new Query(where(DEFAULT_KEY_ID).is(ID_FILED_OTHER));
+		final UpdateDefinition otherUpdate = new Update().set(FIELD_LOCKED, Boolean.FALSE);
+
+		this.bulkOperations.updateOne(query, update);
+		this.bulkOperations.updateOne(List.of(Pair.of(otherQuery, otherUpdate)));
+
+		final List<Document> documents = BulkOperation.UPDATE_ONE.execute(this.bulkOperations);
+
+		assertEquals(2, documents.size());
+		assertEquals(new Document(DEFAULT_KEY_ID, ID_FIELD).append(FIELD_LOCKED, Boolean.TRUE), documents.get(0));
+		assertEquals(new Document(DEFAULT_KEY_ID, ID_FILED_OTHER).append(FIELD_LOCKED, Boolean.FALSE), documents.get(1));
+	}
+
+	@Test
+	void should_only_capture_items_of_the_requested_operation() {
+
+		final Query query = new Query(where(DEFAULT_KEY_ID).is(ID_FIELD));
+
+		this.bulkOperations.insert(createEntityExampleWithoutMap());
+		this.bulkOperations.upsert(query, new Update().set(FIELD_LOCKED, Boolean.TRUE));
+		this.bulkOperations.remove(List.of(query, query));
+
+		assertEquals(1, BulkOperation.UPSERT.execute(this.bulkOperations).size());
+		assertEquals(List.of(query.getQueryObject(), query.getQueryObject()), BulkOperation.REMOVE.execute(this.bulkOperations));
+		assertTrue(BulkOperation.UPDATE_MULTI.execute(this.bulkOperations).isEmpty());
+	}
+
+}
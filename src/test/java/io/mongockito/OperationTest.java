@@ -5,22 +5,49 @@ import static io.mongockito.common.TestConstants.EXAMPLE_COLLECTION_NAME;
 import static io.mongockito.common.TestConstants.FIELD_LOCKED;
 import static io.mongockito.common.TestConstants.FIELD_MONTH;
 import static io.mongockito.common.business.EntityExampleObjectMother.ID_FIELD;
+import static io.mongockito.common.business.EntityExampleObjectMother.ID_FILED_OTHER;
 import static io.mongockito.common.business.EntityExampleObjectMother.MONTH_VALUE_01;
 import static io.mongockito.util.json.JsonTool.gsonBuilder;
 import static org.apache.commons.lang3.math.NumberUtils.INTEGER_ONE;
+import static org.apache.commons.lang3.math.NumberUtils.INTEGER_TWO;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.match;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.newAggregation;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.sort;
 import static org.springframework.data.mongodb.core.query.Criteria.where;
 
 import io.mongockito.common.business.EntityExampleObjectMother;
 import io.mongockito.common.model.EntityExample;
+import io.mongockito.common.model.IndexedEntityExample;
+import io.mongockito.model.CapturedInvocation;
+import io.mongockito.util.json.model.SerializationContext;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import lombok.extern.slf4j.Slf4j;
 import org.bson.Document;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.aggregation.TypedAggregation;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.core.query.Update;
 
@@ -291,4 +318,447 @@ class OperationTest {
 		assertEquals(entityExample, entity);
 	}
 
+	@Test
+	void should_execute_all_returning_one_document_per_invocation() {
+
+		this.mongoTemplate.findById(ID_FIELD, EntityExample.class);
+		this.mongoTemplate.findById(ID_FILED_OTHER, EntityExample.class);
+
+		final List<Document> documents = Operation.FIND_BY_ID.executeAll(this.mongoTemplate,
+																		  EntityExample.class,
+																		  times(INTEGER_TWO),
+																		  SerializationContext.DEFAULT);
+
+		assertEquals(List.of(new Document(DEFAULT_KEY_ID, ID_FIELD), new Document(DEFAULT_KEY_ID, ID_FILED_OTHER)), documents);
+		assertEquals(new Document(DEFAULT_KEY_ID, ID_FILED_OTHER),
+					 Operation.FIND_BY_ID.execute(this.mongoTemplate, EntityExample.class, times(INTEGER_TWO)));
+	}
+
+	@Test
+	void should_execute_insert_operation_correctly() {
+
+		final EntityExample entityExample = EntityExampleObjectMother.createEntityExampleWithoutMap();
+
+		this.mongoTemplate.insert(entityExample);
+
+		final Document document = Operation.INSERT.execute(this.mongoTemplate, EntityExample.class, times(INTEGER_ONE));
+		final EntityExample entity = gsonBuilder().fromJson(document.toJson(), EntityExample.class);
+
+		assertEquals(entityExample, entity);
+	}
+
+	@Test
+	void should_execute_insert_operation_correctly_with_collection_name_parameter() {
+
+		final EntityExample entityExample = EntityExampleObjectMother.createEntityExampleWithoutMap();
+
+		this.mongoTemplate.insert(entityExample, EXAMPLE_COLLECTION_NAME);
+
+		final Document document =
+			Operation.INSERT.execute(this.mongoTemplate, EntityExample.class, times(INTEGER_ONE), EXAMPLE_COLLECTION_NAME);
+		final EntityExample entity = gsonBuilder().fromJson(document.toJson(), EntityExample.class);
+
+		assertEquals(entityExample, entity);
+	}
+
+	@Test
+	void should_execute_insert_batch_operation_returning_every_element() {
+
+		final EntityExample entityExample = EntityExampleObjectMother.createEntityExampleWithoutMap();
+		final EntityExample otherEntityExample = entityExample.toBuilder().id(ID_FILED_OTHER).build();
+
+		this.mongoTemplate.insert(List.of(entityExample, otherEntityExample), EntityExample.class);
+
+		final List<Document> documents =
+			Operation.INSERT_BATCH.executeAll(this.mongoTemplate, EntityExample.class, times(INTEGER_ONE), SerializationContext.DEFAULT);
+
+		assertEquals(2, documents.size());
+		assertEquals(ID_FIELD, documents.get(0).get(DEFAULT_KEY_ID));
+		assertEquals(ID_FILED_OTHER, documents.get(1).get(DEFAULT_KEY_ID));
+	}
+
+	@Test
+	void should_execute_insert_batch_operation_correctly_with_collection_name_parameter() {
+
+		final EntityExample entityExample = EntityExampleObjectMother.createEntityExampleWithoutMap();
+
+		this.mongoTemplate.insert(List.of(entityExample), EXAMPLE_COLLECTION_NAME);
+
+		final Document document =
+			Operation.INSERT_BATCH.execute(this.mongoTemplate, EntityExample.class, times(INTEGER_ONE), EXAMPLE_COLLECTION_NAME);
+
+		assertEquals(ID_FIELD, document.get(DEFAULT_KEY_ID));
+	}
+
+	@Test
+	void should_fail_when_a_batch_element_is_not_of_class() {
+
+		final EntityExample entityExample = EntityExampleObjectMother.createEntityExampleWithoutMap();
+
+		this.mongoTemplate.insertAll(List.of(entityExample, new Document(DEFAULT_KEY_ID, ID_FILED_OTHER)));
+
+		assertThatThrownBy(() -> Operation.INSERT_ALL.executeAll(
+			this.mongoTemplate, EntityExample.class, times(INTEGER_ONE), SerializationContext.DEFAULT))
+			.isInstanceOf(AssertionError.class)
+			.hasMessageContaining("Batch element 1 of type org.bson.Document");
+	}
+
+	@Test
+	void should_execute_aggregate_operation_rendering_typed_aggregation() {
+
+		final TypedAggregation<EntityExample> aggregation = newAggregation(EntityExample.class,
+																		   match(where(FIELD_MONTH).is(MONTH_VALUE_01)),
+																		   sort(Direction.ASC, DEFAULT_KEY_ID))
+			.withOptions(AggregationOptions.builder().allowDiskUse(true).cursorBatchSize(100).build());
+
+		this.mongoTemplate.aggregate(aggregation, Document.class);
+
+		final Document document = Operation.AGGREGATE.execute(this.mongoTemplate, Document.class, times(INTEGER_ONE));
+
+		assertEquals(List.of(new Document("$match", new Document(FIELD_MONTH, MONTH_VALUE_01)),
+							 new Document("$sort", new Document(DEFAULT_KEY_ID, 1))),
+					 document.get("pipeline"));
+		assertEquals(Boolean.TRUE, document.get("allowDiskUse"));
+		assertEquals(100, document.get("batchSize"));
+	}
+
+	@Test
+	void should_execute_aggregate_operation_correctly_with_collection_name_parameter() {
+
+		final Aggregation aggregation = newAggregation(match(where(FIELD_MONTH).is(MONTH_VALUE_01)));
+
+		this.mongoTemplate.aggregate(aggregation, EXAMPLE_COLLECTION_NAME, EntityExample.class);
+
+		final Document document =
+			Operation.AGGREGATE.execute(this.mongoTemplate, EntityExample.class, times(INTEGER_ONE), EXAMPLE_COLLECTION_NAME);
+
+		assertEquals(List.of(new Document("$match", new Document(FIELD_MONTH, MONTH_VALUE_01))), document.get("pipeline"));
+		assertEquals(Boolean.FALSE, document.get("allowDiskUse"));
+		assertNull(document.get("batchSize"));
+	}
+
+	@Test
+	void should_execute_aggregate_stream_operation_with_input_type() {
+
+		final Aggregation aggregation = newAggregation(match(where(FIELD_MONTH).is(MONTH_VALUE_01)));
+
+		this.mongoTemplate.aggregateStream(aggregation, EntityExample.class, Document.class);
+
+		final Document document = Operation.AGGREGATE_STREAM.execute(this.mongoTemplate, Document.class, times(INTEGER_ONE));
+
+		assertEquals(List.of(new Document("$match", new Document(FIELD_MONTH, MONTH_VALUE_01))), document.get("pipeline"));
+	}
+
+	@Test
+	void should_execute_stream_operation_correctly() {
+
+		this.mongoTemplate.stream(new Query(where(FIELD_MONTH).is(MONTH_VALUE_01)), EntityExample.class);
+
+		final Document document = Operation.STREAM.execute(this.mongoTemplate, EntityExample.class, times(INTEGER_ONE));
+
+		assertEquals(MONTH_VALUE_01, document.get(FIELD_MONTH));
+	}
+
+	@Test
+	void should_execute_stream_operation_correctly_with_collection_name_parameter() {
+
+		this.mongoTemplate.stream(new Query(where(FIELD_MONTH).is(MONTH_VALUE_01)), EntityExample.class, EXAMPLE_COLLECTION_NAME);
+
+		final Document document =
+			Operation.STREAM.execute(this.mongoTemplate, EntityExample.class, times(INTEGER_ONE), EXAMPLE_COLLECTION_NAME);
+
+		assertEquals(MONTH_VALUE_01, document.get(FIELD_MONTH));
+	}
+
+	@Test
+	void should_execute_scroll_operation_correctly() {
+
+		this.mongoTemplate.scroll(new Query(where(FIELD_MONTH).is(MONTH_VALUE_01)), EntityExample.class);
+
+		final Document document = Operation.SCROLL.execute(this.mongoTemplate, EntityExample.class, times(INTEGER_ONE));
+
+		assertEquals(MONTH_VALUE_01, document.get(FIELD_MONTH));
+	}
+
+	@Test
+	void should_execute_scroll_operation_correctly_with_collection_name_parameter() {
+
+		this.mongoTemplate.scroll(new Query(where(FIELD_MONTH).is(MONTH_VALUE_01)), EntityExample.class, EXAMPLE_COLLECTION_NAME);
+
+		final Document document =
+			Operation.SCROLL.execute(this.mongoTemplate, EntityExample.class, times(INTEGER_ONE), EXAMPLE_COLLECTION_NAME);
+
+		assertEquals(MONTH_VALUE_01, document.get(FIELD_MONTH));
+	}
+
+	@Test
+	void should_execute_remove_operation_correctly() {
+
+		this.mongoTemplate.remove(new Query(where(DEFAULT_KEY_ID).is(ID_FIELD)), EntityExample.class);
+
+		final Document document = Operation.REMOVE.execute(this.mongoTemplate, EntityExample.class, times(INTEGER_ONE));
+
+		assertEquals(ID_FIELD, document.get(DEFAULT_KEY_ID));
+	}
+
+	@Test
+	void should_execute_remove_operation_correctly_with_collection_name_parameter() {
+
+		this.mongoTemplate.remove(new Query(where(DEFAULT_KEY_ID).is(ID_FIELD)), EntityExample.class, EXAMPLE_COLLECTION_NAME);
+
+		final Document document =
+			Operation.REMOVE.execute(this.mongoTemplate, EntityExample.class, times(INTEGER_ONE), EXAMPLE_COLLECTION_NAME);
+
+		assertEquals(ID_FIELD, document.get(DEFAULT_KEY_ID));
+	}
+
+	@Test
+	void should_execute_count_operations_correctly() {
+
+		final Query query = new Query(where(FIELD_MONTH).is(MONTH_VALUE_01));
+
+		this.mongoTemplate.count(query, EntityExample.class);
+		this.mongoTemplate.exactCount(query, EntityExample.class, EXAMPLE_COLLECTION_NAME);
+		this.mongoTemplate.exists(query, EntityExample.class);
+
+		assertEquals(MONTH_VALUE_01,
+					 Operation.COUNT.execute(this.mongoTemplate, EntityExample.class, times(INTEGER_ONE)).get(FIELD_MONTH));
+		assertEquals(MONTH_VALUE_01,
+					 Operation.EXACT_COUNT.execute(this.mongoTemplate, EntityExample.class, times(INTEGER_ONE),
+												   EXAMPLE_COLLECTION_NAME).get(FIELD_MONTH));
+		assertEquals(MONTH_VALUE_01,
+					 Operation.EXISTS.execute(this.mongoTemplate, EntityExample.class, times(INTEGER_ONE)).get(FIELD_MONTH));
+	}
+
+	@Test
+	void should_execute_estimated_count_operation_correctly() {
+
+		this.mongoTemplate.estimatedCount(EntityExample.class);
+		this.mongoTemplate.estimatedCount(EXAMPLE_COLLECTION_NAME);
+
+		assertEquals(1, Operation.ESTIMATED_COUNT.executeAll(this.mongoTemplate, EntityExample.class, times(INTEGER_ONE),
+															 SerializationContext.DEFAULT).size());
+		assertEquals(1, Operation.ESTIMATED_COUNT.executeAll(this.mongoTemplate, EntityExample.class, times(INTEGER_ONE),
+															 EXAMPLE_COLLECTION_NAME, SerializationContext.DEFAULT).size());
+	}
+
+	@Test
+	void should_fail_when_estimated_count_targets_another_class_or_collection() {
+
+		this.mongoTemplate.estimatedCount(IndexedEntityExample.class);
+		this.mongoTemplate.estimatedCount("otherCollection");
+
+		assertThrows(AssertionError.class, () -> Operation.ESTIMATED_COUNT.executeAll(
+			this.mongoTemplate, EntityExample.class, times(INTEGER_ONE), SerializationContext.DEFAULT));
+		assertThrows(AssertionError.class, () -> Operation.ESTIMATED_COUNT.executeAll(
+			this.mongoTemplate, EntityExample.class, times(INTEGER_ONE), EXAMPLE_COLLECTION_NAME, SerializationContext.DEFAULT));
+	}
+
+	@Test
+	void should_verify_find_and_modify_overloads_together_in_invocation_order() {
+
+		this.mongoTemplate.findAndModify(new Query(where(DEFAULT_KEY_ID).is(ID_FIELD)),
+										 new Update().set(FIELD_LOCKED, Boolean.TRUE),
+										 FindAndModifyOptions.options().returnNew(true),
+										 EntityExample.class);
+		this.mongoTemplate.findAndModify(new Query(where(DEFAULT_KEY_ID).is(ID_FILED_OTHER)),
+										 new Update().set(FIELD_LOCKED, Boolean.FALSE),
+										 EntityExample.class);
+
+		final List<Document> documents = Operation.FIND_AND_MODIFY.executeAll(this.mongoTemplate, EntityExample.class,
+																			  times(INTEGER_TWO), SerializationContext.DEFAULT);
+
+		assertEquals(List.of(ID_FIELD, ID_FILED_OTHER), documents.stream().map(document -> document.get(DEFAULT_KEY_ID)).toList());
+		assertEquals(List.of(true, false), documents.stream()
+			.map(document -> document.get(Operation.OPTIONS_KEY, Document.class).get(Operation.RETURN_NEW))
+			.toList());
+		assertThrows(AssertionError.class, () -> Operation.FIND_AND_MODIFY.executeAll(
+			this.mongoTemplate, EntityExample.class, times(INTEGER_ONE), SerializationContext.DEFAULT));
+	}
+
+	@Test
+	void should_verify_aggregate_overloads_together() {
+
+		this.mongoTemplate.aggregate(newAggregation(EntityExample.class, match(where(FIELD_MONTH).is(MONTH_VALUE_01))),
+									 Document.class);
+		this.mongoTemplate.aggregate(newAggregation(sort(Direction.ASC, FIELD_MONTH)), EntityExample.class, Document.class);
+
+		final List<Document> documents = Operation.AGGREGATE.executeAll(this.mongoTemplate, Document.class,
+																		times(INTEGER_TWO), SerializationContext.DEFAULT);
+
+		assertEquals(INTEGER_TWO, documents.size());
+		assertEquals(List.of(new Document("$sort", new Document(FIELD_MONTH, 1))), documents.get(1).get("pipeline"));
+	}
+
+	@Test
+	void should_execute_find_and_modify_operation_capturing_options() {
+
+		this.mongoTemplate.findAndModify(new Query(where(DEFAULT_KEY_ID).is(ID_FIELD)),
+										 new Update().set(FIELD_LOCKED, Boolean.TRUE),
+										 FindAndModifyOptions.options().returnNew(true).upsert(true),
+										 EntityExample.class);
+
+		final Document document = Operation.FIND_AND_MODIFY.execute(this.mongoTemplate, EntityExample.class, times(INTEGER_ONE));
+
+		assertEquals(ID_FIELD, document.get(DEFAULT_KEY_ID));
+		assertEquals(Boolean.TRUE, document.get(FIELD_LOCKED));
+		assertEquals(new Document(Operation.RETURN_NEW, true).append(Operation.UPSERT_OPTION, true)
+						 .append(Operation.REMOVE_OPTION, false),
+					 document.get(Operation.OPTIONS_KEY));
+	}
+
+	@Test
+	void should_execute_find_and_modify_operation_with_default_options() {
+
+		this.mongoTemplate.findAndModify(new Query(where(DEFAULT_KEY_ID).is(ID_FIELD)),
+										 new Update().set(FIELD_LOCKED, Boolean.TRUE),
+										 EntityExample.class,
+										 EXAMPLE_COLLECTION_NAME);
+
+		final Document document = Operation.FIND_AND_MODIFY.execute(this.mongoTemplate, EntityExample.class,
+																	times(INTEGER_ONE), EXAMPLE_COLLECTION_NAME);
+
+		assertEquals(Boolean.FALSE, document.get(Operation.OPTIONS_KEY, Document.class).get(Operation.RETURN_NEW));
+	}
+
+	@Test
+	void should_execute_find_and_replace_operation_correctly() {
+
+		final EntityExample entityExample = EntityExampleObjectMother.createEntityExample();
+
+		this.mongoTemplate.findAndReplace(new Query(where(DEFAULT_KEY_ID).is(ID_FIELD)),
+										  entityExample,
+										  FindAndReplaceOptions.options().upsert(),
+										  EXAMPLE_COLLECTION_NAME);
+
+		final Document document = Operation.FIND_AND_REPLACE.execute(this.mongoTemplate, EntityExample.class,
+																	 times(INTEGER_ONE), EXAMPLE_COLLECTION_NAME);
+
+		assertEquals(entityExample.getMonth(), document.get(FIELD_MONTH));
+		assertEquals(Boolean.TRUE, document.get(Operation.OPTIONS_KEY, Document.class).get(Operation.UPSERT_OPTION));
+	}
+
+	@Test
+	void should_fail_find_and_replace_of_another_class() {
+
+		this.mongoTemplate.findAndReplace(new Query(where(DEFAULT_KEY_ID).is(ID_FIELD)), new Document(FIELD_MONTH, MONTH_VALUE_01));
+		this.mongoTemplate.findAndReplace(new Query(where(DEFAULT_KEY_ID).is(ID_FIELD)),
+										  new Document(FIELD_MONTH, MONTH_VALUE_01),
+										  FindAndReplaceOptions.options(),
+										  Document.class,
+										  EXAMPLE_COLLECTION_NAME);
+
+		assertThrows(AssertionError.class, () -> Operation.FIND_AND_REPLACE.executeAll(
+			this.mongoTemplate, EntityExample.class, times(INTEGER_ONE), SerializationContext.DEFAULT));
+		assertThrows(AssertionError.class, () -> Operation.FIND_AND_REPLACE.executeAll(
+			this.mongoTemplate, EntityExample.class, times(INTEGER_ONE), EXAMPLE_COLLECTION_NAME,
+			SerializationContext.DEFAULT));
+	}
+
+	@Test
+	void should_verify_find_and_replace_overloads_with_entity_and_result_types() {
+
+		final EntityExample entityExample = EntityExampleObjectMother.createEntityExample();
+
+		this.mongoTemplate.findAndReplace(new Query(where(DEFAULT_KEY_ID).is(ID_FIELD)),
+										  entityExample,
+										  FindAndReplaceOptions.options().upsert(),
+										  EntityExample.class,
+										  Document.class);
+		this.mongoTemplate.findAndReplace(new Query(where(DEFAULT_KEY_ID).is(ID_FIELD)),
+										  entityExample,
+										  FindAndReplaceOptions.options(),
+										  EntityExample.class,
+										  EXAMPLE_COLLECTION_NAME,
+										  Document.class);
+		this.mongoTemplate.findAndReplace(new Query(where(DEFAULT_KEY_ID).is(ID_FIELD)),
+										  entityExample,
+										  FindAndReplaceOptions.options(),
+										  EntityExample.class,
+										  EXAMPLE_COLLECTION_NAME);
+
+		final List<Document> documents = Operation.FIND_AND_REPLACE.executeAll(this.mongoTemplate, EntityExample.class,
+																			   times(INTEGER_ONE), SerializationContext.DEFAULT);
+		final List<Document> collectionDocuments = Operation.FIND_AND_REPLACE.executeAll(
+			this.mongoTemplate, EntityExample.class, times(INTEGER_TWO), EXAMPLE_COLLECTION_NAME,
+			SerializationContext.DEFAULT);
+
+		assertEquals(Boolean.TRUE, documents.get(0).get(Operation.OPTIONS_KEY, Document.class).get(Operation.UPSERT_OPTION));
+		assertEquals(entityExample.getMonth(), collectionDocuments.get(1).get(FIELD_MONTH));
+	}
+
+	@Test
+	void should_keep_the_replacement_apart_from_the_filter() {
+
+		final EntityExample entityExample = EntityExampleObjectMother.createEntityExample();
+
+		this.mongoTemplate.findAndReplace(new Query(where(FIELD_MONTH).is("filter-month")), entityExample);
+
+		final List<Document> documents = Operation.FIND_AND_REPLACE.executeAll(this.mongoTemplate, EntityExample.class,
+																			   times(INTEGER_ONE), SerializationContext.DEFAULT);
+		final CapturedInvocation invocation = CapturedDocuments.invocation(documents, 0);
+
+		assertEquals(entityExample.getMonth(), invocation.getDocument().get(FIELD_MONTH));
+		assertEquals(new Document(FIELD_MONTH, "filter-month"), invocation.getReplacement().getFilter());
+		assertEquals(entityExample.getMonth(), invocation.getReplacement().getReplacement().get(FIELD_MONTH));
+	}
+
+	@Test
+	void should_reject_aggregation_pipeline_updates() {
+
+		this.mongoTemplate.findAndModify(new Query(where(DEFAULT_KEY_ID).is(ID_FIELD)),
+										 AggregationUpdate.update().set(FIELD_LOCKED).toValue(Boolean.TRUE),
+										 EntityExample.class);
+
+		assertThrows(AssertionError.class,
+					 () -> Operation.FIND_AND_MODIFY.execute(this.mongoTemplate, EntityExample.class, times(INTEGER_ONE)));
+	}
+
+	@Test
+	void should_return_null_when_nothing_was_captured() {
+
+		assertNull(Operation.FIND.execute(this.mongoTemplate, EntityExample.class, never()));
+		assertEquals(List.of(), Operation.COUNT.executeAll(this.mongoTemplate, EntityExample.class, never(),
+														   SerializationContext.DEFAULT));
+	}
+
+	@Test
+	void should_execute_operations_concurrently_without_sharing_captured_values() throws Exception {
+
+		final int threads = 8;
+		final int iterations = 500;
+		final ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+		try {
+			final List<Callable<Void>> tasks = new ArrayList<>();
+			for (int thread = 0; thread < threads; thread++) {
+				final String threadId = "thread-" + thread;
+				tasks.add(() -> this.executeFindOperationRepeatedly(threadId, iterations));
+			}
+
+			for (final Future<Void> future : executor.invokeAll(tasks)) {
+				future.get();
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private Void executeFindOperationRepeatedly(final String threadId, final int iterations) {
+
+		final MongoTemplate template = mock(MongoTemplate.class);
+
+		for (int iteration = 0; iteration < iterations; iteration++) {
+			final String expectedId = threadId + "-" + iteration;
+			clearInvocations(template);
+			template.find(new Query(where(DEFAULT_KEY_ID).is(expectedId)), EntityExample.class);
+
+			final Document document = Operation.FIND.execute(template, EntityExample.class, times(INTEGER_ONE));
+
+			assertEquals(expectedId, document.get(DEFAULT_KEY_ID));
+		}
+
+		return null;
+	}
+
 }
@@ -0,0 +1,480 @@
+package io.mongockito;
+
+import static io.mongockito.common.TestConstants.DEFAULT_KEY_ID;
+import static io.mongockito.common.TestConstants.EXAMPLE_COLLECTION_NAME;
+import static io.mongockito.common.TestConstants.FIELD_LOCKED;
+import static io.mongockito.common.TestConstants.FIELD_MONTH;
+import static io.mongockito.common.business.EntityExampleObjectMother.ID_FIELD;
+import static io.mongockito.common.business.EntityExampleObjectMother.ID_FILED_OTHER;
+import static io.mongockito.common.business.EntityExampleObjectMother.MONTH_VALUE_01;
+import static io.mongockito.util.json.JsonTool.gsonBuilder;
+import static org.apache.commons.lang3.math.NumberUtils.INTEGER_ONE;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.times;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.match;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.newAggregation;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.sort;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+import io.mongockito.common.business.EntityExampleObjectMother;
+import io.mongockito.common.model.EntityExample;
+import io.mongockito.util.json.model.SerializationContext;
+import java.util.List;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
+import org.springframework.data.mongodb.core.aggregation.TypedAggregation;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveOperationTest {
+
+	@Mock(name = "database")
+	protected ReactiveMongoTemplate mongoTemplate;
+
+	@Test
+	void should_execute_find_operation_correctly() {
+
+		final Query query = new Query();
+		query.addCriteria(where(DEFAULT_KEY_ID).is(ID_FIELD));
+		this.mongoTemplate.find(query, EntityExample.class);
+
+		final Document document = ReactiveOperation.FIND.execute(this.mongoTemplate, EntityExample.class, times(INTEGER_ONE));
+		final EntityExample entity = gsonBuilder().fromJson(document.toJson(), EntityExample.class);
+
+		assertEquals(ID_FIELD, entity.getId());
+	}
+
+	@Test
+	void should_execute_find_operation_correctly_with_collection_name_parameter() {
+
+		final Query query = new Query();
+		query.addCriteria(where(DEFAULT_KEY_ID).is(ID_FIELD));
+		this.mongoTemplate.find(query, EntityExample.class, EXAMPLE_COLLECTION_NAME);
+
+		final Document document = ReactiveOperation.FIND.execute(this.mongoTemplate, EntityExample.class, times(INTEGER_ONE), EXAMPLE_COLLECTION_NAME);
+		final EntityExample entity = gsonBuilder().fromJson(document.toJson(), EntityExample.class);
+
+		assertEquals(ID_FIELD, entity.getId());
+	}
+
+	@Test
+	void should_execute_find_one_operation_correctly() {
+
+		final Query query = new Query();
+		query.addCriteria(where(DEFAULT_KEY_ID).is(ID_FIELD));
+		this.mongoTemplate.findOne(query, EntityExample.class);
+
+		final Document document = ReactiveOperation.FIND_ONE.execute(this.mongoTemplate, EntityExample.class, times(INTEGER_ONE));
+		final EntityExample entity = gsonBuilder().fromJson(document.toJson(), EntityExample.class);
+
+		assertEquals(ID_FIELD, entity.getId());
+
+	}
+
+	@Test
+	void should_execute_find_one_operation_correctly_with_collection_name_parameter() {
+
+		final Query query = new Query();
+		query.addCriteria(where(DEFAULT_KEY_ID).is(ID_FIELD));
+		this.mongoTemplate.findOne(query, EntityExample.class, EXAMPLE_COLLECTION_NAME);
+
+		final Document document = ReactiveOperation.FIND_ONE.execute(this.mongoTemplate, EntityExample.class, times(INTEGER_ONE), EXAMPLE_COLLECTION_NAME);
+		final EntityExample entity = gsonBuilder().fromJson(document.toJson(), EntityExample.class);
+
+		assertEquals(ID_FIELD, entity.getId());
+
+	}
+
+	@Test
+	void should_execute_find_by_id_operation_correctly() {
+
+		this.mongoTemplate.findById(ID_FIELD, EntityExample.class);
+
+		final Document document = ReactiveOperation.FIND_BY_ID.execute(this.mongoTemplate, EntityExample.class, times(INTEGER_ONE));
+		final EntityExample entity = gsonBuilder().fromJson(document.toJson(), EntityExample.class);
+
+		assertEquals(ID_FIELD, entity.getId());
+
+	}
+
+	@Test
+	void should_execute_find_by_id_operation_correctly_with_collection_name_parameter() {
+
+		this.mongoTemplate.findById(ID_FIELD, EntityExample.class, EXAMPLE_COLLECTION_NAME);
+
+		final Document document =
+			ReactiveOperation.FIND_BY_ID.execute(this.mongoTemplate, EntityExample.class, times(INTEGER_ONE), EXAMPLE_COLLECTION_NAME);
+		final EntityExample entity = gsonBuilder().fromJson(document.toJson(), EntityExample.class);
+
+		assertEquals(ID_FIELD, entity.getId());
+
+	}
+
+	@Test
+	void should_execute_find_and_Remove_operation_correctly() {
+
+		final Query query = new Query();
+		query.addCriteria(where(DEFAULT_KEY_ID).is(ID_FIELD));
+
+		this.mongoTemplate.findAndRemove(query, EntityExample.class);
+
+		final Document document = ReactiveOperation.FIND_AND_REMOVE.execute(this.mongoTemplate, EntityExample.class, times(INTEGER_ONE));
+		final EntityExample entity = gsonBuilder().fromJson(document.toJson(), EntityExample.class);
+
+		assertEquals(ID_FIELD, entity.getId());
+
+	}
+
+	@Test
+	void should_execute_find_and_Remove_operation_correctly_with_collection_name_parameter() {
+
+		final Query query = new Query();
+		query.addCriteria(where(DEFAULT_KEY_ID).is(ID_FIELD));
+
+		this.mongoTemplate.findAndRemove(query, EntityExample.class, EXAMPLE_COLLECTION_NAME);
+
+		final Document document = ReactiveOperation.FIND_AND_REMOVE.execute(this.mongoTemplate,
+																	EntityExample.class,
+																	times(INTEGER_ONE),
+																	EXAMPLE_COLLECTION_NAME);
+		final EntityExample entity = gsonBuilder().fromJson(document.toJson(), EntityExample.class);
+
+		assertEquals(ID_FIELD, entity.getId());
+
+	}
+
+	@Test
+	void should_execute_update_first_operation_correctly() {
+
+		final Query query = new Query();
+		query.addCriteria(where(DEFAULT_KEY_ID).is(ID_FIELD));
+
+		final Update update = new Update();
+		update.set(DEFAULT_KEY_ID, ID_FIELD);
+		update.set(FIELD_LOCKED, Boolean.TRUE);
+		this.mongoTemplate.updateFirst(query, update, EntityExample.class);
+
+		final Document document = ReactiveOperation.UPDATE_FIRST.execute(this.mongoTemplate, EntityExample.class, times(INTEGER_ONE));
+		final EntityExample entity = gsonBuilder().fromJson(document.toJson(), EntityExample.class);
+
+		assertEquals(ID_FIELD, entity.getId());
+		assertEquals(Boolean.TRUE, entity.isLocked());
+
+	}
+
+	@Test
+	void should_execute_update_first_operation_correctly_with_collection_name_parameter() {
+
+		final Query query = new Query();
+		query.addCriteria(where(DEFAULT_KEY_ID).is(ID_FIELD));
+
+		final Update update = new Update();
+		update.set(DEFAULT_KEY_ID, ID_FIELD);
+		update.set(FIELD_LOCKED, Boolean.TRUE);
+		this.mongoTemplate.updateFirst(query, update, EntityExample.class, EXAMPLE_COLLECTION_NAME);
+
+		final Document document =
+			ReactiveOperation.UPDATE_FIRST.execute(this.mongoTemplate, EntityExample.class, times(INTEGER_ONE), EXAMPLE_COLLECTION_NAME);
+		final EntityExample entity = gsonBuilder().fromJson(document.toJson(), EntityExample.class);
+
+		assertEquals(ID_FIELD, entity.getId());
+		assertEquals(Boolean.TRUE, entity.isLocked());
+
+	}
+
+	@Test
+	void should_execute_update_multi_operation_correctly() {
+
+		final Query query = new Query();
+		query.addCriteria(where(DEFAULT_KEY_ID).is(ID_FIELD));
+
+		final Update update = new Update();
+		update.set(DEFAULT_KEY_ID, ID_FIELD);
+		update.set(FIELD_LOCKED, Boolean.TRUE);
+		this.mongoTemplate.updateMulti(query, update, EntityExample.class);
+
+		final Document document = ReactiveOperation.UPDATE_MULTI.execute(this.mongoTemplate, EntityExample.class, times(INTEGER_ONE));
+		final EntityExample entity = gsonBuilder().fromJson(document.toJson(), EntityExample.class);
+
+		assertEquals(ID_FIELD, entity.getId());
+		assertEquals(Boolean.TRUE, entity.isLocked());
+
+	}
+
+	@Test
+	void should_execute_update_multi_operation_correctly_with_collection_name_parameter() {
+
+		final Query query = new Query();
+		query.addCriteria(where(DEFAULT_KEY_ID).is(ID_FIELD));
+
+		final Update update = new Update();
+		update.set(DEFAULT_KEY_ID, ID_FIELD);
+		update.set(FIELD_LOCKED, Boolean.TRUE);
+		this.mongoTemplate.updateMulti(query, update, EntityExample.class, EXAMPLE_COLLECTION_NAME);
+
+		final Document document =
+			ReactiveOperation.UPDATE_MULTI.execute(this.mongoTemplate, EntityExample.class, times(INTEGER_ONE), EXAMPLE_COLLECTION_NAME);
+		final EntityExample entity = gsonBuilder().fromJson(document.toJson(), EntityExample.class);
+
+		assertEquals(ID_FIELD, entity.getId());
+		assertEquals(Boolean.TRUE, entity.isLocked());
+
+	}
+
+	@Test
+	void should_execute_upsert_operation_correctly() {
+
+		final Query query = new Query();
+		query.addCriteria(where(DEFAULT_KEY_ID).is(ID_FIELD));
+
+		final Update update = new Update();
+		update.set(DEFAULT_KEY_ID, ID_FIELD);
+		update.set(FIELD_LOCKED, Boolean.TRUE);
+		update.set(FIELD_MONTH, MONTH_VALUE_01);
+		this.mongoTemplate.upsert(query, update, EntityExample.class);
+
+		final Document document = ReactiveOperation.UPSERT.execute(this.mongoTemplate, EntityExample.class, times(INTEGER_ONE));
+		final EntityExample entity = gsonBuilder().fromJson(document.toJson(), EntityExample.class);
+
+		assertEquals(ID_FIELD, entity.getId());
+		assertEquals(Boolean.TRUE, entity.isLocked());
+		assertEquals(MONTH_VALUE_01, entity.getMonth());
+
+	}
+
+	@Test
+	void should_execute_upsert_operation_correctly_with_collection_name_parameter() {
+
+		final Query query = new Query();
+		query.addCriteria(where(DEFAULT_KEY_ID).is(ID_FIELD));
+
+		final Update update = new Update();
+		update.set(DEFAULT_KEY_ID, ID_FIELD);
+		update.set(FIELD_LOCKED, Boolean.TRUE);
+		update.set(FIELD_MONTH, MONTH_VALUE_01);
+		this.mongoTemplate.upsert(query, update, EntityExample.class, EXAMPLE_COLLECTION_NAME);
+
+		final Document document =
+			ReactiveOperation.UPSERT.execute(this.mongoTemplate, EntityExample.class, times(INTEGER_ONE), EXAMPLE_COLLECTION_NAME);
+		final EntityExample entity = gsonBuilder().fromJson(document.toJson(), EntityExample.class);
+
+		assertEquals(ID_FIELD, entity.getId());
+		assertEquals(Boolean.TRUE, entity.isLocked());
+		assertEquals(MONTH_VALUE_01, entity.getMonth());
+
+	}
+
+	@Test
+	void should_execute_save_operation_correctly() {
+
+		final EntityExample entityExample = EntityExampleObjectMother.createEntityExampleWithoutMap();
+
+		this.mongoTemplate.save(entityExample);
+
+		final Document document = ReactiveOperation.SAVE.execute(this.mongoTemplate, EntityExample.class, times(INTEGER_ONE));
+		final EntityExample entity = gsonBuilder().fromJson(document.toJson(), EntityExample.class);
+
+		assertEquals(entityExample, entity);
+	}
+
+	@Test
+	void should_execute_save_operation_correctly_with_collection_name_parameter() {
+
+		final EntityExample entityExample = EntityExampleObjectMother.createEntityExampleWithoutMap();
+
+		this.mongoTemplate.save(entityExample, EXAMPLE_COLLECTION_NAME);
+
+		final Document document =
+			ReactiveOperation.SAVE.execute(this.mongoTemplate, EntityExample.class, times(INTEGER_ONE), EXAMPLE_COLLECTION_NAME);
+		final EntityExample entity = gsonBuilder().fromJson(document.toJson(), EntityExample.class);
+
+		assertEquals(entityExample, entity);
+	}
+
+	@Test
+	void should_execute_insert_operation_correctly() {
+
+		final EntityExample entityExample = EntityExampleObjectMother.createEntityExampleWithoutMap();
+
+		this.mongoTemplate.insert(entityExample);
+
+		final Document document = ReactiveOperation.INSERT.execute(this.mongoTemplate, EntityExample.class, times(INTEGER_ONE));
+		final EntityExample entity = gsonBuilder().fromJson(document.toJson(), EntityExample.class);
+
+		assertEquals(entityExample, entity);
+	}
+
+	@Test
+	void should_execute_insert_operation_correctly_with_collection_name_parameter() {
+
+		final EntityExample entityExample = EntityExampleObjectMother.createEntityExampleWithoutMap();
+
+		this.mongoTemplate.insert(entityExample, EXAMPLE_COLLECTION_NAME);
+
+		final Document document =
+			ReactiveOperation.INSERT.execute(this.mongoTemplate, EntityExample.class, times(INTEGER_ONE), EXAMPLE_COLLECTION_NAME);
+		final EntityExample entity = gsonBuilder().fromJson(document.toJson(), EntityExample.class);
+
+		assertEquals(entityExample, entity);
+	}
+
+	@Test
+	void should_execute_insert_batch_operation_returning_every_element() {
+
+		final EntityExample entityExample = EntityExampleObjectMother.createEntityExampleWithoutMap();
+		final EntityExample otherEntityExample = entityExample.toBuilder().id(ID_FILED_OTHER).build();
+
+		this.mongoTemplate.insert(List.of(entityExample, otherEntityExample), EntityExample.class);
+
+		final List<Document> documents =
+			ReactiveOperation.INSERT_BATCH.executeAll(this.mongoTemplate, EntityExample.class, times(INTEGER_ONE), SerializationContext.DEFAULT);
+
+		assertEquals(2, documents.size());
+		assertEquals(ID_FIELD, documents.get(0).get(DEFAULT_KEY_ID));
+		assertEquals(ID_FILED_OTHER, documents.get(1).get(DEFAULT_KEY_ID));
+	}
+
+	@Test
+	void should_execute_insert_batch_operation_correctly_with_collection_name_parameter() {
+
+		final EntityExample entityExample = EntityExampleObjectMother.createEntityExampleWithoutMap();
+
+		this.mongoTemplate.insert(List.of(entityExample), EXAMPLE_COLLECTION_NAME);
+
+		final Document document =
+			ReactiveOperation.INSERT_BATCH.execute(this.mongoTemplate, EntityExample.class, times(INTEGER_ONE), EXAMPLE_COLLECTION_NAME);
+
+		assertEquals(ID_FIELD, document.get(DEFAULT_KEY_ID));
+	}
+
+	@Test
+	void should_fail_when_a_batch_element_is_not_of_class() {
+
+		final EntityExample entityExample = EntityExampleObjectMother.createEntityExampleWithoutMap();
+
+		this.mongoTemplate.insertAll(List.of(entityExample, new Document(DEFAULT_KEY_ID, ID_FILED_OTHER)));
+
+		assertThatThrownBy(() -> ReactiveOperation.INSERT_ALL.executeAll(
+			this.mongoTemplate, EntityExample.class, times(INTEGER_ONE), SerializationContext.DEFAULT))
+			.isInstanceOf(AssertionError.class)
+			.hasMessageContaining("Batch element 1 of type org.bson.Document");
+	}
+
+	@Test
+	void should_execute_aggregate_operation_rendering_typed_aggregation() {
+
+		final TypedAggregation<EntityExample> aggregation = newAggregation(EntityExample.class,
+																		   match(where(FIELD_MONTH).is(MONTH_VALUE_01)),
+																		   sort(Direction.ASC, DEFAULT_KEY_ID))
+			.withOptions(AggregationOptions.builder().allowDiskUse(true).cursorBatchSize(100).build());
+
+		this.mongoTemplate.aggregate(aggregation, Document.class);
+
+		final Document document = ReactiveOperation.AGGREGATE.execute(this.mongoTemplate, Document.class, times(INTEGER_ONE));
+
+		assertEquals(List.of(new Document("$match", new Document(FIELD_MONTH, MONTH_VALUE_01)),
+							 new Document("$sort", new Document(DEFAULT_KEY_ID, 1))),
+					 document.get("pipeline"));
+		assertEquals(Boolean.TRUE, document.get("allowDiskUse"));
+		assertEquals(100, document.get("batchSize"));
+	}
+
+	@Test
+	void should_execute_aggregate_operation_correctly_with_collection_name_parameter() {
+
+		final Aggregation aggregation = newAggregation(match(where(FIELD_MONTH).is(MONTH_VALUE_01)));
+
+		this.mongoTemplate.aggregate(aggregation, EXAMPLE_COLLECTION_NAME, EntityExample.class);
+
+		final Document document =
+			ReactiveOperation.AGGREGATE.execute(this.mongoTemplate, EntityExample.class, times(INTEGER_ONE), EXAMPLE_COLLECTION_NAME);
+
+		assertEquals(List.of(new Document("$match", new Document(FIELD_MONTH, MONTH_VALUE_01))), document.get("pipeline"));
+		assertEquals(Boolean.FALSE, document.get("allowDiskUse"));
+		assertNull(document.get("batchSize"));
+	}
+
+	@Test
+	void should_fail_aggregate_stream_operation_on_reactive_template() {
+
+		assertThatThrownBy(() -> ReactiveOperation.AGGREGATE_STREAM.execute(this.mongoTemplate, Document.class, times(INTEGER_ONE)))
+			.isInstanceOf(AssertionError.class);
+	}
+
+	@Test
+	void should_fail_stream_operation_on_reactive_template() {
+
+		assertThatThrownBy(() -> ReactiveOperation.STREAM.execute(this.mongoTemplate, Document.class, times(INTEGER_ONE)))
+			.isInstanceOf(AssertionError.class);
+	}
+
+	@Test
+	void should_execute_scroll_operation_without_subscribing() {
+
+		this.mongoTemplate.scroll(new Query(where(FIELD_MONTH).is(MONTH_VALUE_01)), EntityExample.class);
+
+		final Document document = ReactiveOperation.SCROLL.execute(this.mongoTemplate, EntityExample.class, times(INTEGER_ONE));
+
+		assertEquals(MONTH_VALUE_01, document.get(FIELD_MONTH));
+	}
+
+	@Test
+	void should_execute_find_and_modify_operation_without_subscribing() {
+
+		this.mongoTemplate.findAndModify(new Query(where(DEFAULT_KEY_ID).is(ID_FIELD)),
+										 new Update().set(FIELD_LOCKED, Boolean.TRUE),
+										 FindAndModifyOptions.options().returnNew(true),
+										 EntityExample.class);
+
+		final Document document =
+			ReactiveOperation.FIND_AND_MODIFY.execute(this.mongoTemplate, EntityExample.class, times(INTEGER_ONE));
+
+		assertEquals(Boolean.TRUE, document.get(FIELD_LOCKED));
+		assertEquals(Boolean.TRUE, document.get(Operation.OPTIONS_KEY, Document.class).get(Operation.RETURN_NEW));
+	}
+
+	@Test
+	void should_fail_find_and_replace_of_another_class_without_subscribing() {
+
+		this.mongoTemplate.findAndReplace(new Query(where(DEFAULT_KEY_ID).is(ID_FIELD)),
+										  new Document(FIELD_MONTH, MONTH_VALUE_01),
+										  FindAndReplaceOptions.options(),
+										  Document.class,
+										  EntityExample.class);
+
+		assertThatThrownBy(() -> ReactiveOperation.FIND_AND_REPLACE.execute(this.mongoTemplate, EntityExample.class,
+																			times(INTEGER_ONE)))
+			.isInstanceOf(AssertionError.class);
+	}
+
+	@Test
+	void should_execute_exists_operation_without_subscribing() {
+
+		this.mongoTemplate.exists(new Query(where(FIELD_MONTH).is(MONTH_VALUE_01)), EntityExample.class, EXAMPLE_COLLECTION_NAME);
+
+		final Document document = ReactiveOperation.EXISTS.execute(this.mongoTemplate, EntityExample.class,
+																   times(INTEGER_ONE), EXAMPLE_COLLECTION_NAME);
+
+		assertEquals(MONTH_VALUE_01, document.get(FIELD_MONTH));
+	}
+
+	@Test
+	void should_map_every_operation_to_its_reactive_counterpart() {
+
+		for (final Operation operation : Operation.values()) {
+			assertEquals(operation.name(), ReactiveOperation.of(operation).name());
+		}
+	}
+}
@@ -0,0 +1,51 @@
+package io.mongockito;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+
+import io.mongockito.util.json.model.SerializationContext;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
+
+class SerializationSetupTest {
+
+	@Test
+	void should_build_context_with_adapters_and_null_policy() {
+
+		final SerializationSetup setup = new SerializationSetup();
+		final Object adapter = new Object();
+
+		setup.addAdapter(LocalDateTime.class, adapter);
+		setup.allowSerializeNulls(false);
+
+		final SerializationContext context = setup.toSerializationContext(() -> {
+			throw new AssertionError("The template converter must not be read");
+		});
+
+		assertEquals(1, context.getAdapters().size());
+		assertSame(adapter, context.getAdapters().get(0).getTypeAdapter());
+		assertFalse(context.isAllowNulls());
+		assertNull(context.getMongoConverter());
+	}
+
+	@Test
+	void should_read_the_template_converter_only_when_requested() {
+
+		final SerializationSetup setup = new SerializationSetup();
+		final MongoConverter converter = mock(MongoConverter.class);
+
+		setup.useMongoConverter(mock(MongoConverter.class));
+		setup.useTemplateConverter();
+
+		assertSame(converter, setup.toSerializationContext(() -> converter).getMongoConverter());
+		assertThatThrownBy(() -> setup.toSerializationContext(() -> null))
+			.isInstanceOf(AssertionError.class)
+			.hasMessageContaining("stub getConverter()");
+	}
+
+}
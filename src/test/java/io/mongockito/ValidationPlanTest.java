@@ -0,0 +1,166 @@
+package io.mongockito;
+
+import static io.mongockito.common.TestConstants.DEFAULT_KEY_ID;
+import static io.mongockito.common.TestConstants.FIELD_LOCKED;
+import static io.mongockito.common.TestConstants.FIELD_MONTH;
+import static io.mongockito.common.business.EntityExampleObjectMother.ID_FIELD;
+import static io.mongockito.common.business.EntityExampleObjectMother.MONTH_VALUE_01;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonSerializer;
+import io.mongockito.model.CapturedInvocation;
+import io.mongockito.model.ValidateField;
+import io.mongockito.util.json.model.Adapter;
+import io.mongockito.util.json.model.SerializationContext;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.commons.lang3.tuple.Pair;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.opentest4j.AssertionFailedError;
+import org.opentest4j.MultipleFailuresError;
+
+class ValidationPlanTest {
+
+	private static final CapturedInvocation INVOCATION = new CapturedInvocation(
+		new Document(DEFAULT_KEY_ID, ID_FIELD)
+			.append(FIELD_MONTH, MONTH_VALUE_01)
+			.append(FIELD_LOCKED, true)
+			.append("address", new Document("city", "Madrid").append("zip", "28001")),
+		null);
+
+	@Test
+	void should_pass_when_every_check_passes() {
+
+		final ValidationPlan plan = compile(field(ValidationType.EQUALS, FIELD_MONTH, MONTH_VALUE_01),
+											field(ValidationType.NOT_NULL, FIELD_MONTH, null),
+											field(ValidationType.JSON_BY_KEY, "address", new Address("Madrid", "28001")),
+											field(ValidationType.NULL, "missing", null));
+
+		plan.validate(INVOCATION, SerializationContext.DEFAULT);
+		assertTrue(plan.passes(INVOCATION, SerializationContext.DEFAULT));
+	}
+
+	@Test
+	void should_throw_a_single_failure_as_is() {
+
+		final ValidationPlan plan = compile(field(ValidationType.EQUALS, FIELD_MONTH, MONTH_VALUE_01),
+											field(ValidationType.NULL, FIELD_LOCKED, null));
+
+		assertThatThrownBy(() -> plan.validate(INVOCATION, SerializationContext.DEFAULT))
+			.isInstanceOf(AssertionFailedError.class);
+		assertFalse(plan.passes(INVOCATION, SerializationContext.DEFAULT));
+	}
+
+	@Test
+	void should_aggregate_every_failure_in_declaration_order() {
+
+		final ValidationPlan plan = compile(field(ValidationType.EQUALS, FIELD_LOCKED, false),
+											field(ValidationType.EQUALS, FIELD_MONTH, MONTH_VALUE_01),
+											field(ValidationType.JSON_BY_KEY, "address", new Address("Paris", "75001")),
+											field(ValidationType.NOT_NULL, FIELD_MONTH, null),
+											field(ValidationType.NOT_NULL, "missing", null));
+
+		final MultipleFailuresError error = (MultipleFailuresError) catchError(plan);
+
+		assertEquals(3, error.getFailures().size());
+		assertTrue(error.getMessage().startsWith("3 validations failed"));
+		assertTrue(error.getFailures().get(0).getMessage().contains("<false> but was: <true>"));
+		assertTrue(error.getFailures().get(1).getMessage().contains("address.city"));
+	}
+
+	@Test
+	void should_resolve_each_path_once() {
+
+		final List<Object> lookups = new ArrayList<>();
+		final Document document = new Document(FIELD_MONTH, MONTH_VALUE_01) {
+			@Override
+			public Object get(final Object key) {
+
+				lookups.add(key);
+				return super.get(key);
+			}
+		};
+
+		compile(field(ValidationType.EQUALS, FIELD_MONTH, MONTH_VALUE_01),
+				field(ValidationType.NOT_NULL, FIELD_MONTH, null),
+				field(ValidationType.JSON_BY_KEY, FIELD_MONTH, MONTH_VALUE_01))
+			.validate(new CapturedInvocation(document, null), SerializationContext.DEFAULT);
+
+		assertEquals(List.of(FIELD_MONTH), lookups);
+	}
+
+	@Test
+	void should_serialize_expected_objects_when_validating_only() {
+
+		final AtomicInteger serializations = new AtomicInteger();
+		final SerializationContext context = countingContext(serializations);
+
+		final ValidationPlan plan = ValidationPlan.compile(
+			List.of(field(ValidationType.JSON_BY_KEY, "address", new Address("Madrid", "28001"))), context);
+
+		assertEquals(0, serializations.get());
+		plan.validate(INVOCATION, context);
+		assertEquals(1, serializations.get());
+	}
+
+	@Test
+	void should_serialize_expected_objects_once_for_every_item() {
+
+		final AtomicInteger serializations = new AtomicInteger();
+		final SerializationContext context = countingContext(serializations);
+
+		final ValidationPlan plan = ValidationPlan.compileForItems(
+			List.of(field(ValidationType.JSON_BY_KEY, "address", new Address("Madrid", "28001"))), context);
+
+		plan.validate(INVOCATION, context);
+		plan.validate(INVOCATION, context);
+		assertEquals(1, serializations.get());
+	}
+
+	private static SerializationContext countingContext(final AtomicInteger serializations) {
+
+		final JsonSerializer<Address> adapter = (address, type, context) -> {
+			serializations.incrementAndGet();
+			final JsonObject json = new JsonObject();
+			json.addProperty("city", address.city());
+			json.addProperty("zip", address.zip());
+			return json;
+		};
+
+		return SerializationContext.builder()
+			.adapter(Adapter.builder().typeClass(Address.class).typeAdapter(adapter).build())
+			.build();
+	}
+
+	private static ValidationPlan compile(final ValidateField... fields) {
+
+		return ValidationPlan.compile(List.of(fields), SerializationContext.DEFAULT);
+	}
+
+	private static ValidateField field(final ValidationType type, final Object key, final Object value) {
+
+		return ValidateField.builder().validationType(type).field(Pair.of(key, value)).build();
+	}
+
+	private static Throwable catchError(final ValidationPlan plan) {
+
+		try {
+			plan.validate(INVOCATION, SerializationContext.DEFAULT);
+		} catch (final AssertionError error) {
+			return error;
+		}
+
+		throw new AssertionError("Expected a validation failure");
+	}
+
+	private record Address(String city, String zip) {
+
+	}
+
+}
@@ -3,14 +3,25 @@ package io.mongockito;
 import static io.mongockito.common.TestConstants.ENTITY_EXAMPLE_LIST;
 import static io.mongockito.common.business.EntityExampleObjectMother.ID_FIELD;
 import static io.mongockito.common.business.EntityExampleObjectMother.ID_FILED_OTHER;
+import static io.mongockito.common.business.EntityExampleObjectMother.MONTH_VALUE_01;
 import static io.mongockito.common.TestConstants.DEFAULT_KEY_ID;
 import static io.mongockito.common.TestConstants.ENTITY_EXAMPLE_MAP;
+import static io.mongockito.common.TestConstants.FIELD_LOCKED;
+import static io.mongockito.common.TestConstants.FIELD_MONTH;
+import static io.mongockito.common.TestConstants.EXAMPLE_COLLECTION_NAME;
 import static io.mongockito.util.json.JsonTool.gsonBuilder;
 import static org.apache.commons.lang3.math.NumberUtils.INTEGER_ONE;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.lookup;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.match;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.newAggregation;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.project;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
 
-import io.mongockito.common.model.EntityExample;
 import io.mongockito.common.business.EntityExampleObjectMother;
+import io.mongockito.common.model.EntityExample;
+import io.mongockito.model.CapturedInvocation;
+import io.mongockito.util.document.AggregationUtility;
 import java.util.List;
 import java.util.Map;
 import org.apache.commons.lang3.tuple.Pair;
@@ -18,6 +29,9 @@ import org.bson.Document;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.mongodb.core.query.Query;
 
 @ExtendWith(MockitoExtension.class)
 class ValidationTypeTest {
@@ -194,4 +208,235 @@ class ValidationTypeTest {
 			.isInstanceOf(AssertionError.class);
 	}
 
+	@Test
+	void should_validate_a_part_of_json_with_list_value() {
+
+		final EntityExample entityExample = EntityExampleObjectMother.createEntityExample();
+
+		final Document doc = Document.parse(gsonBuilder().toJson(entityExample));
+
+		ValidationType.JSON_BY_KEY.validate(doc, Pair.of(ENTITY_EXAMPLE_LIST, entityExample.getEntityExampleList()));
+	}
+
+	@Test
+	void should_validate_a_part_of_json_with_json_string_value() {
+
+		final Document doc = new Document(DEFAULT_KEY_ID, new Document("$gte", 10L).append("$in", List.of("a", "b")));
+
+		ValidationType.JSON_BY_KEY.validate(doc, Pair.of(DEFAULT_KEY_ID, "{\"$gte\": 10, \"$in\": [\"a\", \"b\"]}"));
+	}
+
+	@Test
+	void should_fail_on_validate_a_part_of_json_with_invalid_json_string_value() {
+
+		final Document doc = new Document(DEFAULT_KEY_ID, new Document("$gte", 10));
+
+		assertThatThrownBy(() -> ValidationType.JSON_BY_KEY.validate(doc, Pair.of(DEFAULT_KEY_ID, "{$gte:")))
+			.isInstanceOf(AssertionError.class);
+	}
+
+	@Test
+	void should_report_differing_path_on_validate_complete_json() {
+
+		final EntityExample entityExample = EntityExampleObjectMother.createEntityExample();
+		final EntityExample otherEntityExample = entityExample.toBuilder().month(MONTH_VALUE_01).build();
+
+		final Document doc = Document.parse(gsonBuilder().toJson(entityExample));
+
+		assertThatThrownBy(() -> ValidationType.JSON.validate(doc, Pair.of(otherEntityExample, null)))
+			.isInstanceOf(AssertionError.class)
+			.hasMessageContaining("'" + FIELD_MONTH + "'");
+	}
+
+	@Test
+	void should_report_differing_path_on_validate_a_part_of_json() {
+
+		final EntityExample entityExample = EntityExampleObjectMother.createEntityExample();
+		final List<EntityExample> otherList = List.of(entityExample.getEntityExampleList().get(0));
+
+		final Document doc = Document.parse(gsonBuilder().toJson(entityExample));
+
+		assertThatThrownBy(() -> ValidationType.JSON_BY_KEY.validate(doc, Pair.of(ENTITY_EXAMPLE_LIST, otherList)))
+			.isInstanceOf(AssertionError.class)
+			.hasMessageContaining("'" + ENTITY_EXAMPLE_LIST + ".1'");
+	}
+
+	@Test
+	void should_fail_on_validate_complete_json_with_extra_field_in_document() {
+
+		final EntityExample entityExample = EntityExampleObjectMother.createSimpleEntityExample();
+
+		final Document doc = Document.parse(gsonBuilder().toJson(entityExample)).append("unexpected", "value");
+
+		assertThatThrownBy(() -> ValidationType.JSON.validate(doc, Pair.of(entityExample, null)))
+			.isInstanceOf(AssertionError.class)
+			.hasMessageContaining("'unexpected'");
+	}
+
+	@Test
+	void should_validate_nested_fields_using_paths() {
+
+		final EntityExample entityExample = EntityExampleObjectMother.createEntityExample();
+
+		final Document doc = Document.parse(gsonBuilder().toJson(entityExample));
+
+		ValidationType.EQUALS.validate(doc, Pair.of(ENTITY_EXAMPLE_LIST + ".1.month", entityExample.getEntityExampleList().get(1).getMonth()));
+		ValidationType.EQUALS.validate(doc, Pair.of(ENTITY_EXAMPLE_MAP + ".A.locked", Boolean.FALSE));
+		ValidationType.NOT_NULL.validate(doc, Pair.of(ENTITY_EXAMPLE_LIST + ".0.creationUser", null));
+		ValidationType.NULL.validate(doc, Pair.of(ENTITY_EXAMPLE_LIST + ".0.nullableValue", null));
+		ValidationType.JSON_BY_KEY.validate(doc, Pair.of(ENTITY_EXAMPLE_MAP + ".B", entityExample.getEntityExampleMap().get("B")));
+	}
+
+	@Test
+	void should_fail_on_validate_nested_fields_using_paths() {
+
+		final EntityExample entityExample = EntityExampleObjectMother.createEntityExample();
+
+		final Document doc = Document.parse(gsonBuilder().toJson(entityExample));
+
+		assertThatThrownBy(() -> ValidationType.EQUALS.validate(doc, Pair.of(ENTITY_EXAMPLE_MAP + ".A.locked", Boolean.TRUE)))
+			.isInstanceOf(AssertionError.class);
+	}
+
+	@Test
+	void should_validate_stage_order_allowing_stages_in_between() {
+
+		final Document doc = createAggregationDocument();
+
+		ValidationType.STAGE_ORDER.validate(doc, Pair.of(List.of("$match", "$lookup"), null));
+		ValidationType.STAGE_ORDER.validate(doc, Pair.of(List.of("$match", "$project"), null));
+	}
+
+	@Test
+	void should_throw_error_on_validating_stage_order() {
+
+		final Document doc = createAggregationDocument();
+
+		assertThatThrownBy(() -> ValidationType.STAGE_ORDER.validate(doc, Pair.of(List.of("$lookup", "$match"), null)))
+			.isInstanceOf(AssertionError.class)
+			.hasMessageContaining("'$match'");
+	}
+
+	@Test
+	void should_validate_match_predicate_from_criteria_document_or_json() {
+
+		final Document doc = createAggregationDocument();
+
+		ValidationType.MATCH_PREDICATE.validate(doc, Pair.of(where(FIELD_MONTH).is(MONTH_VALUE_01), null));
+		ValidationType.MATCH_PREDICATE.validate(doc, Pair.of(new Document(FIELD_MONTH, MONTH_VALUE_01), null));
+		ValidationType.MATCH_PREDICATE.validate(doc, Pair.of("{\"month\": \"01\"}", null));
+	}
+
+	@Test
+	void should_throw_error_on_validating_match_predicate() {
+
+		final Document doc = createAggregationDocument();
+
+		assertThatThrownBy(() -> ValidationType.MATCH_PREDICATE.validate(doc, Pair.of(where(FIELD_MONTH).is("02"), null)))
+			.isInstanceOf(AssertionError.class)
+			.hasMessageContaining("$match.month");
+	}
+
+	@Test
+	void should_validate_project_fields_ignoring_order() {
+
+		final Document doc = createAggregationDocument();
+
+		ValidationType.PROJECT_FIELDS.validate(doc, Pair.of(List.of(FIELD_MONTH, FIELD_LOCKED), null));
+	}
+
+	@Test
+	void should_throw_error_on_validating_project_fields() {
+
+		final Document doc = createAggregationDocument();
+
+		assertThatThrownBy(() -> ValidationType.PROJECT_FIELDS.validate(doc, Pair.of(List.of(FIELD_MONTH), null)))
+			.isInstanceOf(AssertionError.class);
+	}
+
+	private static Document createAggregationDocument() {
+
+		return AggregationUtility.toDocument(newAggregation(match(where(FIELD_MONTH).is(MONTH_VALUE_01)),
+															lookup(EXAMPLE_COLLECTION_NAME, DEFAULT_KEY_ID, DEFAULT_KEY_ID, ENTITY_EXAMPLE_LIST),
+															project(FIELD_LOCKED, FIELD_MONTH)));
+	}
+
+	@Test
+	void should_validate_query_sort_and_projection() {
+
+		final CapturedInvocation invocation = createQueryInvocation();
+
+		ValidationType.SORT.validate(invocation, Pair.of(Sort.by(Direction.DESC, FIELD_MONTH).and(Sort.by(DEFAULT_KEY_ID)), null));
+		ValidationType.SORT.validate(invocation, Pair.of("{\"month\": -1, \"_id\": 1}", null));
+		ValidationType.PROJECTION.validate(invocation, Pair.of(List.of(FIELD_MONTH, FIELD_LOCKED), null));
+	}
+
+	@Test
+	void should_throw_error_on_validating_query_sort_key_order() {
+
+		final CapturedInvocation invocation = createQueryInvocation();
+
+		assertThatThrownBy(() -> ValidationType.SORT.validate(invocation, Pair.of(new Document(DEFAULT_KEY_ID, 1).append(FIELD_MONTH, -1), null)))
+			.isInstanceOf(AssertionError.class)
+			.hasMessageContaining("sort key order");
+	}
+
+	@Test
+	void should_validate_query_limit_skip_hint_and_cursor_metadata() {
+
+		final CapturedInvocation invocation = createQueryInvocation();
+
+		ValidationType.LIMIT.validate(invocation, Pair.of(50, null));
+		ValidationType.SKIP.validate(invocation, Pair.of(100L, null));
+		ValidationType.HINT.validate(invocation, Pair.of("{\"month\": -1}", null));
+		ValidationType.CURSOR_BATCH_SIZE.validate(invocation, Pair.of(25, null));
+		ValidationType.MAX_TIME_MSEC.validate(invocation, Pair.of(200L, null));
+	}
+
+	@Test
+	void should_throw_error_on_validating_query_limit_and_hint() {
+
+		final CapturedInvocation invocation = createQueryInvocation();
+
+		assertThatThrownBy(() -> ValidationType.LIMIT.validate(invocation, Pair.of(10, null)))
+			.isInstanceOf(AssertionError.class)
+			.hasMessageContaining("limit");
+		assertThatThrownBy(() -> ValidationType.HINT.validate(invocation, Pair.of("month_1", null)))
+			.isInstanceOf(AssertionError.class);
+	}
+
+	@Test
+	void should_throw_error_on_validating_query_metadata_without_query() {
+
+		final CapturedInvocation invocation = new CapturedInvocation(new Document(DEFAULT_KEY_ID, ID_FIELD), null);
+
+		assertThatThrownBy(() -> ValidationType.LIMIT.validate(invocation, Pair.of(10, null)))
+			.isInstanceOf(AssertionError.class)
+			.hasMessageContaining("does not capture a Query");
+	}
+
+	@Test
+	void should_throw_error_on_validating_query_metadata_on_document() {
+
+		final Document document = new Document(DEFAULT_KEY_ID, ID_FIELD);
+
+		assertThatThrownBy(() -> ValidationType.LIMIT.validate(document, Pair.of(10, null)))
+			.isInstanceOf(AssertionError.class)
+			.hasMessageContaining("LIMIT does not validate a single field value");
+	}
+
+	private static CapturedInvocation createQueryInvocation() {
+
+		final Query query = new Query(where(FIELD_LOCKED).is(Boolean.TRUE))
+			.with(Sort.by(Direction.DESC, FIELD_MONTH).and(Sort.by(DEFAULT_KEY_ID)))
+			.limit(50)
+			.skip(100)
+			.withHint(new Document(FIELD_MONTH, -1))
+			.cursorBatchSize(25)
+			.maxTimeMsec(200);
+		query.fields().include(FIELD_MONTH, FIELD_LOCKED);
+
+		return new CapturedInvocation(query.getQueryObject(), query);
+	}
+
 }
@@ -0,0 +1,196 @@
+package io.mongockito;
+
+import static io.mongockito.common.TestConstants.DEFAULT_KEY_ID;
+import static io.mongockito.common.TestConstants.EXAMPLE_COLLECTION_NAME;
+import static io.mongockito.common.TestConstants.FIELD_LOCKED;
+import static io.mongockito.common.TestConstants.FIELD_MONTH;
+import static io.mongockito.common.business.EntityExampleObjectMother.ID_FIELD;
+import static io.mongockito.common.business.EntityExampleObjectMother.MONTH_VALUE_01;
+import static io.mongockito.common.business.EntityExampleObjectMother.createEntityExampleWithoutMap;
+import static io.mongockito.common.business.MongoConverterObjectMother.createMongoConverter;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+import io.mongockito.common.model.EntityExample;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.BulkOperations.BulkMode;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+@ExtendWith(MockitoExtension.class)
+class VerifyBulkTest {
+
+	private static final int BATCH_SIZE = 5000;
+
+	@Mock(name = "database")
+	protected MongoTemplate mongoTemplate;
+
+	@Mock
+	protected BulkOperations bulkOperations;
+
+	@Test
+	void should_verify_batch_size_mode_and_every_inserted_item() {
+
+		this.insertBatch(BulkMode.UNORDERED, this.createBatch());
+
+		VerifyBulk.that()
+			.thisOperation(BulkOperation.INSERT)
+			.ofClass(EntityExample.class)
+			.validatesBulkMode(BulkMode.UNORDERED)
+			.validatesBatchSize(BATCH_SIZE)
+			.validatesEach(ValidationType.NOT_NULL, DEFAULT_KEY_ID)
+			.validatesEach(ValidationType.EQUALS, FIELD_LOCKED, Boolean.TRUE)
+			.validatesItem(BATCH_SIZE - 1, ValidationType.EQUALS, DEFAULT_KEY_ID, ID_FIELD + (BATCH_SIZE - 1))
+			.run(this.mongoTemplate, this.bulkOperations);
+	}
+
+	@Test
+	void should_verify_inserted_items_using_mongo_converter() {
+
+		final EntityExample entityExample = createEntityExampleWithoutMap();
+		this.insertBatch(BulkMode.ORDERED, List.of(entityExample));
+
+		VerifyBulk.that()
+			.thisOperation(BulkOperation.INSERT)
+			.ofClass(EntityExample.class)
+			.usingMongoConverter(createMongoConverter())
+			.validatesItem(0, ValidationType.JSON, entityExample)
+			.run(this.mongoTemplate, this.bulkOperations);
+	}
+
+	@Test
+	void should_verify_upsert_items_from_collection_name() {
+
+		given(this.mongoTemplate.bulkOps(BulkMode.ORDERED, EXAMPLE_COLLECTION_NAME)).willReturn(this.bulkOperations);
+
+		final BulkOperations bulk = this.mongoTemplate.bulkOps(BulkMode.ORDERED, EXAMPLE_COLLECTION_NAME);
+		bulk.upsert(new Query(where(DEFAULT_KEY_ID).is(ID_FIELD)), new Update().set(FIELD_MONTH, MONTH_VALUE_01));
+		bulk.execute();
+
+		VerifyBulk.that()
+			.thisOperation(BulkOperation.UPSERT)
+			.fromCollection(EXAMPLE_COLLECTION_NAME)
+			.validatesBulkMode(BulkMode.ORDERED)
+			.validatesBatchSize(1)
+			.validatesItem(0, ValidationType.EQUALS, DEFAULT_KEY_ID, ID_FIELD)
+			.validatesItem(0, ValidationType.EQUALS, FIELD_MONTH, MONTH_VALUE_01)
+			.run(this.mongoTemplate, this.bulkOperations);
+	}
+
+	@Test
+	void should_fail_when_bulk_mode_differs() {
+
+		this.insertBatch(BulkMode.ORDERED, this.createBatch());
+
+		assertThatThrownBy(() -> VerifyBulk.that()
+			.thisOperation(BulkOperation.INSERT)
+			.ofClass(EntityExample.class)
+			.validatesBulkMode(BulkMode.UNORDERED)
+			.run(this.mongoTemplate, this.bulkOperations))
+			.isInstanceOf(AssertionError.class)
+			.hasMessageContaining("Unexpected bulk mode");
+	}
+
+	@Test
+	void should_fail_when_batch_size_differs() {
+
+		this.insertBatch(BulkMode.ORDERED, this.createBatch());
+
+		assertThatThrownBy(() -> VerifyBulk.that()
+			.thisOperation(BulkOperation.INSERT)
+			.ofClass(EntityExample.class)
+			.validatesBatchSize(BATCH_SIZE + 1)
+			.run(this.mongoTemplate, this.bulkOperations))
+			.isInstanceOf(AssertionError.class)
+			.hasMessageContaining("Unexpected number of bulk items");
+	}
+
+	@Test
+	void should_report_the_index_of_the_failing_item() {
+
+		final List<EntityExample> batch = this.createBatch();
+		batch.set(42, batch.get(42).toBuilder().month(null).build());
+		this.insertBatch(BulkMode.ORDERED, batch);
+
+		assertThatThrownBy(() -> VerifyBulk.that()
+			.thisOperation(BulkOperation.INSERT)
+			.ofClass(EntityExample.class)
+			.validatesEach(ValidationType.NOT_NULL, FIELD_MONTH)
+			.run(this.mongoTemplate, this.bulkOperations))
+			.isInstanceOf(AssertionError.class)
+			.hasMessageContaining("item 42");
+	}
+
+	@Test
+	void should_fail_when_validated_item_was_not_captured() {
+
+		this.insertBatch(BulkMode.ORDERED, List.of(createEntityExampleWithoutMap()));
+
+		assertThatThrownBy(() -> VerifyBulk.that()
+			.thisOperation(BulkOperation.INSERT)
+			.ofClass(EntityExample.class)
+			.validatesItem(1, ValidationType.NOT_NULL, DEFAULT_KEY_ID)
+			.run(this.mongoTemplate, this.bulkOperations))
+			.isInstanceOf(AssertionError.class)
+			.hasMessageContaining("No captured item at index 1");
+	}
+
+	@Test
+	void should_fail_when_inserted_item_is_not_of_the_verified_class() {
+
+		given(this.mongoTemplate.bulkOps(BulkMode.ORDERED, EntityExample.class)).willReturn(this.bulkOperations);
+
+		final BulkOperations bulk = this.mongoTemplate.bulkOps(BulkMode.ORDERED, EntityExample.class);
+		bulk.insert(new Document(DEFAULT_KEY_ID, ID_FIELD));
+		bulk.execute();
+
+		assertThatThrownBy(() -> VerifyBulk.that()
+			.thisOperation(BulkOperation.INSERT)
+			.ofClass(EntityExample.class)
+			.run(this.mongoTemplate, this.bulkOperations))
+			.isInstanceOf(AssertionError.class)
+			.hasMessageContaining("is not an instance of " + EntityExample.class.getName());
+	}
+
+	@Test
+	void should_fail_when_bulk_was_not_executed() {
+
+		given(this.mongoTemplate.bulkOps(BulkMode.ORDERED, EntityExample.class)).willReturn(this.bulkOperations);
+		this.mongoTemplate.bulkOps(BulkMode.ORDERED, EntityExample.class).insert(createEntityExampleWithoutMap());
+
+		assertThatThrownBy(() -> VerifyBulk.that()
+			.thisOperation(BulkOperation.INSERT)
+			.ofClass(EntityExample.class)
+			.run(this.mongoTemplate, this.bulkOperations))
+			.isInstanceOf(AssertionError.class);
+	}
+
+	private List<EntityExample> createBatch() {
+
+		final EntityExample entityExample = createEntityExampleWithoutMap();
+
+		return IntStream.range(0, BATCH_SIZE)
+			.mapToObj(index -> entityExample.toBuilder().id(ID_FIELD + index).build())
+			.collect(Collectors.toList());
+	}
+
+	private void insertBatch(final BulkMode bulkMode, final List<EntityExample> batch) {
+
+		given(this.mongoTemplate.bulkOps(bulkMode, EntityExample.class)).willReturn(this.bulkOperations);
+
+		final BulkOperations bulk = this.mongoTemplate.bulkOps(bulkMode, EntityExample.class);
+		batch.forEach(bulk::insert);
+		bulk.execute();
+	}
+
+}
@@ -13,34 +13,72 @@ import static io.mongockito.common.TestConstants.OPERATION_FIND_BY_ID;
 import static io.mongockito.common.business.EntityExampleObjectMother.DATE_NOW;
 import static io.mongockito.common.business.EntityExampleObjectMother.DELETED_FIELD;
 import static io.mongockito.common.business.EntityExampleObjectMother.ID_FIELD;
+import static io.mongockito.common.business.EntityExampleObjectMother.ID_FILED_OTHER;
 import static io.mongockito.common.business.EntityExampleObjectMother.MONTH_VALUE_01;
 import static io.mongockito.common.business.EntityExampleObjectMother.createEntityExample;
+import static io.mongockito.common.business.MongoConverterObjectMother.createMongoConverter;
 import static org.apache.commons.lang3.math.NumberUtils.INTEGER_ONE;
 import static org.apache.commons.lang3.math.NumberUtils.INTEGER_TWO;
 import static org.apache.commons.lang3.math.NumberUtils.INTEGER_ZERO;
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.atMost;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.lookup;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.match;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.newAggregation;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.project;
 import static org.springframework.data.mongodb.core.query.Criteria.where;
 
+import com.google.gson.JsonPrimitive;
+import com.google.gson.JsonSerializer;
 import io.mongockito.Verify.OperationBuilder;
 import io.mongockito.common.model.EntityExample;
+import io.mongockito.common.model.IndexedEntityExample;
+import io.mongockito.model.CapturedInvocation;
 import io.mongockito.model.ValidateField;
+import io.mongockito.util.document.FixtureCollection;
 import io.mongockito.util.json.adapters.LocalDateTimeAdapter;
 import io.mongockito.util.json.adapters.ObjectIdAdapter;
 import io.mongockito.util.json.model.Adapter;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
 import org.apache.commons.lang3.tuple.Pair;
+import org.bson.Document;
 import org.bson.types.ObjectId;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.Spy;
+import org.mockito.invocation.Invocation;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.verification.VerificationMode;
+import org.opentest4j.MultipleFailuresError;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
 import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOptions;
+import org.springframework.data.mongodb.core.aggregation.TypedAggregation;
+import org.springframework.data.mongodb.core.convert.MongoConverter;
 import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 
 @ExtendWith(MockitoExtension.class)
 class VerifyTest {
@@ -51,6 +89,9 @@ class VerifyTest {
 	@Mock(name = "database")
 	protected MongoTemplate mongoTemplate;
 
+	@Mock(name = "reactiveDatabase")
+	protected ReactiveMongoTemplate reactiveMongoTemplate;
+
 	@Test
 	void should_create_a_build_object_with_correct_operation_and_class() {
 
@@ -264,5 +305,879 @@ class VerifyTest {
 
 	}
 
+	@Test
+	void should_verify_save_operation_using_mongo_converter() {
+
+		final EntityExample entityExample = createEntityExample();
+
+		this.mongoTemplate.save(entityExample);
+
+		Verify.that()
+			.thisOperation(SAVE)
+			.ofClass(EntityExample.class)
+			.usingMongoConverter(createMongoConverter())
+			.validatesJson(entityExample)
+			.validatesJsonByKey(ENTITY_EXAMPLE_MAP, entityExample.getEntityExampleMap())
+			.validatesEquals(DEFAULT_KEY_ID, entityExample.getId())
+			.validatesCollectionSize(ENTITY_EXAMPLE_LIST, entityExample.getEntityExampleList().size())
+			.run(this.mongoTemplate);
+	}
+
+	@Test
+	void should_verify_save_operation_using_mongo_template_converter() {
+
+		final EntityExample entityExample = createEntityExample();
+		final MongoConverter mongoConverter = createMongoConverter();
+		given(this.mongoTemplate.getConverter()).willReturn(mongoConverter);
+
+		this.mongoTemplate.save(entityExample);
+
+		Verify.that()
+			.thisOperation(SAVE)
+			.ofClass(EntityExample.class)
+			.usingTemplateConverter()
+			.validatesJson(entityExample)
+			.validatesEquals(DEFAULT_KEY_ID, entityExample.getId())
+			.run(this.mongoTemplate);
+	}
+
+	@Test
+	void should_fail_when_mongo_template_has_no_converter() {
+
+		final EntityExample entityExample = createEntityExample();
+
+		this.mongoTemplate.save(entityExample);
+
+		assertThatThrownBy(() -> Verify.that()
+			.thisOperation(SAVE)
+			.ofClass(EntityExample.class)
+			.usingTemplateConverter()
+			.validatesJson(entityExample)
+			.run(this.mongoTemplate))
+			.isInstanceOf(AssertionError.class);
+	}
+
+	@Test
+	void should_fail_on_verify_save_operation_using_mongo_converter_with_other_entity() {
+
+		final EntityExample entityExample = createEntityExample();
+
+		this.mongoTemplate.save(entityExample);
+
+		assertThatThrownBy(() -> Verify.that()
+			.thisOperation(SAVE)
+			.ofClass(EntityExample.class)
+			.usingMongoConverter(createMongoConverter())
+			.validatesJson(entityExample.toBuilder().month(MONTH_VALUE_01).build())
+			.run(this.mongoTemplate))
+			.isInstanceOf(AssertionError.class);
+	}
+
+	@Test
+	void should_verify_reactive_update_first_operation() {
+
+		final Query query = new Query(where(DEFAULT_KEY_ID).is(ID_FIELD));
+		final Update update = new Update().set(FIELD_LOCKED, Boolean.TRUE);
+
+		this.reactiveMongoTemplate.updateFirst(query, update, EntityExample.class, EXAMPLE_COLLECTION_NAME);
+
+		Verify.that()
+			.thisOperation(Operation.UPDATE_FIRST)
+			.ofClass(EntityExample.class)
+			.fromCollection(EXAMPLE_COLLECTION_NAME)
+			.validatesEquals(DEFAULT_KEY_ID, ID_FIELD)
+			.validatesEquals(FIELD_LOCKED, Boolean.TRUE)
+			.run(this.reactiveMongoTemplate);
+	}
+
+	@Test
+	void should_verify_reactive_save_operation_using_mongo_template_converter() {
+
+		final EntityExample entityExample = createEntityExample();
+		given(this.reactiveMongoTemplate.getConverter()).willReturn(createMongoConverter());
+
+		this.reactiveMongoTemplate.save(entityExample);
+
+		Verify.that()
+			.thisOperation(SAVE)
+			.ofClass(EntityExample.class)
+			.usingTemplateConverter()
+			.validatesJson(entityExample)
+			.run(this.reactiveMongoTemplate);
+	}
+
+	@Test
+	void should_fail_when_reactive_operation_was_not_invoked() {
+
+		assertThatThrownBy(() -> Verify.that()
+			.thisOperation(Operation.FIND)
+			.ofClass(EntityExample.class)
+			.validatesEquals(DEFAULT_KEY_ID, ID_FIELD)
+			.run(this.reactiveMongoTemplate))
+			.isInstanceOf(AssertionError.class);
+	}
+
+	@Test
+	void should_validate_every_invocation_when_requested() {
+
+		final int invocations = 200;
+		this.updateLockedInLoop(invocations, false);
+
+		Verify.that()
+			.thisOperation(Operation.UPDATE_FIRST)
+			.ofClass(EntityExample.class)
+			.addVerificationMode(times(invocations))
+			.validatesEveryInvocation()
+			.validatesDistinctInvocations()
+			.validatesNotNull(DEFAULT_KEY_ID)
+			.validatesEquals(FIELD_LOCKED, Boolean.TRUE)
+			.run(this.mongoTemplate);
+	}
+
+	@Test
+	void should_validate_chosen_invocation_when_requested() {
+
+		this.updateLockedInLoop(3, false);
+
+		Verify.that()
+			.thisOperation(Operation.UPDATE_FIRST)
+			.ofClass(EntityExample.class)
+			.addVerificationMode(times(3))
+			.validatesInvocation(INTEGER_ZERO)
+			.validatesEquals(DEFAULT_KEY_ID, ID_FIELD + INTEGER_ZERO)
+			.run(this.mongoTemplate);
+	}
+
+	@Test
+	void should_convert_only_chosen_invocation() {
+
+		final List<LocalDateTime> serializedTimestamps = new ArrayList<>();
+		this.saveTimestampedInLoop(200);
+
+		Verify.that()
+			.thisOperation(SAVE)
+			.ofClass(EntityExample.class)
+			.addVerificationMode(times(200))
+			.addAdapter(LocalDateTime.class, recordingAdapter(serializedTimestamps))
+			.validatesInvocation(3)
+			.validatesEquals(DEFAULT_KEY_ID, ID_FIELD + 3)
+			.run(this.mongoTemplate);
+
+		assertEquals(List.of(DATE_NOW.plusSeconds(3)), serializedTimestamps);
+	}
+
+	@Test
+	void should_convert_every_invocation_once_when_validating_distinct_and_every_invocation() {
+
+		final List<LocalDateTime> serializedTimestamps = new ArrayList<>();
+		this.saveTimestampedInLoop(3);
+
+		Verify.that()
+			.thisOperation(SAVE)
+			.ofClass(EntityExample.class)
+			.addVerificationMode(times(3))
+			.addAdapter(LocalDateTime.class, recordingAdapter(serializedTimestamps))
+			.validatesEveryInvocation()
+			.validatesDistinctInvocations()
+			.validatesNotNull(DEFAULT_KEY_ID)
+			.run(this.mongoTemplate);
+
+		assertEquals(List.of(DATE_NOW, DATE_NOW.plusSeconds(1), DATE_NOW.plusSeconds(2)), serializedTimestamps);
+	}
+
+	@Test
+	void should_report_failing_invocation_when_validating_every_invocation() {
+
+		this.updateLockedInLoop(3, false);
+		this.mongoTemplate.updateFirst(new Query(where(DEFAULT_KEY_ID).is(ID_FIELD)),
+									   new Update().set(FIELD_LOCKED, Boolean.FALSE),
+									   EntityExample.class);
+
+		assertThatThrownBy(() -> Verify.that()
+			.thisOperation(Operation.UPDATE_FIRST)
+			.ofClass(EntityExample.class)
+			.addVerificationMode(times(4))
+			.validatesEveryInvocation()
+			.validatesEquals(FIELD_LOCKED, Boolean.TRUE)
+			.run(this.mongoTemplate))
+			.isInstanceOf(AssertionError.class)
+			.hasMessageContaining("item 3");
+	}
+
+	@Test
+	void should_report_every_failed_validation_together() {
+
+		this.updateLockedInLoop(1, false);
+
+		assertThatThrownBy(() -> Verify.that()
+			.thisOperation(Operation.UPDATE_FIRST)
+			.ofClass(EntityExample.class)
+			.validatesEquals(FIELD_LOCKED, Boolean.FALSE)
+			.validatesNotNull(DEFAULT_KEY_ID)
+			.validatesNull(DEFAULT_KEY_ID)
+			.run(this.mongoTemplate))
+			.isInstanceOf(MultipleFailuresError.class)
+			.hasMessageContaining("2 validations failed");
+	}
+
+	@Test
+	void should_fail_when_invocations_are_not_distinct() {
+
+		this.updateLockedInLoop(3, true);
+
+		assertThatThrownBy(() -> Verify.that()
+			.thisOperation(Operation.UPDATE_FIRST)
+			.ofClass(EntityExample.class)
+			.addVerificationMode(times(3))
+			.validatesDistinctInvocations()
+			.run(this.mongoTemplate))
+			.isInstanceOf(AssertionError.class)
+			.hasMessageContaining("Item 1 repeats item 0");
+	}
+
+	@Test
+	void should_validate_every_element_of_inserted_batch() {
+
+		final EntityExample entityExample = createEntityExample();
+		final List<EntityExample> batch = IntStream.range(0, 1000)
+			.mapToObj(index -> entityExample.toBuilder().id(ID_FIELD + index).build())
+			.toList();
+
+		this.mongoTemplate.insert(batch, EntityExample.class);
+
+		Verify.that()
+			.thisOperation(Operation.INSERT_BATCH)
+			.ofClass(EntityExample.class)
+			.validatesDocumentCount(batch.size())
+			.validatesEveryInvocation()
+			.validatesNotNull(FIELD_LAST_UPDATE_TIMESTAMP)
+			.validatesCollectionSize(ENTITY_EXAMPLE_LIST, entityExample.getEntityExampleList().size())
+			.run(this.mongoTemplate);
+	}
+
+	@Test
+	void should_fail_when_inserted_batch_size_differs() {
+
+		this.mongoTemplate.insertAll(List.of(createEntityExample()));
+
+		assertThatThrownBy(() -> Verify.that()
+			.thisOperation(Operation.INSERT_ALL)
+			.ofClass(EntityExample.class)
+			.validatesDocumentCount(INTEGER_TWO)
+			.run(this.mongoTemplate))
+			.isInstanceOf(AssertionError.class)
+			.hasMessageContaining("Unexpected number of captured documents");
+	}
+
+	@Test
+	void should_verify_aggregation_pipeline_shape() {
+
+		final Aggregation aggregation = newAggregation(match(where(FIELD_LOCKED).is(Boolean.TRUE)),
+													   lookup(EXAMPLE_COLLECTION_NAME, DEFAULT_KEY_ID, DEFAULT_KEY_ID, ENTITY_EXAMPLE_LIST),
+													   project(FIELD_MONTH, ENTITY_EXAMPLE_LIST))
+			.withOptions(AggregationOptions.builder().allowDiskUse(true).cursorBatchSize(500).build());
+
+		this.mongoTemplate.aggregate(aggregation, EXAMPLE_COLLECTION_NAME, Document.class);
+
+		Verify.that()
+			.thisOperation(Operation.AGGREGATE)
+			.ofClass(Document.class)
+			.fromCollection(EXAMPLE_COLLECTION_NAME)
+			.validatesStageOrder("$match", "$lookup")
+			.validatesMatchPredicate(where(FIELD_LOCKED).is(Boolean.TRUE))
+			.validatesProjectFields(FIELD_MONTH, ENTITY_EXAMPLE_LIST)
+			.validatesEquals("allowDiskUse", Boolean.TRUE)
+			.validatesEquals("batchSize", 500)
+			.run(this.mongoTemplate);
+	}
+
+	@Test
+	void should_render_typed_aggregation_with_field_names_using_mongo_converter() {
+
+		final TypedAggregation<IndexedEntityExample> aggregation = newAggregation(IndexedEntityExample.class,
+																				  match(where("reference").is(ID_FIELD)));
+
+		this.mongoTemplate.aggregate(aggregation, IndexedEntityExample.class);
+
+		Verify.that()
+			.thisOperation(Operation.AGGREGATE)
+			.ofClass(IndexedEntityExample.class)
+			.usingMongoConverter(createMongoConverter())
+			.validatesMatchPredicate(where("ref").is(ID_FIELD))
+			.run(this.mongoTemplate);
+
+		Verify.that()
+			.thisOperation(Operation.AGGREGATE)
+			.ofClass(IndexedEntityExample.class)
+			.validatesMatchPredicate(where("reference").is(ID_FIELD))
+			.run(this.mongoTemplate);
+	}
+
+	@Test
+	void should_fail_when_match_is_not_the_first_stage() {
+
+		final Aggregation aggregation = newAggregation(lookup(EXAMPLE_COLLECTION_NAME, DEFAULT_KEY_ID, DEFAULT_KEY_ID, ENTITY_EXAMPLE_LIST),
+													   match(where(FIELD_LOCKED).is(Boolean.TRUE)));
+
+		this.mongoTemplate.aggregate(aggregation, EntityExample.class, Document.class);
+
+		assertThatThrownBy(() -> Verify.that()
+			.thisOperation(Operation.AGGREGATE)
+			.ofClass(Document.class)
+			.validatesStageOrder("$match", "$lookup")
+			.run(this.mongoTemplate))
+			.isInstanceOf(AssertionError.class);
+	}
+
+	@Test
+	void should_verify_find_query_sort_projection_and_bounds() {
+
+		final Query query = new Query(where(FIELD_LOCKED).is(Boolean.TRUE))
+			.with(Sort.by(Direction.DESC, FIELD_LAST_UPDATE_TIMESTAMP))
+			.limit(100)
+			.withHint("locked_1_lastUpdateTimestamp_-1")
+			.maxTimeMsec(500);
+		query.fields().include(FIELD_MONTH);
+
+		this.mongoTemplate.find(query, EntityExample.class);
+
+		Verify.that()
+			.thisOperation(Operation.FIND)
+			.ofClass(EntityExample.class)
+			.validatesEquals(FIELD_LOCKED, Boolean.TRUE)
+			.validatesSort(Sort.by(Direction.DESC, FIELD_LAST_UPDATE_TIMESTAMP))
+			.validatesProjection(List.of(FIELD_MONTH))
+			.validatesLimit(100)
+			.validatesSkip(0)
+			.validatesHint("locked_1_lastUpdateTimestamp_-1")
+			.validatesMaxTimeMsec(500)
+			.run(this.mongoTemplate);
+	}
+
+	@Test
+	void should_fail_when_find_query_is_unbounded() {
+
+		this.mongoTemplate.find(new Query(where(FIELD_LOCKED).is(Boolean.TRUE)), EntityExample.class);
+
+		assertThatThrownBy(() -> Verify.that()
+			.thisOperation(Operation.FIND)
+			.ofClass(EntityExample.class)
+			.validatesLimit(100)
+			.run(this.mongoTemplate))
+			.isInstanceOf(AssertionError.class)
+			.hasMessageContaining("Unexpected query limit");
+	}
+
+	@Test
+	void should_verify_stream_with_cursor_batch_size_and_stable_sort() {
+
+		this.mongoTemplate.stream(new Query(where(FIELD_LOCKED).is(Boolean.TRUE))
+									  .with(Sort.by(FIELD_MONTH, DEFAULT_KEY_ID))
+									  .cursorBatchSize(500),
+								  EntityExample.class);
+
+		Verify.that()
+			.thisOperation(Operation.STREAM)
+			.ofClass(EntityExample.class)
+			.validatesCursorBatchSize(500)
+			.validatesStableSort()
+			.run(this.mongoTemplate);
+	}
+
+	@Test
+	void should_fail_when_stream_sort_is_not_stable() {
+
+		this.mongoTemplate.stream(new Query().with(Sort.by(FIELD_MONTH)), EntityExample.class);
+
+		assertThatThrownBy(() -> Verify.that()
+			.thisOperation(Operation.STREAM)
+			.ofClass(EntityExample.class)
+			.validatesStableSort()
+			.run(this.mongoTemplate))
+			.isInstanceOf(AssertionError.class)
+			.hasMessageContaining("not stable");
+	}
+
+	@Test
+	void should_verify_keyset_scroll() {
+
+		this.mongoTemplate.scroll(new Query(where(FIELD_LOCKED).is(Boolean.TRUE))
+									  .with(Sort.by(FIELD_MONTH, DEFAULT_KEY_ID))
+									  .with(ScrollPosition.forward(Map.of(FIELD_MONTH, MONTH_VALUE_01, DEFAULT_KEY_ID, ID_FIELD)))
+									  .limit(50),
+								  EntityExample.class,
+								  EXAMPLE_COLLECTION_NAME);
+
+		Verify.that()
+			.thisOperation(Operation.SCROLL)
+			.ofClass(EntityExample.class)
+			.fromCollection(EXAMPLE_COLLECTION_NAME)
+			.validatesKeysetScroll()
+			.validatesStableSort()
+			.validatesLimit(50)
+			.run(this.mongoTemplate);
+	}
+
+	@Test
+	void should_fail_when_scroll_uses_offset() {
+
+		this.mongoTemplate.scroll(new Query().with(Sort.by(DEFAULT_KEY_ID)).with(ScrollPosition.offset(100)),
+								  EntityExample.class);
+
+		assertThatThrownBy(() -> Verify.that()
+			.thisOperation(Operation.SCROLL)
+			.ofClass(EntityExample.class)
+			.validatesKeysetScroll()
+			.run(this.mongoTemplate))
+			.isInstanceOf(AssertionError.class)
+			.hasMessageContaining("does not scroll by keyset");
+	}
+
+	@Test
+	void should_verify_documents_selected_by_find_on_fixtures() {
+
+		final FixtureCollection fixtures = FixtureCollection.of(
+			new Document(DEFAULT_KEY_ID, "id-1").append(FIELD_LOCKED, true).append(FIELD_MONTH, "02"),
+			new Document(DEFAULT_KEY_ID, "id-2").append(FIELD_LOCKED, false).append(FIELD_MONTH, "01"),
+			new Document(DEFAULT_KEY_ID, "id-3").append(FIELD_LOCKED, true).append(FIELD_MONTH, "01"));
+
+		this.mongoTemplate.find(new Query(where(FIELD_LOCKED).is(Boolean.TRUE)).with(Sort.by(FIELD_MONTH)),
+								EntityExample.class);
+
+		Verify.that()
+			.thisOperation(Operation.FIND)
+			.ofClass(EntityExample.class)
+			.validatesSelects(fixtures, "id-3", "id-1")
+			.validatesSelectsFirst(fixtures, "id-3")
+			.run(this.mongoTemplate);
+
+		assertThatThrownBy(() -> Verify.that()
+			.thisOperation(Operation.FIND)
+			.ofClass(EntityExample.class)
+			.validatesSelects(fixtures, "id-1", "id-3")
+			.run(this.mongoTemplate))
+			.isInstanceOf(AssertionError.class)
+			.hasMessageContaining("Unexpected documents selected from the fixtures");
+	}
+
+	@Test
+	void should_compare_selected_ids_numerically() {
+
+		final FixtureCollection fixtures = FixtureCollection.of(
+			new Document(DEFAULT_KEY_ID, 1).append(FIELD_LOCKED, true),
+			new Document(DEFAULT_KEY_ID, 2).append(FIELD_LOCKED, false));
+
+		this.mongoTemplate.find(new Query(where(FIELD_LOCKED).is(Boolean.TRUE)), EntityExample.class);
+
+		Verify.that()
+			.thisOperation(Operation.FIND)
+			.ofClass(EntityExample.class)
+			.validatesSelects(fixtures, 1L)
+			.validatesSelectsFirst(fixtures, 1L)
+			.run(this.mongoTemplate);
+
+		assertThatThrownBy(() -> Verify.that()
+			.thisOperation(Operation.FIND)
+			.ofClass(EntityExample.class)
+			.validatesSelects(fixtures, 2L)
+			.run(this.mongoTemplate))
+			.isInstanceOf(AssertionError.class)
+			.hasMessageContaining("Unexpected documents selected from the fixtures");
+	}
+
+	@Test
+	void should_verify_update_applied_to_before_image() {
+
+		final Document before = new Document(DEFAULT_KEY_ID, ID_FIELD).append(FIELD_MONTH, MONTH_VALUE_01).append("counter", 5);
+
+		this.mongoTemplate.updateFirst(new Query(where(DEFAULT_KEY_ID).is(ID_FIELD)),
+									   new Update().inc("counter", 1).set(FIELD_LOCKED, Boolean.TRUE),
+									   EntityExample.class);
+
+		Verify.that()
+			.thisOperation(Operation.UPDATE_FIRST)
+			.ofClass(EntityExample.class)
+			.validatesAppliedUpdate(before, "counter", 6)
+			.validatesAppliedUpdate(before, new Document(before).append("counter", 6).append(FIELD_LOCKED, Boolean.TRUE))
+			.run(this.mongoTemplate);
+
+		assertThatThrownBy(() -> Verify.that()
+			.thisOperation(Operation.UPDATE_FIRST)
+			.ofClass(EntityExample.class)
+			.validatesAppliedUpdate(before, "counter", 1)
+			.run(this.mongoTemplate))
+			.isInstanceOf(AssertionError.class)
+			.hasMessageContaining("counter");
+
+		assertThatThrownBy(() -> Verify.that()
+			.thisOperation(Operation.UPDATE_FIRST)
+			.ofClass(EntityExample.class)
+			.validatesAppliedUpdate(new Document(DEFAULT_KEY_ID, ID_FILED_OTHER), "counter", 1)
+			.run(this.mongoTemplate))
+			.isInstanceOf(AssertionError.class)
+			.hasMessageContaining("does not match the before-image");
+	}
+
+	@Test
+	void should_verify_find_and_modify_update_applied_to_before_image() {
+
+		this.mongoTemplate.findAndModify(new Query(where(DEFAULT_KEY_ID).is(ID_FIELD)),
+										 new Update().push("tags", "blue"),
+										 EntityExample.class);
+
+		Verify.that()
+			.thisOperation(Operation.FIND_AND_MODIFY)
+			.ofClass(EntityExample.class)
+			.validatesAppliedUpdate(new Document(DEFAULT_KEY_ID, ID_FIELD).append("tags", List.of("red")),
+									"tags", List.of("red", "blue"))
+			.run(this.mongoTemplate);
+	}
+
+	@Test
+	void should_verify_update_parts_apart() {
+
+		this.mongoTemplate.upsert(new Query(where(FIELD_MONTH).is(MONTH_VALUE_01)),
+								  new Update().set(FIELD_MONTH, "02").inc("counter", 1)
+									  .set("lines.$[line].qty", 0)
+									  .filterArray(where("line.qty").lt(0)),
+								  EntityExample.class);
+
+		Verify.that()
+			.thisOperation(Operation.UPSERT)
+			.ofClass(EntityExample.class)
+			.validatesFilter(FIELD_MONTH, MONTH_VALUE_01)
+			.validatesUpdateOperator("$set", FIELD_MONTH, "02")
+			.validatesUpdateOperator("$inc", "counter", 1)
+			.validatesUpdateOperator("$set", "counter", null)
+			.validatesArrayFilters("{'line.qty': {$lt: 0}}")
+			.validatesUpsert(true)
+			.validatesAppliedUpdate(new Document(FIELD_MONTH, MONTH_VALUE_01)
+										.append("lines", List.of(new Document("qty", -1), new Document("qty", 3))),
+									"lines", List.of(new Document("qty", 0), new Document("qty", 3)))
+			.run(this.mongoTemplate);
+
+		assertThatThrownBy(() -> Verify.that()
+			.thisOperation(Operation.UPSERT)
+			.ofClass(EntityExample.class)
+			.validatesFilter(FIELD_MONTH, "02")
+			.run(this.mongoTemplate))
+			.isInstanceOf(AssertionError.class);
+	}
+
+	@Test
+	void should_verify_replacement_filter_apart_from_replaced_fields() {
+
+		final EntityExample entityExample = createEntityExample();
+		this.mongoTemplate.findAndReplace(new Query(where(FIELD_MONTH).is("12")),
+										  entityExample,
+										  FindAndReplaceOptions.options().upsert());
+
+		Verify.that()
+			.thisOperation(Operation.FIND_AND_REPLACE)
+			.ofClass(EntityExample.class)
+			.validatesFilter(FIELD_MONTH, "12")
+			.validatesEquals(FIELD_MONTH, entityExample.getMonth())
+			.validatesUpsert(true)
+			.run(this.mongoTemplate);
+	}
+
+	@Test
+	void should_verify_upsert_flag_of_updates() {
+
+		this.mongoTemplate.updateMulti(new Query(where(FIELD_LOCKED).is(Boolean.TRUE)),
+									   new Update().set(FIELD_LOCKED, Boolean.FALSE),
+									   EntityExample.class);
+
+		Verify.that()
+			.thisOperation(Operation.UPDATE_MULTI)
+			.ofClass(EntityExample.class)
+			.validatesFilter(FIELD_LOCKED, Boolean.TRUE)
+			.validatesUpdateOperator("$set", FIELD_LOCKED, Boolean.FALSE)
+			.validatesUpsert(false)
+			.run(this.mongoTemplate);
+
+		assertThatThrownBy(() -> Verify.that()
+			.thisOperation(Operation.UPDATE_MULTI)
+			.ofClass(EntityExample.class)
+			.validatesUpsert(true)
+			.run(this.mongoTemplate))
+			.isInstanceOf(AssertionError.class)
+			.hasMessageContaining("Unexpected upsert flag");
+	}
+
+	@Test
+	void should_verify_captured_query_against_snapshot() {
+
+		this.mongoTemplate.find(new Query(where(FIELD_LOCKED).is(Boolean.TRUE).and(FIELD_MONTH).in(MONTH_VALUE_01, "02")),
+								EntityExample.class);
+
+		Verify.that()
+			.thisOperation(Operation.FIND)
+			.ofClass(EntityExample.class)
+			.validatesSnapshot("verify/find-locked-by-month")
+			.run(this.mongoTemplate);
+
+		assertThatThrownBy(() -> Verify.that()
+			.thisOperation(Operation.FIND)
+			.ofClass(EntityExample.class)
+			.validatesSnapshot("verify/find-unlocked")
+			.run(this.mongoTemplate))
+			.isInstanceOf(AssertionError.class)
+			.hasMessageContaining("Document differs at path 'locked'");
+	}
+
+	@Test
+	void should_verify_exists_operation() {
+
+		this.mongoTemplate.exists(new Query(where(FIELD_LOCKED).is(Boolean.TRUE)), EntityExample.class);
+
+		Verify.that()
+			.thisOperation(Operation.EXISTS)
+			.ofClass(EntityExample.class)
+			.validatesEquals(FIELD_LOCKED, Boolean.TRUE)
+			.run(this.mongoTemplate);
+	}
+
+	@Test
+	void should_verify_find_and_modify_options() {
+
+		this.mongoTemplate.findAndModify(new Query(where(DEFAULT_KEY_ID).is(ID_FIELD)),
+										 new Update().inc("amount", 1),
+										 FindAndModifyOptions.options().returnNew(true),
+										 EntityExample.class);
+
+		Verify.that()
+			.thisOperation(Operation.FIND_AND_MODIFY)
+			.ofClass(EntityExample.class)
+			.validatesEquals(DEFAULT_KEY_ID, ID_FIELD)
+			.validatesEquals("amount", 1)
+			.validatesReturnNew(true)
+			.validatesUpsertOption(false)
+			.run(this.mongoTemplate);
+	}
+
+	@Test
+	void should_verify_operation_never_called() {
+
+		this.mongoTemplate.exists(new Query(where(DEFAULT_KEY_ID).is(ID_FIELD)), EntityExample.class);
+
+		Verify.that()
+			.thisOperation(Operation.COUNT)
+			.ofClass(EntityExample.class)
+			.addVerificationMode(never())
+			.run(this.mongoTemplate);
+	}
+
+	@Test
+	void should_throw_error_on_validating_fields_without_captured_invocation() {
+
+		final OperationBuilder builder = Verify.that()
+			.thisOperation(Operation.FIND)
+			.ofClass(EntityExample.class)
+			.addVerificationMode(atMost(INTEGER_ONE))
+			.validatesEquals(DEFAULT_KEY_ID, ID_FIELD);
+
+		assertThatThrownBy(() -> builder.run(this.mongoTemplate))
+			.isInstanceOf(AssertionError.class)
+			.hasMessageContaining("No invocation captured to validate");
+	}
+
+	@Test
+	void should_verify_no_invocation_matches_forbidden_query() {
+
+		this.mongoTemplate.find(new Query(where(DEFAULT_KEY_ID).is(ID_FILED_OTHER)), EntityExample.class);
+
+		Verify.that()
+			.thisOperation(Operation.FIND)
+			.ofClass(EntityExample.class)
+			.validatesEquals(DEFAULT_KEY_ID, ID_FIELD)
+			.validatesNoMatchingInvocation()
+			.run(this.mongoTemplate);
+	}
+
+	@Test
+	void should_fail_when_an_invocation_matches_forbidden_query() {
+
+		this.mongoTemplate.find(new Query(where(DEFAULT_KEY_ID).is(ID_FILED_OTHER)), EntityExample.class);
+		this.mongoTemplate.find(new Query(where(DEFAULT_KEY_ID).is(ID_FIELD)), EntityExample.class);
+
+		assertThatThrownBy(() -> Verify.that()
+			.thisOperation(Operation.FIND)
+			.ofClass(EntityExample.class)
+			.validatesEquals(DEFAULT_KEY_ID, ID_FIELD)
+			.validatesNoMatchingInvocation()
+			.run(this.mongoTemplate))
+			.isInstanceOf(AssertionError.class)
+			.hasMessageContaining("Item 1 matches");
+	}
+
+	@Test
+	void should_verify_no_interactions_on_template() {
+
+		given(this.mongoTemplate.getConverter()).willReturn(createMongoConverter());
+		this.mongoTemplate.getConverter();
+
+		Verify.noInteractions(this.mongoTemplate);
+		Verify.noInteractions(this.reactiveMongoTemplate);
+	}
+
+	@Test
+	void should_fail_on_interactions_when_none_expected() {
+
+		this.mongoTemplate.count(new Query(), EntityExample.class);
+
+		assertThatThrownBy(() -> Verify.noInteractions(this.mongoTemplate))
+			.isInstanceOf(AssertionError.class)
+			.hasMessageContaining("count");
+	}
+
+	@Test
+	void should_verify_no_more_interactions_than_verified_ones() {
+
+		this.mongoTemplate.findById(ID_FIELD, EntityExample.class);
+
+		Verify.that()
+			.thisOperation(OPERATION_FIND_BY_ID)
+			.ofClass(EntityExample.class)
+			.validatesEquals(DEFAULT_KEY_ID, ID_FIELD)
+			.run(this.mongoTemplate);
+
+		Verify.noMoreInteractions(this.mongoTemplate);
+	}
+
+	@Test
+	void should_fail_on_unverified_interactions() {
+
+		this.mongoTemplate.findById(ID_FIELD, EntityExample.class);
+		this.mongoTemplate.find(new Query(where(FIELD_MONTH).is(MONTH_VALUE_01)), EntityExample.class);
+
+		Verify.that()
+			.thisOperation(OPERATION_FIND_BY_ID)
+			.ofClass(EntityExample.class)
+			.run(this.mongoTemplate);
+
+		assertThatThrownBy(() -> Verify.noMoreInteractions(this.mongoTemplate))
+			.isInstanceOf(AssertionError.class)
+			.hasMessageContaining("find");
+	}
+
+	@Test
+	void should_verify_query_served_by_declared_index() {
+
+		this.mongoTemplate.find(new Query(where(FIELD_LOCKED).is(Boolean.TRUE)).with(Sort.by(Direction.DESC, FIELD_MONTH)),
+								IndexedEntityExample.class);
+
+		Verify.that()
+			.thisOperation(Operation.FIND)
+			.ofClass(IndexedEntityExample.class)
+			.validatesIndexUsage()
+			.run(this.mongoTemplate);
+	}
+
+	@Test
+	void should_fail_when_query_is_not_served_by_declared_index() {
+
+		this.mongoTemplate.find(new Query(where(FIELD_MONTH).is(MONTH_VALUE_01)), IndexedEntityExample.class);
+
+		assertThatThrownBy(() -> Verify.that()
+			.thisOperation(Operation.FIND)
+			.ofClass(IndexedEntityExample.class)
+			.validatesIndexUsage()
+			.run(this.mongoTemplate))
+			.isInstanceOf(AssertionError.class)
+			.hasMessageContaining("equality-sort-range");
+	}
+
+	@Test
+	void should_only_warn_when_query_is_not_served_by_declared_index() {
+
+		this.mongoTemplate.find(new Query(where(FIELD_MONTH).is(MONTH_VALUE_01)), IndexedEntityExample.class);
+
+		Verify.that()
+			.thisOperation(Operation.FIND)
+			.ofClass(IndexedEntityExample.class)
+			.validatesIndexUsage(IndexCheck.WARN)
+			.run(this.mongoTemplate);
+	}
+
+	private void saveTimestampedInLoop(final int invocations) {
+
+		for (int invocation = 0; invocation < invocations; invocation++) {
+			this.mongoTemplate.save(EntityExample.builder()
+										.id(ID_FIELD + invocation)
+										.creationTimestamp(DATE_NOW.plusSeconds(invocation))
+										.build());
+		}
+	}
+
+	private static JsonSerializer<LocalDateTime> recordingAdapter(final List<LocalDateTime> serializedTimestamps) {
+
+		return (timestamp, type, context) -> {
+			serializedTimestamps.add(timestamp);
+			return new JsonPrimitive(timestamp.toString());
+		};
+	}
+
+	private void updateLockedInLoop(final int invocations, final boolean sameId) {
+
+		for (int invocation = 0; invocation < invocations; invocation++) {
+			final String id = sameId ? ID_FIELD : ID_FIELD + invocation;
+			this.mongoTemplate.updateFirst(new Query(where(DEFAULT_KEY_ID).is(id)),
+										   new Update().set(FIELD_LOCKED, Boolean.TRUE),
+										   EntityExample.class);
+		}
+	}
+
+	@Test
+	void should_not_keep_captured_arguments_after_run() throws IllegalAccessException {
+
+		final Query query = new Query(where(DEFAULT_KEY_ID).is(ID_FIELD));
+		this.mongoTemplate.find(query, EntityExample.class);
+
+		final Verify.OperationBuilder builder = Verify.that()
+			.thisOperation(Operation.FIND)
+			.ofClass(EntityExample.class)
+			.validatesEquals(DEFAULT_KEY_ID, ID_FIELD);
+		builder.run(this.mongoTemplate);
+
+		assertTrue(mockingDetails(this.mongoTemplate).getInvocations().stream().allMatch(Invocation::isVerified));
+		for (final Field field : Verify.OperationBuilder.class.getDeclaredFields()) {
+			field.setAccessible(true);
+			assertFalse(holdsCapturedValue(field.get(builder)), "Builder keeps a captured value in " + field.getName());
+		}
+	}
+
+	@Test
+	void should_not_keep_state_in_static_fields() throws IllegalAccessException {
+
+		final List<Class<?>> classes = List.of(Verify.class, Verify.OperationBuilder.class, VerifyBulk.class,
+											   VerifyBulk.BulkOperationBuilder.class, Operation.class,
+											   ReactiveOperation.class, BulkOperation.class, CapturedDocuments.class,
+											   ItemValidator.class, InteractionValidator.class, ValidationPlan.class,
+											   ValidationType.class, SerializationSetup.class);
+
+		for (final Class<?> clazz : classes) {
+			for (final Field field : clazz.getDeclaredFields()) {
+				if (Modifier.isStatic(field.getModifiers()) && !field.isEnumConstant() && !field.isSynthetic()) {
+					field.setAccessible(true);
+					assertTrue(Modifier.isFinal(field.getModifiers()), clazz.getSimpleName() + "." + field.getName());
+					assertFalse(holdsCapturedValue(field.get(null)), clazz.getSimpleName() + "." + field.getName());
+				}
+			}
+		}
+	}
+
+	private static boolean holdsCapturedValue(final Object value) {
+
+		if (value instanceof final Collection<?> collection) {
+			return collection.stream().anyMatch(VerifyTest::holdsCapturedValue);
+		}
+
+		return value instanceof ArgumentCaptor<?>
+			|| value instanceof Invocation
+			|| value instanceof Query
+			|| value instanceof Document
+			|| value instanceof CapturedInvocation;
+	}
 
 }
@@ -0,0 +1,51 @@
+package io.mongockito.benchmark;
+
+import io.mongockito.common.business.EntityExampleObjectMother;
+import io.mongockito.common.model.EntityExample;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+public enum BenchmarkEntities {
+
+	SMALL {
+		@Override
+		public EntityExample create() {
+
+			return EntityExampleObjectMother.createSimpleEntityExample();
+		}
+	},
+
+	MEDIUM {
+		@Override
+		public EntityExample create() {
+
+			return EntityExampleObjectMother.createEntityExample();
+		}
+	},
+
+	HUGE {
+		@Override
+		public EntityExample create() {
+
+			final List<EntityExample> items = IntStream.range(0, HUGE_EMBEDDED_ITEMS)
+				.mapToObj(item -> EntityExampleObjectMother.createEntityExampleWithoutMap())
+				.toList();
+
+			final Map<String, EntityExample> itemMap = new LinkedHashMap<>();
+			IntStream.range(0, HUGE_EMBEDDED_ITEMS)
+				.forEach(item -> itemMap.put("item-" + item, EntityExampleObjectMother.createEntityExampleWithoutMap()));
+
+			return EntityExampleObjectMother.createEntityExample().toBuilder()
+				.entityExampleList(items)
+				.entityExampleMap(itemMap)
+				.build();
+		}
+	};
+
+	private static final int HUGE_EMBEDDED_ITEMS = 5_000;
+
+	public abstract EntityExample create();
+
+}
@@ -0,0 +1,92 @@
+package io.mongockito.benchmark;
+
+import static io.mongockito.util.json.JsonTool.gsonBuilder;
+
+import io.mongockito.ValidationType;
+import io.mongockito.util.json.JsonTool;
+import io.mongockito.util.json.model.SerializationContext;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.lang3.tuple.Pair;
+import org.bson.Document;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class JsonByKeyBenchmark {
+
+	private static final String FIELD_NAME = "embedded";
+	private static final int APPROXIMATE_ITEM_SIZE = 100;
+
+	@Param({"1024", "65536", "1048576"})
+	int embeddedBytes;
+
+	private Document document;
+	private Map<String, Object> expectedValue;
+	private Pair<String, Map<String, Object>> pair;
+
+	@Setup
+	public void setUp() {
+
+		this.expectedValue = createEmbeddedValue(this.embeddedBytes / APPROXIMATE_ITEM_SIZE);
+		this.document = new Document(FIELD_NAME, JsonTool.toDocument(this.expectedValue, SerializationContext.DEFAULT));
+		this.pair = Pair.of(FIELD_NAME, this.expectedValue);
+	}
+
+	@Benchmark
+	public boolean legacyTextComparison() {
+
+		final String currentValue = ((Document) this.document.get(FIELD_NAME)).toJson().replaceAll("\\s+", "");
+		final String expectedItem = gsonBuilder().toJson(this.expectedValue)
+			.replaceAll("^\"|\"$", "")
+			.replace("\\\"", "\"");
+		return expectedItem.equals(currentValue);
+	}
+
+	@Benchmark
+	public Document structuralComparison() {
+
+		ValidationType.JSON_BY_KEY.validate(this.document, this.pair);
+		return this.document;
+	}
+
+	private static Map<String, Object> createEmbeddedValue(final int items) {
+
+		final List<Map<String, Object>> groups = new ArrayList<>();
+		for (int group = 0; group * 10 < Math.max(items, 1); group++) {
+			final List<Map<String, Object>> groupItems = new ArrayList<>();
+			for (int item = group * 10; item < Math.min((group + 1) * 10, Math.max(items, 1)); item++) {
+				final Map<String, Object> value = new LinkedHashMap<>();
+				value.put("sku", "sku-" + item);
+				value.put("name", "item name " + item);
+				value.put("quantity", item);
+				value.put("tags", List.of("a", "b"));
+				groupItems.add(value);
+			}
+			groups.add(Map.of("group", group, "items", groupItems));
+		}
+
+		final Map<String, Object> embedded = new LinkedHashMap<>();
+		embedded.put("total", items);
+		embedded.put("groups", groups);
+		return embedded;
+	}
+
+}
@@ -0,0 +1,63 @@
+package io.mongockito.benchmark;
+
+import static io.mongockito.util.json.JsonTool.gsonBuilder;
+
+import io.mongockito.common.model.EntityExample;
+import io.mongockito.util.document.model.DocumentDifference;
+import io.mongockito.util.json.JsonTool;
+import io.mongockito.util.json.model.SerializationContext;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.bson.Document;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class JsonToolBenchmark {
+
+	@Param({"SMALL", "MEDIUM", "HUGE"})
+	BenchmarkEntities entitySize;
+
+	private EntityExample entity;
+	private Document document;
+
+	@Setup
+	public void setUp() {
+
+		this.entity = this.entitySize.create();
+		this.document = JsonTool.toDocument(this.entity, SerializationContext.DEFAULT);
+	}
+
+	@Benchmark
+	public String toJson() {
+
+		return gsonBuilder(SerializationContext.DEFAULT).toJson(this.entity);
+	}
+
+	@Benchmark
+	public Document toDocument() {
+
+		return JsonTool.toDocument(this.entity, SerializationContext.DEFAULT);
+	}
+
+	@Benchmark
+	public Optional<DocumentDifference> findDifference() {
+
+		return JsonTool.findDifference("", this.document, this.entity, SerializationContext.DEFAULT);
+	}
+
+}
@@ -0,0 +1,107 @@
+package io.mongockito.benchmark;
+
+import static io.mongockito.common.TestConstants.DEFAULT_KEY_ID;
+import static io.mongockito.common.TestConstants.FIELD_LOCKED;
+import static io.mongockito.common.TestConstants.FIELD_MONTH;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.match;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.newAggregation;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.project;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+import io.mongockito.Operation;
+import io.mongockito.common.model.EntityExample;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.bson.Document;
+import org.mockito.verification.VerificationMode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class OperationBenchmark {
+
+	@Param({"FIND", "FIND_ONE", "FIND_BY_ID", "FIND_AND_REMOVE", "UPDATE_FIRST", "UPDATE_MULTI", "UPSERT", "SAVE", "INSERT",
+		"INSERT_BATCH", "INSERT_ALL", "AGGREGATE", "AGGREGATE_STREAM", "STREAM", "SCROLL",
+		"REMOVE", "COUNT", "EXACT_COUNT", "ESTIMATED_COUNT", "EXISTS", "FIND_AND_MODIFY", "FIND_AND_REPLACE"})
+	Operation operation;
+
+	@Param({"SMALL", "MEDIUM", "HUGE"})
+	BenchmarkEntities entitySize;
+
+	private final VerificationMode verificationMode = times(1);
+	private MongoTemplate mongoTemplate;
+
+	@Setup
+	public void setUp() {
+
+		final EntityExample entity = this.entitySize.create();
+
+		this.mongoTemplate = mock(MongoTemplate.class);
+		invokeOperation(this.mongoTemplate, this.operation, entity);
+	}
+
+	@Benchmark
+	public Document execute() {
+
+		return this.operation.execute(this.mongoTemplate, EntityExample.class, this.verificationMode);
+	}
+
+	static void invokeOperation(final MongoTemplate mongoTemplate, final Operation operation, final EntityExample entity) {
+
+		final Query query = new Query(where(DEFAULT_KEY_ID).is(entity.getId()));
+		final Update update = new Update()
+			.set(FIELD_LOCKED, entity.isLocked())
+			.set(FIELD_MONTH, entity.getMonth())
+			.set("entityExampleList", entity.getEntityExampleList());
+
+		final Aggregation aggregation = newAggregation(match(where(DEFAULT_KEY_ID).is(entity.getId())),
+													   project(FIELD_LOCKED, FIELD_MONTH));
+
+		switch (operation) {
+			case FIND -> mongoTemplate.find(query, EntityExample.class);
+			case FIND_ONE -> mongoTemplate.findOne(query, EntityExample.class);
+			case FIND_BY_ID -> mongoTemplate.findById(entity.getId(), EntityExample.class);
+			case FIND_AND_REMOVE -> mongoTemplate.findAndRemove(query, EntityExample.class);
+			case UPDATE_FIRST -> mongoTemplate.updateFirst(query, update, EntityExample.class);
+			case UPDATE_MULTI -> mongoTemplate.updateMulti(query, update, EntityExample.class);
+			case UPSERT -> mongoTemplate.upsert(query, update, EntityExample.class);
+			case SAVE -> mongoTemplate.save(entity);
+			case INSERT -> mongoTemplate.insert(entity);
+			case INSERT_BATCH -> mongoTemplate.insert(List.of(entity), EntityExample.class);
+			case INSERT_ALL -> mongoTemplate.insertAll(List.of(entity));
+			case AGGREGATE -> mongoTemplate.aggregate(aggregation, EntityExample.class, EntityExample.class);
+			case AGGREGATE_STREAM -> mongoTemplate.aggregateStream(aggregation, EntityExample.class, EntityExample.class);
+			case STREAM -> mongoTemplate.stream(query, EntityExample.class);
+			case SCROLL -> mongoTemplate.scroll(query, EntityExample.class);
+			case REMOVE -> mongoTemplate.remove(query, EntityExample.class);
+			case COUNT -> mongoTemplate.count(query, EntityExample.class);
+			case EXACT_COUNT -> mongoTemplate.exactCount(query, EntityExample.class);
+			case ESTIMATED_COUNT -> mongoTemplate.estimatedCount(EntityExample.class);
+			case EXISTS -> mongoTemplate.exists(query, EntityExample.class);
+			case FIND_AND_MODIFY -> mongoTemplate.findAndModify(query, update, EntityExample.class);
+			case FIND_AND_REPLACE -> mongoTemplate.findAndReplace(query, entity);
+			default -> throw new IllegalArgumentException("Operation without benchmark invocation: " + operation);
+		}
+	}
+
+}
@@ -0,0 +1,62 @@
+package io.mongockito.benchmark;
+
+import static io.mongockito.util.json.JsonTool.gsonBuilder;
+
+import io.mongockito.common.business.EntityExampleObjectMother;
+import io.mongockito.common.model.EntityExample;
+import io.mongockito.util.json.JsonTool;
+import io.mongockito.util.json.model.SerializationContext;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.bson.Document;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class SaveConversionBenchmark {
+
+	@Param({"10", "1000", "10000"})
+	int embeddedItems;
+
+	private EntityExample entity;
+
+	@Setup
+	public void setUp() {
+
+		final List<EntityExample> items = IntStream.range(0, this.embeddedItems)
+			.mapToObj(item -> EntityExampleObjectMother.createEntityExampleWithoutMap())
+			.toList();
+
+		this.entity = EntityExampleObjectMother.createEntityExample().toBuilder()
+			.entityExampleList(items)
+			.build();
+	}
+
+	@Benchmark
+	public Document jsonRoundTrip() {
+
+		return Document.parse(gsonBuilder(SerializationContext.DEFAULT).toJson(this.entity));
+	}
+
+	@Benchmark
+	public Document directConversion() {
+
+		return JsonTool.toDocument(this.entity, SerializationContext.DEFAULT);
+	}
+
+}
@@ -0,0 +1,101 @@
+package io.mongockito.benchmark;
+
+import static io.mongockito.common.TestConstants.DEFAULT_KEY_ID;
+import static io.mongockito.common.TestConstants.ENTITY_EXAMPLE_LIST;
+import static io.mongockito.common.TestConstants.FIELD_MONTH;
+import static io.mongockito.common.TestConstants.NULLABLE_VALUE_FIELD;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+import io.mongockito.ValidationType;
+import io.mongockito.common.model.EntityExample;
+import io.mongockito.model.CapturedInvocation;
+import io.mongockito.util.json.JsonTool;
+import io.mongockito.util.json.model.SerializationContext;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.lang3.tuple.Pair;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Query;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ValidationTypeBenchmark {
+
+	@Param({"EQUALS", "NOT_NULL", "NULL", "COLLECTION_SIZE", "JSON", "JSON_BY_KEY", "SORT", "PROJECTION", "LIMIT", "SKIP",
+		"HINT", "CURSOR_BATCH_SIZE", "MAX_TIME_MSEC", "STABLE_SORT"})
+	ValidationType validationType;
+
+	@Param({"SMALL", "MEDIUM", "HUGE"})
+	BenchmarkEntities entitySize;
+
+	private CapturedInvocation invocation;
+	private Pair<?, ?> pair;
+
+	@Setup
+	public void setUp() {
+
+		final EntityExample entity = this.entitySize.create();
+		final Query query = new Query(where(DEFAULT_KEY_ID).is(entity.getId()))
+			.with(Sort.by(FIELD_MONTH, DEFAULT_KEY_ID))
+			.limit(10)
+			.skip(20)
+			.withHint("{\"month\": 1}")
+			.cursorBatchSize(100)
+			.maxTimeMsec(500);
+		query.fields().include(FIELD_MONTH);
+
+		this.invocation = new CapturedInvocation(JsonTool.toDocument(entity, SerializationContext.DEFAULT), query);
+		this.pair = createPair(this.validationType, entity);
+	}
+
+	@Benchmark
+	public CapturedInvocation validate() {
+
+		this.validationType.validate(this.invocation, this.pair);
+		return this.invocation;
+	}
+
+	static Pair<?, ?> createPair(final ValidationType validationType, final EntityExample entity) {
+
+		return switch (validationType) {
+			case EQUALS -> Pair.of(DEFAULT_KEY_ID, entity.getId());
+			case NOT_NULL -> Pair.of(DEFAULT_KEY_ID, null);
+			case NULL -> Pair.of(NULLABLE_VALUE_FIELD, null);
+			case COLLECTION_SIZE -> Pair.of(ENTITY_EXAMPLE_LIST, sizeOf(entity));
+			case JSON -> Pair.of(entity, null);
+			case JSON_BY_KEY -> entity.getEntityExampleList() == null
+				? Pair.of(DEFAULT_KEY_ID, entity.getId())
+				: Pair.of(ENTITY_EXAMPLE_LIST, entity.getEntityExampleList());
+			case SORT -> Pair.of(Sort.by(FIELD_MONTH, DEFAULT_KEY_ID), null);
+			case PROJECTION -> Pair.of(List.of(FIELD_MONTH), null);
+			case LIMIT -> Pair.of(10, null);
+			case SKIP -> Pair.of(20L, null);
+			case HINT -> Pair.of("{\"month\": 1}", null);
+			case CURSOR_BATCH_SIZE -> Pair.of(100, null);
+			case MAX_TIME_MSEC -> Pair.of(500L, null);
+			case STABLE_SORT -> Pair.of(DEFAULT_KEY_ID, null);
+			default -> throw new IllegalArgumentException("Validation type without benchmark pair: " + validationType);
+		};
+	}
+
+	private static int sizeOf(final EntityExample entity) {
+
+		return entity.getEntityExampleList() == null ? 0 : entity.getEntityExampleList().size();
+	}
+
+}
@@ -0,0 +1,77 @@
+package io.mongockito.benchmark;
+
+import static io.mongockito.common.TestConstants.DEFAULT_KEY_ID;
+import static io.mongockito.common.TestConstants.ENTITY_EXAMPLE_LIST;
+import static io.mongockito.common.TestConstants.FIELD_MONTH;
+import static io.mongockito.common.TestConstants.NULLABLE_VALUE_FIELD;
+import static org.mockito.Mockito.mock;
+
+import io.mongockito.Operation;
+import io.mongockito.Verify;
+import io.mongockito.common.model.EntityExample;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class VerifyBenchmark {
+
+	@Param({"SMALL", "MEDIUM", "HUGE"})
+	BenchmarkEntities entitySize;
+
+	private EntityExample entity;
+	private MongoTemplate mongoTemplate;
+
+	@Setup
+	public void setUp() {
+
+		this.entity = this.entitySize.create();
+		this.mongoTemplate = mock(MongoTemplate.class);
+		this.mongoTemplate.save(this.entity);
+	}
+
+	@Benchmark
+	public void runFieldValidations() {
+
+		Verify.that()
+			.thisOperation(Operation.SAVE)
+			.ofClass(EntityExample.class)
+			.validatesEquals(DEFAULT_KEY_ID, this.entity.getId())
+			.validatesEquals(FIELD_MONTH, this.entity.getMonth())
+			.validatesNull(NULLABLE_VALUE_FIELD)
+			.validatesNotNull(DEFAULT_KEY_ID)
+			.validatesCollectionSize(ENTITY_EXAMPLE_LIST, sizeOf(this.entity))
+			.run(this.mongoTemplate);
+	}
+
+	@Benchmark
+	public void runJsonValidation() {
+
+		Verify.that()
+			.thisOperation(Operation.SAVE)
+			.ofClass(EntityExample.class)
+			.validatesJson(this.entity)
+			.run(this.mongoTemplate);
+	}
+
+	private static int sizeOf(final EntityExample entity) {
+
+		return entity.getEntityExampleList() == null ? 0 : entity.getEntityExampleList().size();
+	}
+
+}
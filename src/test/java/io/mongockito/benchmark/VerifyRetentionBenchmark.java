@@ -0,0 +1,74 @@
+package io.mongockito.benchmark;
+
+import static io.mongockito.common.TestConstants.DEFAULT_KEY_ID;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+import io.mongockito.Operation;
+import io.mongockito.Verify;
+import io.mongockito.common.model.EntityExample;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+/**
+ * Runs find verifications back to back, each on a new 1 KiB id, and prints the heap still used after a GC at the end of
+ * every iteration. Nothing is kept between verifications, so the printed value stays flat across iterations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class VerifyRetentionBenchmark {
+
+	private final String payload = "x".repeat(1024);
+	private MongoTemplate mongoTemplate;
+	private long verification;
+
+	@Setup
+	public void setUp() {
+
+		this.mongoTemplate = mock(MongoTemplate.class);
+	}
+
+	@Benchmark
+	public void verifyFind() {
+
+		final String id = this.payload + this.verification++;
+
+		clearInvocations(this.mongoTemplate);
+		this.mongoTemplate.find(new Query(where(DEFAULT_KEY_ID).is(id)), EntityExample.class);
+
+		Verify.that()
+			.thisOperation(Operation.FIND)
+			.ofClass(EntityExample.class)
+			.validatesEquals(DEFAULT_KEY_ID, id)
+			.run(this.mongoTemplate);
+	}
+
+	@TearDown(Level.Iteration)
+	public void printRetainedHeap() {
+
+		final Runtime runtime = Runtime.getRuntime();
+		System.gc();
+
+		System.out.printf("retained heap after %d verifications: %d KiB%n",
+						  this.verification, (runtime.totalMemory() - runtime.freeMemory()) / 1024);
+	}
+
+}
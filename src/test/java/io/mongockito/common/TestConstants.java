@@ -15,5 +15,9 @@ public class TestConstants {
 	public static final String ENTITY_EXAMPLE_LIST = "entityExampleList";
 	public static final String NULLABLE_VALUE_FIELD = "nullableValue";
 	public static final String EXAMPLE_COLLECTION_NAME = "example";
+	public static final String INDEXED_COLLECTION_NAME = "indexed";
+	public static final String FIELD_AMOUNT = "amount";
+	public static final String FIELD_CREATION_USER = "creationUser";
+	public static final String FIELD_CREATION_TIMESTAMP = "creationTimestamp";
 
 }
@@ -0,0 +1,42 @@
+package io.mongockito.common.model;
+
+import static io.mongockito.common.TestConstants.INDEXED_COLLECTION_NAME;
+
+import java.time.LocalDateTime;
+import lombok.Builder;
+import lombok.Value;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.index.TextIndexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+@Value
+@Builder(toBuilder = true)
+@Document(INDEXED_COLLECTION_NAME)
+@CompoundIndex(name = "locked_month_amount", def = "{'locked': 1, 'month': -1, 'amount': 1}")
+public class IndexedEntityExample {
+
+	@Id
+	String id;
+
+	boolean locked;
+
+	String month;
+
+	int amount;
+
+	@Indexed
+	String creationUser;
+
+	LocalDateTime creationTimestamp;
+
+	@TextIndexed
+	String description;
+
+	@Indexed
+	@Field("ref")
+	String reference;
+
+}
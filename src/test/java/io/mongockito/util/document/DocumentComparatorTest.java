@@ -0,0 +1,84 @@
+package io.mongockito.util.document;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.mongockito.util.document.model.DocumentDifference;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+
+class DocumentComparatorTest {
+
+	@Test
+	void should_compare_nested_documents_structurally() {
+
+		final Document current = new Document("a", new Document("b", List.of(1, 2))).append("c", "value");
+		final Map<String, Object> expected = Map.of("c", "value", "a", Map.of("b", List.of(1, 2)));
+
+		assertTrue(DocumentComparator.areEqual(current, expected));
+	}
+
+	@Test
+	void should_compare_numbers_by_value() {
+
+		assertTrue(DocumentComparator.areEqual(1, 1L));
+		assertTrue(DocumentComparator.areEqual(2.0d, 2));
+		assertTrue(DocumentComparator.areEqual(BigInteger.TEN, 10));
+		assertFalse(DocumentComparator.areEqual(1, 2L));
+		assertFalse(DocumentComparator.areEqual(1.5d, 1));
+	}
+
+	@Test
+	void should_detect_missing_and_extra_keys() {
+
+		final Document current = new Document("a", 1);
+
+		assertFalse(DocumentComparator.areEqual(current, new Document("a", 1).append("b", 2)));
+		assertFalse(DocumentComparator.areEqual(new Document("a", 1).append("b", 2), current));
+		assertFalse(DocumentComparator.areEqual(current, new Document("b", 1)));
+	}
+
+	@Test
+	void should_consider_missing_keys_as_null_values() {
+
+		final Document current = new Document("a", 1);
+
+		assertTrue(DocumentComparator.areEqual(current, new Document("a", 1).append("b", null)));
+		assertTrue(DocumentComparator.areEqual(new Document("a", 1).append("b", null), current));
+	}
+
+	@Test
+	void should_report_path_of_first_difference() {
+
+		final Document current = new Document("a", new Document("b", List.of(1, new Document("c", "x"))));
+		final Document expected = new Document("a", new Document("b", List.of(1, new Document("c", "y"))));
+
+		final DocumentDifference difference = DocumentComparator.findDifference(current, expected).orElseThrow();
+
+		assertEquals("a.b.1.c", difference.getPath());
+		assertEquals("y", difference.getExpected());
+		assertEquals("x", difference.getCurrent());
+	}
+
+	@Test
+	void should_compare_list_order() {
+
+		assertTrue(DocumentComparator.areEqual(Arrays.asList("a", null), Arrays.asList("a", null)));
+		assertFalse(DocumentComparator.areEqual(List.of("a", "b"), List.of("b", "a")));
+		assertFalse(DocumentComparator.areEqual(List.of("a"), List.of("a", "b")));
+	}
+
+	@Test
+	void should_compare_null_values() {
+
+		assertTrue(DocumentComparator.areEqual(null, null));
+		assertFalse(DocumentComparator.areEqual(null, "a"));
+		assertFalse(DocumentComparator.areEqual("a", null));
+	}
+
+}
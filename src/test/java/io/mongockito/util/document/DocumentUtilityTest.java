@@ -61,4 +61,31 @@ class DocumentUtilityTest {
 		assertEquals(INTEGER_ZERO, resultSize);
 	}
 
+	@Test
+	void should_recover_size_from_nested_list() {
+
+		final Document document = new Document("nested", new Document(FIELD, list));
+
+		final int resultSize = DocumentUtility.obtainCollectionLength(document, "nested." + FIELD);
+
+		assertEquals(list.size(), resultSize);
+	}
+
+	@Test
+	void should_prefer_top_level_keys_containing_dots() {
+
+		final Document document = new Document("address.city", "literal")
+			.append("address", new Document("city", "nested"));
+
+		assertEquals("literal", DocumentUtility.obtainValue(document, "address.city"));
+	}
+
+	@Test
+	void should_recover_nested_value_from_path() {
+
+		final Document document = new Document("address", new Document("city", "nested"));
+
+		assertEquals("nested", DocumentUtility.obtainValue(document, "address.city"));
+	}
+
 }
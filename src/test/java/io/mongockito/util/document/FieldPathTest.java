@@ -0,0 +1,56 @@
+package io.mongockito.util.document;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+
+class FieldPathTest {
+
+	private static final Document DOCUMENT = new Document("address", new Document("city", "Madrid"))
+		.append("items", List.of(new Document("sku", "A-1"), new Document("sku", "B-2")))
+		.append("attributes", Map.of("color", List.of("red", "blue")));
+
+	@Test
+	void should_reuse_compiled_paths() {
+
+		assertSame(FieldPath.of("address.city"), FieldPath.of("address.city"));
+	}
+
+	@Test
+	void should_resolve_nested_document_fields() {
+
+		assertEquals("Madrid", FieldPath.of("address.city").resolve(DOCUMENT));
+	}
+
+	@Test
+	void should_resolve_array_indexes() {
+
+		assertEquals("B-2", FieldPath.of("items.1.sku").resolve(DOCUMENT));
+		assertEquals("blue", FieldPath.of("attributes.color.1").resolve(DOCUMENT));
+	}
+
+	@Test
+	void should_resolve_missing_paths_as_null() {
+
+		assertNull(FieldPath.of("address.street").resolve(DOCUMENT));
+		assertNull(FieldPath.of("items.5.sku").resolve(DOCUMENT));
+		assertNull(FieldPath.of("items.sku").resolve(DOCUMENT));
+		assertNull(FieldPath.of("address.city.name").resolve(DOCUMENT));
+	}
+
+	@Test
+	void should_detect_nested_field_names() {
+
+		assertTrue(FieldPath.isNested("address.city"));
+		assertFalse(FieldPath.isNested("address"));
+		assertFalse(FieldPath.isNested(1));
+	}
+
+}
@@ -0,0 +1,81 @@
+package io.mongockito.util.document;
+
+import static io.mongockito.common.TestConstants.DEFAULT_KEY_ID;
+import static io.mongockito.common.TestConstants.FIELD_AMOUNT;
+import static io.mongockito.common.TestConstants.FIELD_LOCKED;
+import static io.mongockito.common.TestConstants.FIELD_MONTH;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.mongodb.core.query.Query;
+
+class FixtureCollectionTest {
+
+	private static final FixtureCollection FIXTURES = FixtureCollection.of(
+		document(1, true, "01", 10),
+		document(2, false, "01", 30),
+		document(3, true, "02", 20),
+		document(4, true, "01", 40));
+
+	@Test
+	void should_select_sort_skip_limit_and_project() {
+
+		final Query query = new Query(where(FIELD_LOCKED).is(true))
+			.with(Sort.by(Direction.DESC, FIELD_AMOUNT))
+			.skip(1)
+			.limit(2);
+		query.fields().include(FIELD_AMOUNT);
+
+		assertEquals(List.of(new Document(DEFAULT_KEY_ID, 3).append(FIELD_AMOUNT, 20),
+							 new Document(DEFAULT_KEY_ID, 1).append(FIELD_AMOUNT, 10)),
+					 FIXTURES.find(query));
+	}
+
+	@Test
+	void should_keep_natural_order_without_sort() {
+
+		assertEquals(List.of(1, 2, 4), ids(FIXTURES.find(new Query(where(FIELD_MONTH).is("01")))));
+		assertEquals(3, FIXTURES.findOne(new Query(where(FIELD_MONTH).is("02"))).get(DEFAULT_KEY_ID));
+		assertNull(FIXTURES.findOne(new Query(where(FIELD_MONTH).is("03"))));
+		assertEquals(2L, FIXTURES.count(new Query(where(FIELD_AMOUNT).gte(30)).getQueryObject()));
+	}
+
+	@Test
+	void should_select_through_hash_indexes_on_large_fixtures() {
+
+		final FixtureCollection fixtures = FixtureCollection.of(
+				IntStream.range(0, 100_000)
+					.mapToObj(i -> document(i, i % 2 == 0, String.format("%02d", i % 12 + 1), i % 1_000))
+					.toList())
+			.withHashIndex(FIELD_MONTH)
+			.withHashIndex(FIELD_AMOUNT);
+
+		final Query query = new Query(where(FIELD_MONTH).in("01", "02").and(FIELD_AMOUNT).is(12L).and(FIELD_LOCKED).is(true))
+			.with(Sort.by(Direction.DESC, DEFAULT_KEY_ID))
+			.limit(3);
+
+		assertEquals(List.of(99012, 96012, 93012), ids(fixtures.find(query)));
+		assertEquals(100L, fixtures.count(new Document(FIELD_AMOUNT, 999.0)));
+	}
+
+	private static Document document(final int id, final boolean locked, final String month, final int amount) {
+
+		return new Document(DEFAULT_KEY_ID, id)
+			.append(FIELD_LOCKED, locked)
+			.append(FIELD_MONTH, month)
+			.append(FIELD_AMOUNT, amount);
+	}
+
+	private static List<Object> ids(final List<Document> documents) {
+
+		return documents.stream().map(document -> document.get(DEFAULT_KEY_ID)).toList();
+	}
+
+}
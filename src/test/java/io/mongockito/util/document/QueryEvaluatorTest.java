@@ -0,0 +1,109 @@
+package io.mongockito.util.document;
+
+import static io.mongockito.common.TestConstants.DEFAULT_KEY_ID;
+import static io.mongockito.common.TestConstants.FIELD_AMOUNT;
+import static io.mongockito.common.TestConstants.FIELD_LOCKED;
+import static io.mongockito.common.TestConstants.FIELD_MONTH;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.query.Criteria;
+
+class QueryEvaluatorTest {
+
+	private static final Document DOCUMENT = new Document(DEFAULT_KEY_ID, "id-1")
+		.append(FIELD_LOCKED, true)
+		.append(FIELD_MONTH, "01")
+		.append(FIELD_AMOUNT, 25)
+		.append("tags", List.of("red", "blue"))
+		.append("lines", List.of(new Document("sku", "A").append("qty", 2), new Document("sku", "B").append("qty", 7)));
+
+	@Test
+	void should_match_equality_and_comparison_operators() {
+
+		assertTrue(matches(where(FIELD_LOCKED).is(true).and(FIELD_MONTH).is("01")));
+		assertTrue(matches(where(FIELD_AMOUNT).is(25L)));
+		assertTrue(matches(where(FIELD_AMOUNT).gt(20).lte(25.0)));
+		assertTrue(matches(where(FIELD_MONTH).in("01", "02")));
+		assertTrue(matches(where(FIELD_MONTH).ne("02")));
+		assertFalse(matches(where(FIELD_AMOUNT).gt(25)));
+		assertFalse(matches(where(FIELD_AMOUNT).gt("10")));
+		assertFalse(matches(where(FIELD_MONTH).nin("01")));
+	}
+
+	@Test
+	void should_match_arrays_by_element() {
+
+		assertTrue(matches(where("tags").is("red")));
+		assertTrue(matches(where("tags").all("blue", "red")));
+		assertTrue(matches(where("tags").size(2)));
+		assertTrue(matches(where("lines.sku").is("B")));
+		assertTrue(matches(where("lines").elemMatch(where("sku").is("B").and("qty").gt(5))));
+		assertFalse(matches(where("lines").elemMatch(where("sku").is("A").and("qty").gt(5))));
+		assertTrue(matches(where("lines.qty").gt(5)));
+		assertTrue(matches(where("lines.1.sku").is("B")));
+	}
+
+	@Test
+	void should_match_logical_existence_and_regex_operators() {
+
+		assertTrue(matches(new Criteria().orOperator(where(FIELD_MONTH).is("02"), where(FIELD_AMOUNT).is(25))));
+		assertFalse(matches(new Criteria().andOperator(where(FIELD_MONTH).is("02"), where(FIELD_AMOUNT).is(25))));
+		assertTrue(matches(new Criteria().norOperator(where(FIELD_MONTH).is("02"))));
+		assertTrue(matches(where("missing").exists(false).and(FIELD_MONTH).exists(true)));
+		assertTrue(matches(where("missing").is(null)));
+		assertTrue(matches(where("tags").regex("^bl")));
+		assertTrue(matches(where(FIELD_MONTH).not().gt("01")));
+	}
+
+	@Test
+	void should_fail_on_unsupported_operators() {
+
+		final Document filter = new Document(FIELD_MONTH, new Document("$where", "true"));
+
+		assertThatThrownBy(() -> QueryEvaluator.matches(DOCUMENT, filter))
+			.isInstanceOf(AssertionError.class)
+			.hasMessageContaining("Unsupported query operator: $where");
+	}
+
+	@Test
+	void should_sort_missing_first_and_arrays_by_bound() {
+
+		final Document low = new Document(DEFAULT_KEY_ID, 1).append("values", List.of(5, 1));
+		final Document high = new Document(DEFAULT_KEY_ID, 2).append("values", List.of(3, 4));
+		final Document missing = new Document(DEFAULT_KEY_ID, 3);
+		final List<Document> documents = new ArrayList<>(List.of(high, missing, low));
+
+		documents.sort(QueryEvaluator.sortComparator(new Document("values", 1)));
+		assertEquals(List.of(missing, low, high), documents);
+
+		documents.sort(QueryEvaluator.sortComparator(new Document("values", -1).append(DEFAULT_KEY_ID, 1)));
+		assertEquals(List.of(low, high, missing), documents);
+	}
+
+	@Test
+	void should_project_inclusions_and_exclusions() {
+
+		assertEquals(new Document(DEFAULT_KEY_ID, "id-1").append(FIELD_MONTH, "01")
+						 .append("lines", List.of(new Document("sku", "A"), new Document("sku", "B"))),
+					 QueryEvaluator.project(DOCUMENT, new Document(FIELD_MONTH, 1).append("lines.sku", 1)));
+		assertEquals(new Document(FIELD_MONTH, "01"),
+					 QueryEvaluator.project(DOCUMENT, new Document(FIELD_MONTH, 1).append(DEFAULT_KEY_ID, 0)));
+		assertEquals(new Document(DEFAULT_KEY_ID, "id-1").append(FIELD_LOCKED, true).append(FIELD_MONTH, "01")
+						 .append(FIELD_AMOUNT, 25),
+					 QueryEvaluator.project(DOCUMENT, new Document("tags", 0).append("lines", 0)));
+	}
+
+	private static boolean matches(final Criteria criteria) {
+
+		return QueryEvaluator.matches(DOCUMENT, criteria.getCriteriaObject());
+	}
+
+}
@@ -0,0 +1,98 @@
+package io.mongockito.util.document;
+
+import static io.mongockito.common.TestConstants.DEFAULT_KEY_ID;
+import static io.mongockito.common.TestConstants.FIELD_AMOUNT;
+import static io.mongockito.common.TestConstants.FIELD_CREATION_TIMESTAMP;
+import static io.mongockito.common.TestConstants.FIELD_CREATION_USER;
+import static io.mongockito.common.TestConstants.FIELD_LOCKED;
+import static io.mongockito.common.TestConstants.FIELD_MONTH;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+import io.mongockito.common.model.IndexedEntityExample;
+import java.util.List;
+import java.util.Optional;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.TextCriteria;
+
+class QueryPlanCheckerTest {
+
+	private static final List<Document> INDEXES = QueryPlanChecker.obtainIndexKeys(IndexedEntityExample.class);
+
+	@Test
+	void should_resolve_declared_indexes() {
+
+		assertEquals(new Document(DEFAULT_KEY_ID, 1), INDEXES.get(0));
+		assertTrue(INDEXES.contains(new Document(FIELD_LOCKED, 1).append(FIELD_MONTH, -1).append(FIELD_AMOUNT, 1)));
+		assertTrue(INDEXES.contains(new Document(FIELD_CREATION_USER, 1)));
+		assertTrue(INDEXES.stream().anyMatch(index -> index.containsValue("text")));
+	}
+
+	@Test
+	void should_accept_queries_following_equality_sort_range() {
+
+		assertTrue(check(new Query(where(FIELD_LOCKED).is(true))
+							 .with(Sort.by(Direction.DESC, FIELD_MONTH))
+							 .addCriteria(where(FIELD_AMOUNT).gt(10))).isEmpty());
+		assertTrue(check(new Query(where(FIELD_LOCKED).is(true).and(FIELD_MONTH).is("01"))
+							 .with(Sort.by(FIELD_AMOUNT))).isEmpty());
+		assertTrue(check(new Query(where(FIELD_LOCKED).is(true)).with(Sort.by(FIELD_MONTH))).isEmpty());
+		assertTrue(check(new Query(where(FIELD_CREATION_USER).in("user1", "user2"))).isEmpty());
+		assertTrue(check(new Query(where(DEFAULT_KEY_ID).is("id"))).isEmpty());
+		assertTrue(check(new Query()).isEmpty());
+	}
+
+	@Test
+	void should_reject_queries_breaking_equality_sort_range() {
+
+		final Optional<String> problem = check(new Query(where(FIELD_LOCKED).is(true).and(FIELD_AMOUNT).gt(10))
+												   .with(Sort.by(Direction.DESC, FIELD_MONTH).and(Sort.by(FIELD_AMOUNT))));
+
+		assertTrue(problem.isPresent());
+		assertTrue(problem.get().contains("equality-sort-range"));
+		assertFalse(check(new Query(where(FIELD_LOCKED).is(true).and(FIELD_MONTH).gt("01"))
+							  .with(Sort.by(FIELD_AMOUNT))).isEmpty());
+		assertFalse(check(new Query(where(FIELD_MONTH).is("01"))).isEmpty());
+		assertFalse(check(new Query().with(Sort.by(FIELD_CREATION_TIMESTAMP))).isEmpty());
+		assertFalse(check(new Query(where(FIELD_LOCKED).is(true)).with(Sort.by(FIELD_MONTH).and(Sort.by(FIELD_AMOUNT)))).isEmpty());
+	}
+
+	@Test
+	void should_check_every_or_branch() {
+
+		assertTrue(check(new Query(new Criteria().orOperator(where(FIELD_CREATION_USER).is("user"),
+															  where(FIELD_LOCKED).is(true)))).isEmpty());
+		assertFalse(check(new Query(new Criteria().orOperator(where(FIELD_CREATION_USER).is("user"),
+															   where(FIELD_MONTH).is("01")))).isEmpty());
+	}
+
+	@Test
+	void should_require_text_index_for_text_queries() {
+
+		assertTrue(check(new Query(TextCriteria.forDefaultLanguage().matching("mongo"))).isEmpty());
+	}
+
+	@Test
+	void should_map_property_names_to_field_names() {
+
+		assertTrue(check(new Query(where("id").is("id"))).isEmpty());
+		assertTrue(check(new Query(where("reference").is("ref-1"))).isEmpty());
+		assertTrue(check(new Query(new Criteria().orOperator(where("id").is("id"), where("reference").is("ref-1"))))
+					   .isEmpty());
+		assertTrue(check(new Query().with(Sort.by(Direction.DESC, "id"))).isEmpty());
+		assertTrue(INDEXES.contains(new Document("ref", 1)));
+	}
+
+	private static Optional<String> check(final Query query) {
+
+		return QueryPlanChecker.check(query.getQueryObject(), query.getSortObject(), INDEXES, IndexedEntityExample.class);
+	}
+
+}
@@ -0,0 +1,101 @@
+package io.mongockito.util.document;
+
+import static io.mongockito.common.TestConstants.DEFAULT_KEY_ID;
+import static io.mongockito.common.TestConstants.FIELD_MONTH;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.mongockito.util.document.model.DocumentDifference;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SnapshotStoreTest {
+
+	private static final Document DOCUMENT = new Document(DEFAULT_KEY_ID, "id-1")
+		.append(FIELD_MONTH, "01")
+		.append("counter", 5)
+		.append("tags", List.of("red", "blue"));
+
+	@TempDir
+	Path directory;
+
+	@Test
+	void should_write_missing_snapshot_when_updates_are_enabled_and_match_it_later() {
+
+		assertTrue(this.writeSnapshot("queries/find", DOCUMENT).isEmpty());
+		assertTrue(Files.exists(this.directory.resolve("queries/find.json")));
+		assertTrue(SnapshotStore.compare(this.directory, "queries/find", new Document(DOCUMENT)).isEmpty());
+	}
+
+	@Test
+	void should_fail_on_missing_snapshot_without_writing_it() {
+
+		assertThatThrownBy(() -> SnapshotStore.compare(this.directory, "queries/find", DOCUMENT))
+			.isInstanceOf(AssertionError.class)
+			.hasMessageContaining("Missing snapshot");
+		assertFalse(Files.exists(this.directory.resolve("queries/find.json")));
+	}
+
+	@Test
+	void should_report_first_differing_path() {
+
+		this.writeSnapshot("find", DOCUMENT);
+
+		final Optional<DocumentDifference> difference =
+			SnapshotStore.compare(this.directory, "find", new Document(DOCUMENT).append("tags", List.of("red", "green")));
+
+		assertTrue(difference.isPresent());
+		assertEquals("tags.1", difference.get().getPath());
+		assertEquals("blue", difference.get().getExpected());
+	}
+
+	@Test
+	void should_tell_apart_bson_types_but_not_formatting() throws IOException {
+
+		this.writeSnapshot("find", DOCUMENT);
+
+		assertTrue(SnapshotStore.compare(this.directory, "find", new Document(DOCUMENT).append("counter", 5L)).isPresent());
+
+		Files.writeString(this.directory.resolve("find.json"), DOCUMENT.toJson());
+		assertTrue(SnapshotStore.compare(this.directory, "find", DOCUMENT).isEmpty());
+	}
+
+	@Test
+	void should_rewrite_differing_snapshot_when_updates_are_enabled() throws IOException {
+
+		final Document changed = new Document(DOCUMENT).append("counter", 6);
+		this.writeSnapshot("find", DOCUMENT);
+
+		assertTrue(this.writeSnapshot("find", changed).isEmpty());
+
+		assertArrayEquals(SnapshotStore.render(changed), Files.readAllBytes(this.directory.resolve("find.json")));
+	}
+
+	@Test
+	void should_reject_names_escaping_the_directory() {
+
+		assertThatThrownBy(() -> SnapshotStore.compare(this.directory, "../find", DOCUMENT))
+			.isInstanceOf(AssertionError.class)
+			.hasMessageContaining("Invalid snapshot name");
+	}
+
+	private Optional<DocumentDifference> writeSnapshot(final String name, final Document document) {
+
+		System.setProperty(SnapshotStore.UPDATE_PROPERTY, "true");
+		try {
+			return SnapshotStore.compare(this.directory, name, document);
+		} finally {
+			System.clearProperty(SnapshotStore.UPDATE_PROPERTY);
+		}
+	}
+
+}
@@ -0,0 +1,132 @@
+package io.mongockito.util.document;
+
+import static io.mongockito.common.TestConstants.DEFAULT_KEY_ID;
+import static io.mongockito.common.TestConstants.FIELD_MONTH;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+import java.util.List;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+class UpdateApplierTest {
+
+	private static final Document BEFORE = new Document(DEFAULT_KEY_ID, "id-1")
+		.append(FIELD_MONTH, "01")
+		.append("counter", 5)
+		.append("stats", new Document("views", 10L).append("ratio", 0.5))
+		.append("tags", List.of("red", "blue"))
+		.append("lines", List.of(new Document("sku", "A").append("qty", 2), new Document("sku", "B").append("qty", 7)))
+		.append("audit", new Document("createdBy", "user"));
+
+	@Test
+	void should_increment_with_bson_widening() {
+
+		final Document after = apply(new Update()
+										 .inc("counter", 1)
+										 .inc("stats.views", 1)
+										 .inc("stats.ratio", 0.25)
+										 .inc("missing", 3));
+
+		assertEquals(6, after.get("counter"));
+		assertEquals(11L, after.get("stats", Document.class).get("views"));
+		assertEquals(0.75, after.get("stats", Document.class).get("ratio"));
+		assertEquals(3, after.get("missing"));
+		assertEquals(2_147_483_648L, UpdateApplier.apply(new Document("counter", Integer.MAX_VALUE),
+														 new Update().inc("counter", 1).getUpdateObject()).get("counter"));
+	}
+
+	@Test
+	void should_set_and_unset_nested_fields() {
+
+		final Document after = apply(new Update().set("stats.views", 0).set("address.city", "Madrid").unset(FIELD_MONTH));
+
+		assertEquals(new Document("views", 0).append("ratio", 0.5), after.get("stats"));
+		assertEquals(new Document("city", "Madrid"), after.get("address"));
+		assertEquals(false, after.containsKey(FIELD_MONTH));
+	}
+
+	@Test
+	void should_modify_arrays() {
+
+		assertEquals(List.of("red", "blue", "green"), apply(new Update().push("tags", "green")).get("tags"));
+		assertEquals(List.of("green", "red", "blue"),
+					 apply(new Update().push("tags").atPosition(0).each("green")).get("tags"));
+		assertEquals(List.of("blue", "green"),
+					 apply(new Update().push("tags").slice(-2).each("green")).get("tags"));
+		assertEquals(List.of("red", "blue", "green"),
+					 apply(new Update().addToSet("tags").each("red", "green")).get("tags"));
+		assertEquals(List.of("blue"), apply(new Update().pull("tags", "red")).get("tags"));
+		assertEquals(List.of(new Document("sku", "B").append("qty", 7)),
+					 apply(new Update().pull("lines", new Document("qty", new Document("$lt", 5)))).get("lines"));
+		assertEquals(List.of(new Document("sku", "B").append("qty", 7), new Document("sku", "A").append("qty", 2)),
+					 apply(new Update().push("lines").sort(Sort.by(Sort.Direction.DESC, "qty")).each()).get("lines"));
+	}
+
+	@Test
+	void should_resolve_positional_operators() {
+
+		final Query query = new Query(where("lines.sku").is("B"));
+		final Document after = UpdateApplier.apply(BEFORE,
+												   new Update().inc("lines.$.qty", 1).getUpdateObject(),
+												   query.getQueryObject());
+
+		assertEquals(List.of(new Document("sku", "A").append("qty", 2), new Document("sku", "B").append("qty", 8)),
+					 after.get("lines"));
+		assertEquals(List.of(new Document("sku", "A").append("qty", 3), new Document("sku", "B").append("qty", 8)),
+					 apply(new Update().inc("lines.$[].qty", 1)).get("lines"));
+		assertThatThrownBy(() -> apply(new Update().inc("lines.$.qty", 1)))
+			.isInstanceOf(AssertionError.class)
+			.hasMessageContaining("positional operator");
+	}
+
+	@Test
+	void should_update_elements_matching_array_filters() {
+
+		final Update update = new Update().inc("lines.$[line].qty", 10).filterArray(where("line.qty").gt(5));
+		final List<Document> arrayFilters = update.getArrayFilters().stream()
+			.map(arrayFilter -> arrayFilter.asDocument())
+			.toList();
+
+		assertEquals(List.of(new Document("sku", "A").append("qty", 2), new Document("sku", "B").append("qty", 17)),
+					 UpdateApplier.apply(BEFORE, update.getUpdateObject(), new Document(), arrayFilters).get("lines"));
+		assertThatThrownBy(() -> apply(update))
+			.isInstanceOf(AssertionError.class)
+			.hasMessageContaining("No array filter found for the identifier line");
+	}
+
+	@Test
+	void should_copy_on_write_only_the_updated_paths() {
+
+		final Document after = apply(new Update().inc("stats.views", 1));
+
+		assertSame(BEFORE.get("audit"), after.get("audit"));
+		assertSame(BEFORE.get("lines"), after.get("lines"));
+		assertEquals(10L, BEFORE.get("stats", Document.class).get("views"));
+	}
+
+	@Test
+	void should_fail_on_invalid_updates() {
+
+		assertThatThrownBy(() -> apply(new Update().inc(FIELD_MONTH, 1)))
+			.isInstanceOf(AssertionError.class)
+			.hasMessageContaining("non-numeric field month");
+		assertThatThrownBy(() -> apply(new Update().push(FIELD_MONTH, "x")))
+			.isInstanceOf(AssertionError.class)
+			.hasMessageContaining("non-array field month");
+		assertThatThrownBy(() -> apply(new Update().rename(FIELD_MONTH, "period")))
+			.isInstanceOf(AssertionError.class)
+			.hasMessageContaining("Unsupported update operator: $rename");
+	}
+
+	private static Document apply(final Update update) {
+
+		return UpdateApplier.apply(BEFORE, update.getUpdateObject());
+	}
+
+}
@@ -0,0 +1,267 @@
+package io.mongockito.util.json;
+
+import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.JsonSerializationContext;
+import com.google.gson.JsonSerializer;
+import io.mongockito.common.business.EntityExampleObjectMother;
+import io.mongockito.common.model.EntityExample;
+import io.mongockito.util.document.model.DocumentDifference;
+import io.mongockito.util.json.adapters.LocalDateTimeAdapter;
+import io.mongockito.util.json.model.Adapter;
+import io.mongockito.util.json.model.SerializationContext;
+import java.lang.reflect.Type;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+
+class JsonToolTest {
+
+	private static final Adapter LOCAL_DATE_TIME_ADAPTER = Adapter.builder()
+		.typeClass(LocalDateTime.class)
+		.typeAdapter(new LocalDateTimeAdapter())
+		.build();
+
+	@Test
+	void should_reuse_gson_instance_for_same_configuration() {
+
+		final Gson first = JsonTool.gsonBuilder();
+		final Gson second = JsonTool.gsonBuilder(SerializationContext.DEFAULT);
+
+		assertSame(first, second);
+	}
+
+	@Test
+	void should_create_new_gson_instance_when_null_policy_changes() {
+
+		final Gson withNulls = JsonTool.gsonBuilder();
+		final Gson withoutNulls = JsonTool.gsonBuilder(SerializationContext.builder().allowNulls(false).build());
+
+		assertNotSame(withNulls, withoutNulls);
+	}
+
+	@Test
+	void should_reuse_gson_instance_for_same_adapters() {
+
+		final Gson first = JsonTool.gsonBuilder(SerializationContext.builder().adapter(LOCAL_DATE_TIME_ADAPTER).build());
+		final Gson defaultGson = JsonTool.gsonBuilder();
+		final Gson second = JsonTool.gsonBuilder(SerializationContext.builder().adapter(LOCAL_DATE_TIME_ADAPTER).build());
+
+		assertSame(first, second);
+		assertNotSame(first, defaultGson);
+	}
+
+	@Test
+	void should_reuse_gson_instance_for_new_stateless_adapter_instances() {
+
+		final Gson first = JsonTool.gsonBuilder(contextWith(new LocalDateTimeAdapter()));
+		final Gson second = JsonTool.gsonBuilder(contextWith(new LocalDateTimeAdapter()));
+
+		assertSame(first, second);
+	}
+
+	@Test
+	void should_not_share_gson_between_stateful_adapter_instances() {
+
+		final Gson first = JsonTool.gsonBuilder(contextWith(new PatternAdapter("yyyy")));
+		final Gson second = JsonTool.gsonBuilder(contextWith(new PatternAdapter("MM")));
+
+		assertNotSame(first, second);
+		assertEquals("\"2024\"", first.toJson(LocalDateTime.of(2024, 5, 1, 0, 0)));
+		assertEquals("\"05\"", second.toJson(LocalDateTime.of(2024, 5, 1, 0, 0)));
+	}
+
+	@Test
+	void should_keep_caching_new_configurations_past_the_bound() {
+
+		final SerializationContext first = contextWith(new PatternAdapter("yyyy"));
+		final Gson firstGson = JsonTool.gsonBuilder(first);
+
+		for (int configuration = 0; configuration < 100; configuration++) {
+			JsonTool.gsonBuilder(contextWith(new PatternAdapter("MM")));
+		}
+
+		final SerializationContext latest = contextWith(new PatternAdapter("dd"));
+
+		assertSame(JsonTool.gsonBuilder(latest), JsonTool.gsonBuilder(latest));
+		assertNotSame(firstGson, JsonTool.gsonBuilder(first));
+	}
+
+	@Test
+	void should_apply_null_policy_of_each_context() {
+
+		final Map<String, Object> value = Collections.singletonMap("field", null);
+
+		final String withNulls = JsonTool.gsonBuilder().toJson(value);
+		final String withoutNulls = JsonTool.gsonBuilder(SerializationContext.builder().allowNulls(false).build()).toJson(value);
+
+		assertEquals("{\"field\":null}", withNulls);
+		assertEquals("{}", withoutNulls);
+	}
+
+	@Test
+	void should_convert_entity_to_same_document_as_json_round_trip() {
+
+		final EntityExample entityExample = EntityExampleObjectMother.createEntityExample();
+
+		final Document expected = Document.parse(JsonTool.gsonBuilder().toJson(entityExample));
+		final Document result = JsonTool.toDocument(entityExample, SerializationContext.DEFAULT);
+
+		assertEquals(expected, result);
+	}
+
+	@Test
+	void should_convert_entity_to_same_document_as_json_round_trip_without_nulls() {
+
+		final SerializationContext serializationContext = SerializationContext.builder().allowNulls(false).build();
+		final EntityExample entityExample = EntityExampleObjectMother.createSimpleEntityExample();
+
+		final Document expected = Document.parse(JsonTool.gsonBuilder(serializationContext).toJson(entityExample));
+		final Document result = JsonTool.toDocument(entityExample, serializationContext);
+
+		assertEquals(expected, result);
+	}
+
+	@Test
+	void should_convert_numbers_as_json_parser_does() {
+
+		final Map<String, Object> value = Map.of("int", 1L, "long", Long.MAX_VALUE, "double", 1.5d, "float", 2.0f);
+
+		final Document expected = Document.parse(JsonTool.gsonBuilder().toJson(value));
+		final Document result = JsonTool.toDocument(value, SerializationContext.DEFAULT);
+
+		assertEquals(expected, result);
+	}
+
+	@Test
+	void should_convert_non_document_values() {
+
+		assertEquals(List.of("a", "b"), JsonTool.toBsonValue(List.of("a", "b"), SerializationContext.DEFAULT));
+		assertEquals("a", JsonTool.toBsonValue("a", SerializationContext.DEFAULT));
+		assertNull(JsonTool.toBsonValue(null, SerializationContext.DEFAULT));
+	}
+
+	@Test
+	void should_fail_converting_non_document_value_to_document() {
+
+		assertThatThrownBy(() -> JsonTool.toDocument("a", SerializationContext.DEFAULT))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void should_find_no_difference_between_entity_and_its_document() {
+
+		final EntityExample entityExample = EntityExampleObjectMother.createEntityExample();
+		final Document document = JsonTool.toDocument(entityExample, SerializationContext.DEFAULT);
+
+		assertTrue(JsonTool.findDifference("", document, entityExample, SerializationContext.DEFAULT).isEmpty());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void should_find_first_difference_between_entity_and_document() {
+
+		final EntityExample entityExample = EntityExampleObjectMother.createEntityExample();
+		final Document document = JsonTool.toDocument(entityExample, SerializationContext.DEFAULT);
+		((List<Document>) document.get("entityExampleList")).get(1).put("month", "12");
+
+		final DocumentDifference difference =
+			JsonTool.findDifference("", document, entityExample, SerializationContext.DEFAULT).orElseThrow();
+
+		assertEquals("entityExampleList.1.month", difference.getPath());
+		assertEquals("12", difference.getCurrent());
+	}
+
+	@Test
+	void should_find_difference_on_missing_list_elements() {
+
+		final Document document = new Document("list", List.of("a"));
+
+		final DocumentDifference difference =
+			JsonTool.findDifference("", document, Map.of("list", List.of("a", "b")), SerializationContext.DEFAULT).orElseThrow();
+
+		assertEquals("list.1", difference.getPath());
+		assertEquals("b", difference.getExpected());
+	}
+
+	@Test
+	void should_read_extended_json_written_by_adapters_as_bson_types() {
+
+		final ObjectId id = new ObjectId();
+		final SerializationContext serializationContext = extendedJsonContext();
+		final Map<String, Object> value = Map.of("id", id, "ids", List.of(id), "count", 5L);
+
+		final Document expected = Document.parse(JsonTool.gsonBuilder(serializationContext).toJson(value));
+		final Document result = JsonTool.toDocument(value, serializationContext);
+
+		assertEquals(expected, result);
+		assertEquals(id, result.get("id"));
+		assertEquals(List.of(id), result.get("ids"));
+	}
+
+	@Test
+	void should_compare_extended_json_written_by_adapters_as_bson_types() {
+
+		final ObjectId id = new ObjectId();
+		final SerializationContext serializationContext = extendedJsonContext();
+
+		assertTrue(JsonTool.findDifference("", new Document("id", id), Map.of("id", id), serializationContext).isEmpty());
+
+		final DocumentDifference difference = JsonTool.findDifference("", new Document("id", new ObjectId()),
+																	  Map.of("id", id), serializationContext).orElseThrow();
+
+		assertEquals("id", difference.getPath());
+		assertEquals(id, difference.getExpected());
+	}
+
+	private static SerializationContext extendedJsonContext() {
+
+		final JsonSerializer<ObjectId> objectIdAdapter = (value, type, context) -> {
+			final JsonObject json = new JsonObject();
+			json.addProperty("$oid", value.toHexString());
+			return json;
+		};
+
+		return SerializationContext.builder()
+			.adapter(Adapter.builder().typeClass(ObjectId.class).typeAdapter(objectIdAdapter).build())
+			.build();
+	}
+
+	private static SerializationContext contextWith(final Object typeAdapter) {
+
+		return SerializationContext.builder()
+			.adapter(Adapter.builder().typeClass(LocalDateTime.class).typeAdapter(typeAdapter).build())
+			.build();
+	}
+
+	private static final class PatternAdapter implements JsonSerializer<LocalDateTime> {
+
+		private final DateTimeFormatter formatter;
+
+		PatternAdapter(final String pattern) {
+
+			this.formatter = DateTimeFormatter.ofPattern(pattern);
+		}
+
+		@Override
+		public JsonElement serialize(final LocalDateTime value, final Type type, final JsonSerializationContext context) {
+
+			return new JsonPrimitive(this.formatter.format(value));
+		}
+	}
+
+}